@@ -0,0 +1,132 @@
+package duke.logic;
+
+import duke.exception.DukeException;
+import duke.logic.command.AddExpenseCommand;
+import duke.logic.command.AddIncomeCommand;
+import duke.logic.command.BudgetCommand;
+import duke.logic.command.Command;
+import duke.logic.command.ConfirmTentativeCommand;
+import duke.logic.command.DeleteExpenseCommand;
+import duke.logic.command.DeleteIncomeCommand;
+import duke.logic.command.ExitCommand;
+import duke.logic.command.FilterExpenseCommand;
+import duke.logic.command.GoToCommand;
+import duke.logic.command.PlanBotCommand;
+import duke.logic.command.RedoCommand;
+import duke.logic.command.SortExpenseCommand;
+import duke.logic.command.UndoCommand;
+import duke.logic.command.ViewBudgetCommand;
+import duke.logic.command.ViewExpenseCommand;
+import duke.logic.command.payment.AddPaymentCommand;
+import duke.logic.command.payment.ChangePaymentCommand;
+import duke.logic.command.payment.DeletePaymentCommand;
+import duke.logic.command.payment.DonePaymentCommand;
+import duke.logic.command.payment.FilterPaymentCommand;
+import duke.logic.command.payment.SearchPaymentCommand;
+import duke.logic.command.payment.SortPaymentCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compares resolving command and parameter names through {@code CommandIndex} with the stream scans
+ * over freshly built commands that {@code CommandParams} used before.
+ * Run with {@code gradlew jmh}, adding {@code -prof gc} to the arguments to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandParamsBenchmark {
+    private static final Supplier<Stream<Command>> COMMANDS = () -> Stream.of(
+            new AddExpenseCommand(),
+            new DeleteExpenseCommand(),
+            new ConfirmTentativeCommand(),
+            new ExitCommand(),
+            new FilterExpenseCommand(),
+            new SortExpenseCommand(),
+            new ViewExpenseCommand(),
+            new GoToCommand(),
+            new PlanBotCommand(),
+            new BudgetCommand(),
+            new AddPaymentCommand(),
+            new ChangePaymentCommand(),
+            new DeletePaymentCommand(),
+            new FilterPaymentCommand(),
+            new SearchPaymentCommand(),
+            new SortPaymentCommand(),
+            new AddIncomeCommand(),
+            new DeleteIncomeCommand(),
+            new ViewBudgetCommand(),
+            new DonePaymentCommand(),
+            new UndoCommand(),
+            new RedoCommand()
+    );
+
+    @Param({"addE", "viewPayment", "re"})
+    public String commandName;
+
+    @Param({"desc"})
+    public String paramName;
+
+    /**
+     * Resolves a command name and one of its parameters through the prebuilt index.
+     *
+     * @return the full parameter name.
+     */
+    @Benchmark
+    public String resolveWithIndex() {
+        CommandIndex commandIndex = CommandIndex.getInstance();
+        Command command = commandIndex.findCommand(commandName, 0, commandName.length());
+        if (command == null) {
+            return null;
+        }
+        return commandIndex.findSecondaryParam(command, paramName, 0, paramName.length());
+    }
+
+    /**
+     * Resolves a command name and one of its parameters the way {@code CommandParams} used to.
+     *
+     * @return the full parameter name.
+     */
+    @Benchmark
+    public String resolveWithStreams() {
+        List<Command> validCommands = COMMANDS.get()
+                .filter(c -> c.getName().split(" ").length == 1)
+                .filter(c -> (c.getName().split(" ")[0].startsWith(commandName)))
+                .collect(Collectors.toList());
+        if (validCommands.size() != 1) {
+            return null;
+        }
+        List<String> possibleParamNames = validCommands.get(0).getSecondaryParams().keySet().stream()
+                .filter(k -> k.startsWith(paramName))
+                .collect(Collectors.toList());
+        return possibleParamNames.size() == 1 ? possibleParamNames.get(0) : null;
+    }
+
+    /**
+     * Parses a whole user input.
+     *
+     * @return the parsed input.
+     * @throws DukeException if the input is invalid.
+     */
+    @Benchmark
+    public CommandParams parseInput() throws DukeException {
+        return new CommandParams("addExpense 12.50 /description lunch /tag FOOD /time 12:00 09/11/2019");
+    }
+}
@@ -0,0 +1,132 @@
+package duke.model;
+
+import duke.exception.DukeException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares adding up the amounts of a large expense list as {@code BigDecimal}s, the way
+ * {@code ExpenseAggregate} used to, with adding them up as cents.
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class MoneyAggregationBenchmark {
+    private static final String[] TAGS = {"FOOD", "TRANSPORT", "SHOPPING", "BILLS", "ENTERTAINMENT", ""};
+
+    @Param({"1000000"})
+    public int size;
+
+    private List<Expense> expenses;
+    private List<BigDecimal> amounts;
+
+    /**
+     * Builds the expenses, and keeps their amounts as {@code BigDecimal}s as expenses used to.
+     *
+     * @throws DukeException if an expense could not be built.
+     */
+    @Setup(Level.Trial)
+    public void buildExpenses() throws DukeException {
+        expenses = new ArrayList<>(size);
+        amounts = new ArrayList<>(size);
+        LocalDateTime start = LocalDateTime.of(2019, 1, 1, 0, 0);
+        for (int i = 0; i < size; i++) {
+            Expense expense = new Expense.Builder()
+                    .setAmount(Money.ofCents(i % 100000))
+                    .setDescription("expense number " + i)
+                    .setTag(TAGS[i % TAGS.length])
+                    .setTime(start.plusMinutes(i))
+                    .setTentative(i % 7 == 0)
+                    .build();
+            expenses.add(expense);
+            amounts.add(expense.getAmount());
+        }
+    }
+
+    /**
+     * Adds up the totals per tag as {@code BigDecimal}s.
+     *
+     * @return the totals per tag.
+     */
+    @Benchmark
+    public Map<String, BigDecimal> aggregateBigDecimal() {
+        Map<String, BigDecimal> tagTotals = new HashMap<>();
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal tentativeTotal = BigDecimal.ZERO;
+        for (int i = 0; i < size; i++) {
+            Expense expense = expenses.get(i);
+            BigDecimal amount = amounts.get(i);
+            if (expense.isTentative()) {
+                tentativeTotal = tentativeTotal.add(amount);
+            } else {
+                total = total.add(amount);
+                tagTotals.merge(expense.getTag(), amount, BigDecimal::add);
+            }
+        }
+        tagTotals.put("total", total);
+        tagTotals.put("tentative", tentativeTotal);
+        return tagTotals;
+    }
+
+    /**
+     * Adds up the totals per tag as cents through {@code ExpenseAggregate}.
+     *
+     * @return the aggregate.
+     */
+    @Benchmark
+    public ExpenseAggregate aggregateMoney() {
+        ExpenseAggregate aggregate = new ExpenseAggregate();
+        aggregate.reset(expenses);
+        return aggregate;
+    }
+
+    /**
+     * Adds up every amount as {@code BigDecimal}s.
+     *
+     * @return the total.
+     */
+    @Benchmark
+    public BigDecimal sumBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : amounts) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    /**
+     * Adds up every amount as cents.
+     *
+     * @return the total in cents.
+     */
+    @Benchmark
+    public long sumMoney() {
+        long total = 0;
+        for (Expense expense : expenses) {
+            total = Math.addExact(total, expense.getMoney().getCents());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,141 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Expense;
+import duke.model.ExpenseList;
+import duke.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares loading a large expense list from the binary snapshot with loading it from the text snapshot
+ * used before, both the way it used to be read and through {@code StorageRecordReader}.
+ * Each invocation reads the whole file and builds every expense.
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class ExpenseColumnFileBenchmark {
+    private static final String[] TAGS = {"FOOD", "TRANSPORT", "SHOPPING", "BILLS", "ENTERTAINMENT", ""};
+
+    @Param({"1000000"})
+    public int size;
+
+    private Path directory;
+    private Path binaryFile;
+    private Path textFile;
+
+    /**
+     * Writes the same expenses to a binary and a text snapshot.
+     *
+     * @throws DukeException if an expense could not be built.
+     * @throws IOException   if a snapshot could not be written.
+     */
+    @Setup(Level.Trial)
+    public void writeSnapshots() throws DukeException, IOException {
+        List<Expense> expenses = new ArrayList<>(size);
+        LocalDateTime start = LocalDateTime.of(2019, 1, 1, 0, 0);
+        for (int i = 0; i < size; i++) {
+            expenses.add(new Expense.Builder()
+                    .setAmount(Money.ofCents(i % 100000))
+                    .setDescription("expense number " + i)
+                    .setTag(TAGS[i % TAGS.length])
+                    .setTime(start.plusMinutes(i))
+                    .setTentative(i % 7 == 0)
+                    .build());
+        }
+        directory = Files.createTempDirectory("expense-benchmark");
+        binaryFile = directory.resolve("expenses.bin");
+        textFile = directory.resolve("expenses.txt");
+        ExpenseColumnFile.write(binaryFile, expenses);
+        try (Writer writer = Files.newBufferedWriter(textFile, StandardCharsets.UTF_8)) {
+            for (Expense expense : expenses) {
+                writer.write(expense.toStorageString());
+                writer.write("\n\n");
+            }
+        }
+    }
+
+    /**
+     * Deletes the snapshots.
+     *
+     * @throws IOException if a snapshot could not be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void deleteSnapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public List<Expense> loadBinary() throws IOException {
+        return ExpenseColumnFile.read(binaryFile);
+    }
+
+    /**
+     * Loads the text snapshot the way {@code ExpenseListStorageManager} used to.
+     *
+     * @return the loaded expenses.
+     * @throws DukeException if an expense could not be parsed.
+     * @throws IOException   if the snapshot could not be read.
+     */
+    @Benchmark
+    public List<Expense> loadText() throws DukeException, IOException {
+        List<Expense> expenses = new ArrayList<>();
+        try (Scanner fileReader = new Scanner(textFile, StandardCharsets.UTF_8).useDelimiter("\n\n")) {
+            while (fileReader.hasNext()) {
+                expenses.add(ExpenseList.itemFromStorageString(fileReader.next()));
+            }
+        }
+        return expenses;
+    }
+
+    /**
+     * Loads the text snapshot through {@code StorageRecordReader}, as a migration does.
+     *
+     * @return the loaded expenses.
+     * @throws DukeException if an expense could not be parsed.
+     * @throws IOException   if the snapshot could not be read.
+     */
+    @Benchmark
+    public List<Expense> loadTextWithRecordReader() throws DukeException, IOException {
+        List<Expense> expenses = new ArrayList<>();
+        try (StorageRecordReader reader = StorageRecordReader.open(textFile, StandardCharsets.UTF_8)) {
+            while (reader.nextRecord()) {
+                expenses.add(reader.readExpense());
+            }
+        }
+        return expenses;
+    }
+}
@@ -1,9 +1,45 @@
 package duke;
 
+import duke.exception.DukeException;
+import duke.logic.Logic;
+import duke.logic.LogicManager;
+import duke.storage.Storage;
 import javafx.application.Application;
 
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+
 public class Launcher {
+    private static final String BATCH_OPTION = "--batch";
+
+    /**
+     * Starts Duke++, or runs the commands in a file without a window if started with {@code --batch file}.
+     *
+     * @param args the command line arguments.
+     */
     public static void main(String[] args) {
+        if (args.length == 2 && args[0].equals(BATCH_OPTION)) {
+            System.exit(runBatch(args[1]));
+        }
         Application.launch(Main.class, args);
     }
+
+    /**
+     * Runs the commands in a file as one batch and prints the result.
+     *
+     * @param path the path of the file holding one command per line.
+     * @return the exit status, which is 0 if every command succeeded.
+     */
+    private static int runBatch(String path) {
+        try {
+            Storage storage = Main.createStorage();
+            Logic logic = new LogicManager(Main.loadModel(storage), storage);
+            System.out.println(logic.executeBatch(Paths.get(path)).getConsoleInfo());
+            return 0;
+        } catch (DukeException | IOException | InvalidPathException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        }
+    }
 }
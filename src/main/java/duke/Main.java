@@ -1,9 +1,12 @@
 package duke;
 
 import duke.commons.LogsCenter;
+import duke.commons.StartupTimer;
 import duke.exception.DukeException;
 import duke.logic.Logic;
 import duke.logic.LogicManager;
+import duke.model.Budget;
+import duke.model.BudgetView;
 import duke.model.Income;
 import duke.model.IncomeList;
 import duke.model.Expense;
@@ -12,6 +15,7 @@ import duke.model.DukePP;
 import duke.model.Model;
 import duke.model.payment.Payment;
 import duke.model.payment.PaymentList;
+import duke.storage.AsyncStorage;
 import duke.storage.BudgetStorage;
 import duke.storage.BudgetViewStorage;
 import duke.storage.ExpenseListStorage;
@@ -27,10 +31,17 @@ import duke.storage.payment.PaymentListStorageManager;
 import duke.ui.Ui;
 import duke.ui.UiManager;
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 /**
@@ -40,60 +51,122 @@ public class Main extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(Main.class);
 
+    private static final int LOADER_THREADS = 3;
+
+    private final StartupTimer startupTimer = new StartupTimer();
+
     private Ui ui;
     private Logic logic;
     private Model model;
     private Storage storage;
+    private AsyncStorage asyncStorage;
+
+    /**
+     * The data of Duke++ as loaded from the storage, from which the model is made.
+     */
+    static class StoredData {
+        private ExpenseList expenseList;
+        private Map<String, String> planAttributes;
+        private IncomeList incomeList;
+        private Budget budget;
+        private BudgetView budgetView;
+        private Optional<PaymentList> paymentList;
+
+        /**
+         * Loads every kind of data once, each kind on its own thread of a small executor.
+         *
+         * @param storage the storage to load from.
+         * @return the loaded data.
+         * @throws IOException   if the data could not be read.
+         * @throws DukeException if the data could not be parsed.
+         */
+        static StoredData load(Storage storage) throws IOException, DukeException {
+            ExecutorService loader = Executors.newFixedThreadPool(LOADER_THREADS, runnable -> {
+                Thread thread = new Thread(runnable, "storage-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                final Future<ExpenseList> expenseList = loader.submit(storage::loadExpenseList);
+                final Future<Map<String, String>> planAttributes = loader.submit(storage::loadPlanAttributes);
+                final Future<IncomeList> incomeList = loader.submit(storage::loadIncomeList);
+                final Future<Budget> budget = loader.submit(storage::loadBudget);
+                final Future<BudgetView> budgetView = loader.submit(storage::loadBudgetView);
+                final Future<Optional<PaymentList>> paymentList = loader.submit(storage::loadPaymentList);
+
+                StoredData data = new StoredData();
+                data.expenseList = await(expenseList);
+                data.planAttributes = await(planAttributes);
+                data.incomeList = await(incomeList);
+                data.budget = await(budget);
+                data.budgetView = await(budgetView);
+                data.paymentList = await(paymentList);
+                return data;
+            } finally {
+                loader.shutdownNow();
+            }
+        }
+
+        private static <T> T await(Future<T> future) throws IOException, DukeException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while loading the data", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof DukeException) {
+                    throw (DukeException) e.getCause();
+                } else if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                } else if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                } else {
+                    throw new IOException(e.getCause());
+                }
+            }
+        }
+
+        /**
+         * Makes the model out of the loaded data.
+         *
+         * @return the model.
+         * @throws DukeException if the data do not make a valid model.
+         */
+        Model toModel() throws DukeException {
+            return new DukePP(expenseList, planAttributes, incomeList, budget, budgetView, paymentList);
+        }
+    }
 
     @Override
     public void init() throws Exception {
         super.init();
 
-        ExpenseListStorage expenseListStorage = new ExpenseListStorageManager();
-        PlanAttributesStorage planAttributesStorage = new PlanAttributesStorageManager();
-        IncomeListStorage incomeListStorage = new IncomeListStorageManager();
-        BudgetStorage budgetStorage = new BudgetStorage();
-        BudgetViewStorage budgetViewStorage = new BudgetViewStorage();
-        PaymentListStorage paymentListStorage = new PaymentListStorageManager();
-
-        storage = new StorageManager(expenseListStorage,
-                planAttributesStorage,
-                incomeListStorage,
-                budgetStorage,
-                budgetViewStorage,
-                paymentListStorage);
-
-        logger.info("Initialized the storage");
+        storage = createStorage();
+        StoredData data = StoredData.load(storage);
 
         //Demo Code, loads demo data on first boot
-        if (storage.loadExpenseList().internalSize() == 0 || storage.loadExpenseList() == null) {
-            loadListDemoData(storage);
+        if (data.expenseList.isEmpty()) {
+            loadListDemoData(storage, data);
         }
-        if (storage.loadPaymentList().isEmpty()) {
+        if (data.paymentList.isEmpty()) {
             logger.warning("PaymentList is not loaded");
         }
-        if (storage.loadExpenseList() == null) {
-            logger.warning("expenseList is not loaded");
-        }
-        if (storage.loadIncomeList() == null) {
-            logger.warning("incomeList is not loaded");
-        }
-        if (storage.loadBudget() == null) {
+        if (data.budget == null) {
             logger.warning("budgetList is not loaded");
         }
 
-        model = new DukePP(storage.loadExpenseList(),
-                storage.loadPlanAttributes(),
-                storage.loadIncomeList(),
-                storage.loadBudget(),
-                storage.loadBudgetView(),
-                storage.loadPaymentList());
+        logger.info("Initialized the storage");
+        startupTimer.endPhase("storage");
+
+        model = data.toModel();
 
         logger.info("Initialized the model");
 
-        logic = new LogicManager(model, storage);
+        asyncStorage = new AsyncStorage(storage, model);
+        logic = new LogicManager(model, asyncStorage);
 
         logger.info("Initialized the logic");
+        startupTimer.endPhase("model");
 
         ui = new UiManager(logic);
         logger.info("Initialized the app");
@@ -110,13 +183,82 @@ public class Main extends Application {
     public void start(Stage primaryStage) {
         primaryStage.setResizable(false);
         ui.start(primaryStage);
+        startupTimer.endPhase("UI");
+        model.getPaymentList().getDueScheduler().start(dayChange -> Platform.runLater(() -> {
+            synchronized (model) {
+                dayChange.run();
+            }
+        }));
+
+        Scene scene = primaryStage.getScene();
+        if (scene == null) {
+            logger.info(startupTimer.getReport());
+            return;
+        }
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                startupTimer.endPhase("first frame");
+                logger.info(startupTimer.getReport());
+            }
+        });
+    }
+
+    /**
+     * Writes out everything not saved yet before Duke++ exits.
+     */
+    @Override
+    public void stop() throws Exception {
+        model.getPaymentList().getDueScheduler().close();
+        try {
+            asyncStorage.close();
+        } catch (DukeException e) {
+            logger.severe("Data could not be saved on exit: " + e.getMessage());
+        }
+        super.stop();
     }
 
     public static void main(String[] args) {
         launch(args);
     }
 
-    private final Storage loadListDemoData(Storage storage) {
+    /**
+     * Creates the storage of Duke++, which keeps its data in the default files.
+     *
+     * @return the storage.
+     * @throws IOException if a data file could not be created.
+     * @throws DukeException if a data file could not be opened.
+     */
+    static Storage createStorage() throws IOException, DukeException {
+        ExpenseListStorage expenseListStorage = new ExpenseListStorageManager();
+        PlanAttributesStorage planAttributesStorage = new PlanAttributesStorageManager();
+        IncomeListStorage incomeListStorage = new IncomeListStorageManager();
+        BudgetStorage budgetStorage = new BudgetStorage();
+        BudgetViewStorage budgetViewStorage = new BudgetViewStorage();
+        PaymentListStorage paymentListStorage = new PaymentListStorageManager();
+
+        return new StorageManager(expenseListStorage,
+                planAttributesStorage,
+                incomeListStorage,
+                budgetStorage,
+                budgetViewStorage,
+                paymentListStorage);
+    }
+
+    /**
+     * Loads the model of Duke++ from the storage.
+     *
+     * @param storage the storage to load from.
+     * @return the model.
+     * @throws IOException if the data could not be read.
+     * @throws DukeException if the data could not be parsed.
+     */
+    static Model loadModel(Storage storage) throws IOException, DukeException {
+        return StoredData.load(storage).toModel();
+    }
+
+    private final Storage loadListDemoData(Storage storage, StoredData data) {
         Expense.Builder expenseBuilder = new Expense.Builder();
         Income.Builder incomeBuilder = new Income.Builder();
         Payment.Builder paymentBuilder = new Payment.Builder();
@@ -126,7 +268,7 @@ public class Main extends Application {
             expenseBuilder.setDescription("Chicken Rice");
             expenseBuilder.setTag("FOOD");
             expenseBuilder.setTime("18:00 09/11/2019");
-            ExpenseList expenseList = storage.loadExpenseList();
+            ExpenseList expenseList = data.expenseList;
             expenseList.add(expenseBuilder.build());
 
             expenseBuilder.setAmount("5.50");
@@ -163,7 +305,7 @@ public class Main extends Application {
             // loading income demo data
             incomeBuilder.setAmount("400");
             incomeBuilder.setDescription("Pocket Money");
-            IncomeList incomeList = storage.loadIncomeList();
+            IncomeList incomeList = data.incomeList;
             incomeList.add(incomeBuilder.build());
 
             incomeBuilder.setAmount("250.70");
@@ -172,7 +314,7 @@ public class Main extends Application {
             storage.saveIncomeList(incomeList);
 
             // loading plan bot demo data
-            Map<String, String> planAttributes = storage.loadPlanAttributes();
+            Map<String, String> planAttributes = data.planAttributes;
             planAttributes.put("NUS_STUDENT", "TRUE");
             planAttributes.put("ONLINE_SHOPPING", "100");
             planAttributes.put("MUSIC_SUBSCRIPTION", "TRUE");
@@ -183,7 +325,8 @@ public class Main extends Application {
             // loading payment demo data
 
             @SuppressWarnings("checkstyle:VariableDeclarationUsageDistance")
-            PaymentList paymentList = storage.loadPaymentList().get();
+            PaymentList paymentList = data.paymentList.orElseGet(PaymentList::new);
+            data.paymentList = Optional.of(paymentList);
             paymentBuilder.setDescription("Raffles Hall Orientation Fee");
             paymentBuilder.setAmount("60").setTag("school life").setDue("05/01/2020");
             paymentBuilder.setPriority("Low").setReceiver("Raffles Hall");
@@ -17,6 +17,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -110,6 +112,24 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Returns a reader of JSON values of the given type, configured like the rest of this class.
+     * Readers are immutable and thread-safe, so callers should create one once and keep it.
+     * @param type The class of the values to read
+     */
+    public static ObjectReader readerFor(Class<?> type) {
+        return objectMapper.readerFor(type);
+    }
+
+    /**
+     * Returns a writer of JSON values of the given type, configured like the rest of this class.
+     * Writers are immutable and thread-safe, so callers should create one once and keep it.
+     * @param type The class of the values to write
+     */
+    public static ObjectWriter writerFor(Class<?> type) {
+        return objectMapper.writerFor(type);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,40 @@
+package duke.commons;
+
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long each phase of starting Duke++ takes, so that slow starts can be traced in the log.
+ * Every phase lasts from the end of the previous phase, or from the construction of the timer,
+ * to the call that ends it.
+ */
+public class StartupTimer {
+    private final long startNanos;
+    private final StringJoiner phases = new StringJoiner(", ");
+    private long lastNanos;
+
+    public StartupTimer() {
+        startNanos = System.nanoTime();
+        lastNanos = startNanos;
+    }
+
+    /**
+     * Ends the current phase and starts the next one.
+     *
+     * @param phase the name of the phase that ended.
+     */
+    public synchronized void endPhase(String phase) {
+        long nanos = System.nanoTime();
+        phases.add(phase + " " + TimeUnit.NANOSECONDS.toMillis(nanos - lastNanos) + " ms");
+        lastNanos = nanos;
+    }
+
+    /**
+     * Returns how long every phase ended so far took, and how long they took together.
+     *
+     * @return the report of the phases.
+     */
+    public synchronized String getReport() {
+        return "Started in " + TimeUnit.NANOSECONDS.toMillis(lastNanos - startNanos) + " ms (" + phases + ")";
+    }
+}
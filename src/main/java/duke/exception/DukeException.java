@@ -10,6 +10,7 @@ public class DukeException extends Exception {
         + "Close other programs that may be accessing it.";
     public static final String MESSAGE_NO_ITEM_AT_INDEX = "There is no %s numbered %d!";
     public static final String MESSAGE_PARSER_TIME_INVALID = "%s is not a valid time!";
+    public static final String MESSAGE_PARSER_DATE_INVALID = "%s is not a valid date!";
     public static final String MESSAGE_EXPENSE_AMOUNT_INVALID = "%s is not a valid amount!";
     public static final String MESSAGE_EXPENSE_TIME_INVALID = "%s is not a valid time!";
     public static final String MESSAGE_COMMAND_PARAM_UNKNOWN = "%s is not a valid parameter for this command!";
@@ -21,6 +22,8 @@ public class DukeException extends Exception {
     public static final String MESSAGE_BUDGET_AMOUNT_INVALID = "%s is not a valid amount!";
     public static final String MESSAGE_BUDGET_VIEW_INVALID = "%s is not a valid pane! Choose a pane between 1 to 6!";
     public static final String MESSAGE_SORT_CRITERIA_INVALID = "%s is not a valid sort criteria!";
+    public static final String MESSAGE_EXPENSE_RECURRENCE_INVALID = "%s is not a valid recurrence! "
+            + "Try \"month\", \"2 weeks\" or \"year until 31/12/2020\"!";
     public static final String MESSAGE_EXPENSE_VIEW_NAME_INVALID = "%s is not a valid view scope name!";
     public static final String MESSAGE_EXPENSE_VIEW_NUMBER_INVALID = "%s is not a valid view scope number!";
     public static final String MESSAGE_PANE_NAME_INVALID = "%s is not an available pane! "
@@ -35,6 +38,11 @@ public class DukeException extends Exception {
     public static final String MESSAGE_PAYMENT_SAVE_FAILED = "Errors occur in payment storage";
     public static final String MESSAGE_NUMBER_FORMAT_INVALID = "%s is not a valid index!";
     public static final String MESSAGE_PAYMENT_SCOPE_INVALID = "%s is not a valid time scope";
+    public static final String MESSAGE_UNDO_EMPTY = "There is nothing to undo!";
+    public static final String MESSAGE_REDO_EMPTY = "There is nothing to redo!";
+    public static final String MESSAGE_BATCH_FILE_UNREADABLE = "The file at %s could not be read!";
+    public static final String MESSAGE_BATCH_COMMAND_FAILED = "Line %d failed, so nothing in the batch was done: %s";
+    public static final String MESSAGE_BATCH_COMMAND_NOT_ALLOWED = "%s cannot be run in a batch!";
     public static final String MESSAGE_PLANBOT_INVALID_REPLY = "Please enter a valid reply!";
 
     public DukeException(String message) {
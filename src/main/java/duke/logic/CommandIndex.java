@@ -0,0 +1,137 @@
+package duke.logic;
+
+import duke.logic.command.AddExpenseCommand;
+import duke.logic.command.AddIncomeCommand;
+import duke.logic.command.BudgetCommand;
+import duke.logic.command.Command;
+import duke.logic.command.ConfirmTentativeCommand;
+import duke.logic.command.DeleteExpenseCommand;
+import duke.logic.command.DeleteIncomeCommand;
+import duke.logic.command.ExitCommand;
+import duke.logic.command.FilterExpenseCommand;
+import duke.logic.command.GoToCommand;
+import duke.logic.command.PlanBotCommand;
+import duke.logic.command.RedoCommand;
+import duke.logic.command.RunCommand;
+import duke.logic.command.SearchExpenseCommand;
+import duke.logic.command.SortExpenseCommand;
+import duke.logic.command.UndoCommand;
+import duke.logic.command.ViewBudgetCommand;
+import duke.logic.command.ViewExpenseCommand;
+import duke.logic.command.payment.AddPaymentCommand;
+import duke.logic.command.payment.ChangePaymentCommand;
+import duke.logic.command.payment.DeletePaymentCommand;
+import duke.logic.command.payment.DonePaymentCommand;
+import duke.logic.command.payment.FilterPaymentCommand;
+import duke.logic.command.payment.SearchPaymentCommand;
+import duke.logic.command.payment.SortPaymentCommand;
+import duke.logic.util.PrefixTrie;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the names of commands and of their secondary parameters, which the user may abbreviate.
+ * The index is built once and shared by the parser and the auto-completer.
+ * Commands hold no state of their own, so the same instances serve every input.
+ */
+public class CommandIndex {
+    private static final CommandIndex instance = new CommandIndex(
+            new AddExpenseCommand(),
+            new DeleteExpenseCommand(),
+            new ConfirmTentativeCommand(),
+            new ExitCommand(),
+            new FilterExpenseCommand(),
+            new SearchExpenseCommand(),
+            new SortExpenseCommand(),
+            new ViewExpenseCommand(),
+            new GoToCommand(),
+            new PlanBotCommand(),
+            new AddPaymentCommand(),
+            new ChangePaymentCommand(),
+            new DeletePaymentCommand(),
+            new FilterPaymentCommand(),
+            new SearchPaymentCommand(),
+            new SortPaymentCommand(),
+            new DonePaymentCommand(),
+            new BudgetCommand(),
+            new ViewBudgetCommand(),
+            new AddIncomeCommand(),
+            new DeleteIncomeCommand(),
+            new UndoCommand(),
+            new RedoCommand(),
+            new RunCommand()
+    );
+
+    private final PrefixTrie<Command> commands;
+    private final Map<String, PrefixTrie<String>> secondaryParams = new HashMap<>();
+
+    private CommandIndex(Command... commands) {
+        Map<String, Command> commandsByName = new LinkedHashMap<>();
+        for (Command command : commands) {
+            commandsByName.put(command.getName(), command);
+            Map<String, String> paramNames = new LinkedHashMap<>();
+            for (String paramName : command.getSecondaryParams().keySet()) {
+                paramNames.put(paramName, paramName);
+            }
+            secondaryParams.put(command.getName(), new PrefixTrie<>(paramNames));
+        }
+        this.commands = new PrefixTrie<>(commandsByName);
+    }
+
+    public static CommandIndex getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the only command whose name starts with the given characters of {@code input}.
+     *
+     * @param input the input holding the abbreviated command name.
+     * @param start the index of the first character of the name.
+     * @param end   the index after the last character of the name.
+     * @return the command, or null if the name is unknown or ambiguous.
+     */
+    public Command findCommand(CharSequence input, int start, int end) {
+        return commands.findUnique(input, start, end);
+    }
+
+    /**
+     * Returns the only secondary parameter of a command whose name starts with the given characters of
+     * {@code input}.
+     *
+     * @param command the command the parameter belongs to.
+     * @param input   the input holding the abbreviated parameter name.
+     * @param start   the index of the first character of the name.
+     * @param end     the index after the last character of the name.
+     * @return the full parameter name, or null if the name is unknown or ambiguous.
+     */
+    public String findSecondaryParam(Command command, CharSequence input, int start, int end) {
+        return secondaryParams.get(command.getName()).findUnique(input, start, end);
+    }
+
+    public boolean containsCommandName(String commandName) {
+        return commands.contains(commandName);
+    }
+
+    public List<String> getCommandNamesStartingWith(String prefix) {
+        return commands.keysStartingWith(prefix);
+    }
+
+    /**
+     * Returns the names of the secondary parameters of a command starting with {@code prefix}.
+     *
+     * @param commandName the full name of the command.
+     * @param prefix      the start of the parameter names.
+     * @return a new list of the parameter names, which is empty if the command is unknown.
+     */
+    public List<String> getSecondaryParamsStartingWith(String commandName, String prefix) {
+        PrefixTrie<String> paramNames = secondaryParams.get(commandName);
+        if (paramNames == null) {
+            return new ArrayList<>();
+        }
+        return paramNames.keysStartingWith(prefix);
+    }
+}
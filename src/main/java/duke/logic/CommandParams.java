@@ -2,36 +2,11 @@ package duke.logic;
 
 import duke.exception.DukeException;
 import duke.exception.DukeRuntimeException;
-import duke.logic.command.DeleteIncomeCommand;
-import duke.logic.command.ViewBudgetCommand;
-import duke.logic.command.payment.AddPaymentCommand;
-import duke.logic.command.payment.ChangePaymentCommand;
-import duke.logic.command.payment.DeletePaymentCommand;
-import duke.logic.command.payment.FilterPaymentCommand;
-import duke.logic.command.payment.SearchPaymentCommand;
-import duke.logic.command.payment.SortPaymentCommand;
-import duke.logic.command.payment.DonePaymentCommand;
-import duke.logic.command.AddExpenseCommand;
-import duke.logic.command.AddIncomeCommand;
-import duke.logic.command.BudgetCommand;
 import duke.logic.command.Command;
-import duke.logic.command.ConfirmTentativeCommand;
-import duke.logic.command.DeleteExpenseCommand;
-import duke.logic.command.ExitCommand;
-import duke.logic.command.FilterExpenseCommand;
-import duke.logic.command.GoToCommand;
-import duke.logic.command.PlanBotCommand;
-import duke.logic.command.SortExpenseCommand;
-import duke.logic.command.ViewExpenseCommand;
-
-import java.util.Arrays;
+
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * An object containing information about a command's type and parameters.
@@ -53,33 +28,6 @@ public class CommandParams {
     // Ignores: "1/1", "a / b", "a/ "
     private static final Pattern PARAM_INDICATOR_REGEX = Pattern.compile("(\\s+(\\/(?=[a-z]+)))");
 
-    // The regular expression used to identify a space.
-    // Currently matches and replaces any number of spaces.
-    private static final Pattern SPACE_REGEX = Pattern.compile("(\\s+)");
-
-    private static final Supplier<Stream<Command>> COMMANDS = () -> Stream.of(
-            new AddExpenseCommand(),
-            new DeleteExpenseCommand(),
-            new ConfirmTentativeCommand(),
-            new ExitCommand(),
-            new FilterExpenseCommand(),
-            new SortExpenseCommand(),
-            new ViewExpenseCommand(),
-            new GoToCommand(),
-            new PlanBotCommand(),
-            new BudgetCommand(),
-            new AddPaymentCommand(),
-            new ChangePaymentCommand(),
-            new DeletePaymentCommand(),
-            new FilterPaymentCommand(),
-            new SearchPaymentCommand(),
-            new SortPaymentCommand(),
-            new AddIncomeCommand(),
-            new DeleteIncomeCommand(),
-            new ViewBudgetCommand(),
-            new DonePaymentCommand()
-    );
-
     /**
      * Creates a new {@code CommandParams} object using a {@code String} obtained directly from
      * the user. The {@code CommandParams} object cannot have two parameters of the same name, and
@@ -95,32 +43,29 @@ public class CommandParams {
         String[] nameValueStrings = PARAM_INDICATOR_REGEX.split(fullCommand.trim());
 
         // Get commandType and mainParam first
-        command = parseCommand(nameValueStrings[0]);
-        mainParam = extractMainParam(nameValueStrings[0], SPACE_REGEX.split(command.getName()).length);
+        String commandString = nameValueStrings[0];
+        int commandNameEnd = findWordEnd(commandString);
+        command = parseCommand(commandString, commandNameEnd);
+        mainParam = extractValue(commandString, commandNameEnd);
 
         // Get all the others
         for (int i = 1; i < nameValueStrings.length; i++) {
-            String[] nameValuePair = SPACE_REGEX.split(nameValueStrings[i], 2);
-            List<String> possibleParamNames = command.getSecondaryParams().keySet().stream()
-                    .filter(k -> k.startsWith(nameValuePair[0]))
-                    .collect(Collectors.toList());
-
-            if (possibleParamNames.size() != 1) {
-                throw new DukeException(String.format(DukeException.MESSAGE_COMMAND_PARAM_UNKNOWN, nameValuePair[0]));
+            String nameValueString = nameValueStrings[i];
+            int paramNameEnd = findWordEnd(nameValueString);
+            String verifiedParamName = CommandIndex.getInstance()
+                    .findSecondaryParam(command, nameValueString, 0, paramNameEnd);
+
+            if (verifiedParamName == null) {
+                throw new DukeException(String.format(DukeException.MESSAGE_COMMAND_PARAM_UNKNOWN,
+                        nameValueString.substring(0, paramNameEnd)));
             }
 
-            String verifiedParamName = possibleParamNames.get(0);
-
             if (secondaryParams.containsKey(verifiedParamName)) { // can't contain the same key twice
                 throw new DukeException(
                         String.format(DukeException.MESSAGE_COMMAND_PARAM_DUPLICATE, verifiedParamName));
             }
 
-            if (nameValuePair.length == 2) {
-                secondaryParams.put(verifiedParamName, nameValuePair[1]);
-            } else {
-                secondaryParams.put(verifiedParamName, null);
-            }
+            secondaryParams.put(verifiedParamName, extractValue(nameValueString, paramNameEnd));
         }
     }
 
@@ -187,40 +132,41 @@ public class CommandParams {
         return true;
     }
 
-    private static String extractMainParam(String string, int numberOfWords) {
-        String[] words = SPACE_REGEX.split(string, numberOfWords + 1);
-        if (words.length <= numberOfWords) {
-            return null;
-        } else {
-            return words[numberOfWords];
+    /**
+     * Returns the index of the first whitespace in {@code string}, which ends its first word.
+     */
+    private static int findWordEnd(String string) {
+        int index = 0;
+        while (index < string.length() && !Character.isWhitespace(string.charAt(index))) {
+            index++;
         }
+        return index;
     }
 
-    private static Command parseCommand(String commandName) throws DukeException {
-        // Inelegant solution, but I don't want to have to add a new method to every Command class.
-        String[] commandNameWords = Arrays.copyOfRange(commandName.split("\\s+"), 0, 2);
-
-        if (commandNameWords.length == 2) {
-            List<Command> validCommands = COMMANDS.get()
-                    .filter(c -> c.getName().split(" ").length == 2)
-                    .filter(c -> (c.getName().split(" ")[0].startsWith(commandNameWords[0])
-                            && c.getName().split(" ")[1].startsWith(commandNameWords[1])))
-                    .collect(Collectors.toList());
-
-            if (validCommands.size() == 1) {
-                return validCommands.get(0);
-            }
+    /**
+     * Returns everything after the first word of {@code string} and the whitespace following it,
+     * or null if there is nothing after the first word.
+     */
+    private static String extractValue(String string, int wordEnd) {
+        if (wordEnd == string.length()) {
+            return null;
         }
-
-        List<Command> validCommands = COMMANDS.get()
-                .filter(c -> c.getName().split(" ").length == 1)
-                .filter(c -> (c.getName().split(" ")[0].startsWith(commandNameWords[0])))
-                .collect(Collectors.toList());
-
-        if (validCommands.size() == 1) {
-            return validCommands.get(0);
+        int valueStart = wordEnd;
+        while (valueStart < string.length() && Character.isWhitespace(string.charAt(valueStart))) {
+            valueStart++;
         }
+        return string.substring(valueStart);
+    }
 
-        throw new DukeException(DukeException.MESSAGE_COMMAND_NAME_UNKNOWN);
+    /**
+     * Returns the command named by the first word of {@code string}, which may abbreviate the name
+     * as long as no other command name starts with it. Command names are single words.
+     */
+    private static Command parseCommand(String string, int nameEnd) throws DukeException {
+        Command command = CommandIndex.getInstance().findCommand(string, 0, nameEnd);
+        if (command == null) {
+            throw new DukeException(DukeException.MESSAGE_COMMAND_NAME_UNKNOWN);
+        }
+        return command;
     }
 }
@@ -1,5 +1,9 @@
 package duke.logic;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -29,6 +33,11 @@ public class CommandResult {
      */
     private DisplayedPane displayedPane;
 
+    /**
+     * The panes showing data that was changed by the command, which have to be refreshed.
+     */
+    private Set<DisplayedPane> changedPanes;
+
     /**
      * The application should exit.
      */
@@ -44,6 +53,7 @@ public class CommandResult {
     public CommandResult(String consoleInfo, DisplayedPane displayedPane, boolean isExit) {
         this.consoleInfo = requireNonNull(consoleInfo);
         this.displayedPane = requireNonNull(displayedPane);
+        this.changedPanes = EnumSet.of(displayedPane);
         this.isExit = isExit;
     }
 
@@ -58,6 +68,19 @@ public class CommandResult {
         this(requireNonNull(consoleInfo), requireNonNull(displayedPane), false);
     }
 
+    /**
+     * Constructs a {@code CommandResult} for a command which also changed data shown in panes
+     * other than the one to be displayed.
+     *
+     * @param consoleInfo       The message to be displayed in the console.
+     * @param displayedPane     The pane to be displayed in the main window.
+     * @param otherChangedPanes The other panes to be refreshed.
+     */
+    public CommandResult(String consoleInfo, DisplayedPane displayedPane, DisplayedPane... otherChangedPanes) {
+        this(consoleInfo, displayedPane, false);
+        Collections.addAll(changedPanes, otherChangedPanes);
+    }
+
     public String getConsoleInfo() {
         return consoleInfo;
     }
@@ -66,6 +89,10 @@ public class CommandResult {
         return displayedPane;
     }
 
+    public Set<DisplayedPane> getChangedPanes() {
+        return Collections.unmodifiableSet(changedPanes);
+    }
+
     public boolean isExit() {
         return isExit;
     }
@@ -2,6 +2,8 @@ package duke.logic;
 
 import duke.exception.DukeException;
 import duke.model.Expense;
+import duke.model.ExpenseList;
+import duke.model.ExpenseTrend;
 import duke.model.Income;
 import duke.model.PlanBot;
 import duke.model.payment.Payment;
@@ -11,6 +13,7 @@ import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -28,12 +31,32 @@ public interface Logic {
      */
     CommandResult execute(String userInput) throws DukeException;
 
+    /**
+     * Executes every command in a file as one transaction. The changes are saved once at the end,
+     * and are all reverted if any command fails.
+     *
+     * @param file The file holding one command per line.
+     * @return the result of the batch.
+     * @throws DukeException If the file cannot be read, or any command fails.
+     */
+    CommandResult executeBatch(Path file) throws DukeException;
+
     ObservableList<Expense> getExternalExpenseList();
 
     ObservableList<PlanBot.PlanDialog> getDialogObservableList();
 
     BigDecimal getTagAmount(String tag);
 
+    /**
+     * Returns the totals spent in each of the last days, weeks, months or years, overall and by tag.
+     *
+     * @param unit        the length of a period.
+     * @param periodCount the number of periods, up to the current one.
+     * @param maxTags     the largest number of tags to give the totals of.
+     * @return the trend.
+     */
+    ExpenseTrend getExpenseTrend(ExpenseList.ViewScopeName unit, int periodCount, int maxTags);
+
     ObservableList<Income> getExternalIncomeList();
 
     ObservableList<String> getBudgetObservableList();
@@ -1,27 +1,48 @@
 package duke.logic;
 
+import duke.commons.LogsCenter;
 import duke.exception.DukeException;
 import duke.logic.command.Command;
 import duke.model.Expense;
+import duke.model.ExpenseList;
+import duke.model.ExpenseTrend;
 import duke.model.Income;
 import duke.model.Model;
 import duke.model.PlanBot;
 import duke.model.payment.Payment;
 import duke.model.payment.PaymentList;
+import duke.storage.DeferredStorage;
 import duke.storage.Storage;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.logging.Logger;
 
 /**
  * The main LogicManager of the app.
  */
 public class LogicManager implements Logic {
 
+    private static final Logger logger = LogsCenter.getLogger(LogicManager.class);
+
+    private static final String BATCH_COMPLETE_MESSAGE = "Ran %d commands from %s.";
+    private static final String BATCH_COMMENT_PREFIX = "#";
+
+    /**
+     * Commands which cannot be reverted or which make no sense in a batch.
+     */
+    private static final Set<String> BATCH_EXCLUDED_COMMANDS = Set.of("run", "plan", "undo", "redo", "bye");
+
     private Model model;
     private Storage storage;
 
@@ -36,16 +57,76 @@ public class LogicManager implements Logic {
         this.storage = storage;
     }
 
+    /**
+     * {@inheritDoc}
+     * Commands run while holding the lock of the model, so that the storage can write it from another thread.
+     */
     @Override
     public CommandResult execute(String userInput) throws DukeException {
         CommandResult commandResult;
         CommandParams commandParams = new CommandParams(userInput);
         Command command = commandParams.getCommand();
-        commandResult = command.execute(commandParams, model, storage);
+        synchronized (model) {
+            commandResult = command.execute(commandParams, model, storage);
+        }
 
         return commandResult;
     }
 
+    @Override
+    public CommandResult executeBatch(Path file) throws DukeException {
+        synchronized (model) {
+            return executeBatchLocked(file);
+        }
+    }
+
+    private CommandResult executeBatchLocked(Path file) throws DukeException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_BATCH_FILE_UNREADABLE, file));
+        }
+
+        DeferredStorage deferredStorage = new DeferredStorage(storage);
+        LogicManager batchLogic = new LogicManager(model, deferredStorage);
+        int commandCount = 0;
+        int lineNumber = 0;
+        model.startTransaction();
+        try {
+            for (String line : lines) {
+                lineNumber++;
+                if (line.isBlank() || line.trim().startsWith(BATCH_COMMENT_PREFIX)) {
+                    continue;
+                }
+                batchLogic.executeInBatch(line);
+                commandCount++;
+            }
+        } catch (DukeException | RuntimeException e) {
+            model.rollbackTransaction();
+            deferredStorage.discard();
+            logger.warning("Batch " + file + " rolled back at line " + lineNumber + ": " + e.getMessage());
+            throw new DukeException(String.format(DukeException.MESSAGE_BATCH_COMMAND_FAILED,
+                    lineNumber, e.getMessage()));
+        }
+        model.commitTransaction();
+        deferredStorage.flush();
+
+        logger.info("Batch " + file + " ran " + commandCount + " commands");
+        return new CommandResult(String.format(BATCH_COMPLETE_MESSAGE, commandCount, file),
+                CommandResult.DisplayedPane.EXPENSE, CommandResult.DisplayedPane.values());
+    }
+
+    private void executeInBatch(String userInput) throws DukeException {
+        CommandParams commandParams = new CommandParams(userInput);
+        Command command = commandParams.getCommand();
+        if (BATCH_EXCLUDED_COMMANDS.contains(command.getName())) {
+            throw new DukeException(String.format(DukeException.MESSAGE_BATCH_COMMAND_NOT_ALLOWED,
+                    command.getName()));
+        }
+        command.execute(commandParams, model, storage);
+    }
+
     @Override
     public ObservableList<Expense> getExternalExpenseList() {
         return model.getExpenseExternalList();
@@ -61,6 +142,14 @@ public class LogicManager implements Logic {
         return model.getExpenseList().getTagAmount(tag);
     }
 
+    @Override
+    public ExpenseTrend getExpenseTrend(ExpenseList.ViewScopeName unit, int periodCount, int maxTags) {
+        // Reading a trend may load archived expenses into the list, so it holds the model like a command.
+        synchronized (model) {
+            return model.getExpenseList().getTrend(unit, periodCount, maxTags);
+        }
+    }
+
     @Override
     public ObservableList<Income> getExternalIncomeList() {
         return model.getIncomeExternalList();
@@ -3,8 +3,10 @@ package duke.logic.command;
 import duke.exception.DukeException;
 import duke.logic.CommandParams;
 import duke.logic.CommandResult;
+import duke.logic.parser.Parser;
 import duke.model.Expense;
 import duke.model.Model;
+import duke.model.Recurrence;
 import duke.storage.Storage;
 
 import java.util.stream.Collectors;
@@ -27,7 +29,9 @@ public class AddExpenseCommand extends Command {
         TAG("tag", "tags that should be added to the expense"),
         TIME("time", "the time of the expense"),
         TENTATIVE("tentative", "sets the expense to be tentative"),
-        RECURRING("recurring", "sets the expense to be recurring");
+        RECURRING("recurring", "sets the expense to be recurring, every month unless /every is given"),
+        EVERY("every", "how often the expense recurs from its time, e.g. 2 weeks"),
+        UNTIL("until", "the last day the expense recurs on, as dd/MM/yyyy");
 
 
         private String name;
@@ -76,15 +80,24 @@ public class AddExpenseCommand extends Command {
             expenseBuilder.setTentative(true);
         }
 
-        if (commandParams.containsParams(SecondaryParam.RECURRING.name)) {
-            expenseBuilder.setRecurring(true);
+        Recurrence recurrence = null;
+        if (commandParams.containsParams(SecondaryParam.EVERY.name)) {
+            recurrence = Recurrence.parse(commandParams.getParam(SecondaryParam.EVERY.name));
+        } else if (commandParams.containsParams(SecondaryParam.RECURRING.name)
+                || commandParams.containsParams(SecondaryParam.UNTIL.name)) {
+            recurrence = Recurrence.MONTHLY;
         }
+        if (commandParams.containsParams(SecondaryParam.UNTIL.name)) {
+            recurrence = recurrence.until(Parser.parseDate(commandParams.getParam(SecondaryParam.UNTIL.name)));
+        }
+        expenseBuilder.setRecurrence(recurrence);
 
         model.addExpense(expenseBuilder.build());
         // duke.expenseList.update();
         storage.saveExpenseList(model.getExpenseList());
 
-        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE);
+        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE,
+                CommandResult.DisplayedPane.BUDGET);
         /*
         if (commandParams.containsParams(SecondaryParam.TENTATIVE.name)) {
             expenseBuilder.setTentative(true);
@@ -48,18 +48,18 @@ public class ConfirmTentativeCommand extends Command {
             int index = Integer.parseInt(commandParams.getMainParam());
             Expense expense = model.getExpenseExternalList().get(index - 1);
             if (expense.isTentative()) {
-                model.deleteExpense(index);
-                expense.setTentative(false);
-                model.addExpense(expense);
+                model.setExpense(index, new Expense.Builder(expense).setTentative(false).build());
             } else {
                 throw new DukeException(index + " is not a tentative task!");
             }
+            storage.saveExpenseList(model.getExpenseList());
         } catch (NumberFormatException e) {
             throw new DukeException("Please enter a number!");
         } catch (IndexOutOfBoundsException e) {
             throw new DukeException("The index you've entered is out of range!");
         }
-        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE);
+        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE,
+                CommandResult.DisplayedPane.BUDGET);
     }
 
 }
@@ -90,7 +90,8 @@ public class DeleteExpenseCommand extends Command {
                 model.deleteExpense((Integer.parseInt(commandParams.getMainParam())));
             }
             storage.saveExpenseList(model.getExpenseList());
-            return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE);
+            return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE,
+                    CommandResult.DisplayedPane.BUDGET);
 
         } catch (NumberFormatException e) {
             throw new DukeException(String.format(DukeException.MESSAGE_NUMBER_FORMAT_INVALID,
@@ -1,5 +1,6 @@
 package duke.logic.command;
 
+import duke.exception.DukeException;
 import duke.logic.CommandParams;
 import duke.logic.CommandResult;
 import duke.model.Model;
@@ -49,7 +50,8 @@ public class ExitCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(CommandParams commandParams, Model model, Storage storage) {
+    public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
+        storage.flush();
         return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE, true);
     }
 }
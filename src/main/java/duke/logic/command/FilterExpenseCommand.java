@@ -3,6 +3,7 @@ package duke.logic.command;
 import duke.exception.DukeException;
 import duke.logic.CommandParams;
 import duke.logic.CommandResult;
+import duke.model.ExpenseFilter;
 import duke.model.Model;
 import duke.storage.Storage;
 
@@ -12,13 +13,20 @@ import java.util.stream.Stream;
 public class FilterExpenseCommand extends Command {
     private static final String name = "filterExpense";
     private static final String description = "Filter expenses according to a given criteria";
-    private static final String usage = "filter $criteria";
+    private static final String usage = "filter $description";
 
     private static final String COMPLETE_MESSAGE = "Filtered the expense!";
 
 
     private enum SecondaryParam {
-        ;
+        KEYWORD("keyword", "a keyword the description or tags of the expenses should contain"),
+        TAG("tag", "tags the expenses should all have"),
+        MIN("min", "the smallest amount of the expenses"),
+        MAX("max", "the largest amount of the expenses"),
+        FROM("from", "the first day of the expenses, as dd/MM/yyyy"),
+        TO("to", "the last day of the expenses, as dd/MM/yyyy"),
+        TENTATIVE("tentative", "keeps only tentative expenses"),
+        RECURRING("recurring", "keeps only recurring expenses");
 
         private String name;
         private String description;
@@ -39,10 +47,48 @@ public class FilterExpenseCommand extends Command {
 
     @Override
     public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
-        String mainParam = commandParams.getMainParam();
-        model.filterExpense(mainParam);
+        ExpenseFilter.Builder filterBuilder = new ExpenseFilter.Builder();
 
-        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE);
+        if (commandParams.containsMainParam()) {
+            filterBuilder.setDescription(commandParams.getMainParam());
+        }
+
+        if (commandParams.containsParams(SecondaryParam.KEYWORD.name)) {
+            filterBuilder.setKeyword(commandParams.getParam(SecondaryParam.KEYWORD.name));
+        }
+
+        if (commandParams.containsParams(SecondaryParam.TAG.name)) {
+            filterBuilder.setTag(commandParams.getParam(SecondaryParam.TAG.name).toUpperCase());
+        }
+
+        if (commandParams.containsParams(SecondaryParam.MIN.name)) {
+            filterBuilder.setMinAmount(commandParams.getParam(SecondaryParam.MIN.name));
+        }
+
+        if (commandParams.containsParams(SecondaryParam.MAX.name)) {
+            filterBuilder.setMaxAmount(commandParams.getParam(SecondaryParam.MAX.name));
+        }
+
+        if (commandParams.containsParams(SecondaryParam.FROM.name)) {
+            filterBuilder.setFrom(commandParams.getParam(SecondaryParam.FROM.name));
+        }
+
+        if (commandParams.containsParams(SecondaryParam.TO.name)) {
+            filterBuilder.setTo(commandParams.getParam(SecondaryParam.TO.name));
+        }
+
+        if (commandParams.containsParams(SecondaryParam.TENTATIVE.name)) {
+            filterBuilder.setTentative(true);
+        }
+
+        if (commandParams.containsParams(SecondaryParam.RECURRING.name)) {
+            filterBuilder.setRecurring(true);
+        }
+
+        model.filterExpense(filterBuilder.build());
+
+        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE,
+                CommandResult.DisplayedPane.BUDGET);
     }
 
 }
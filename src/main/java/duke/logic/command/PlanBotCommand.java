@@ -45,7 +45,8 @@ public class PlanBotCommand extends Command {
                 }
                 storage.saveExpenseList(model.getExpenseList());
                 storage.saveBudget(model.getBudget());
-                return new CommandResult("Exported successfully!", CommandResult.DisplayedPane.EXPENSE);
+                return new CommandResult("Exported successfully!", CommandResult.DisplayedPane.EXPENSE,
+                        CommandResult.DisplayedPane.BUDGET);
             } catch (NullPointerException e) {
                 return new CommandResult("Nothing to export!", CommandResult.DisplayedPane.PLAN);
             }
@@ -0,0 +1,53 @@
+package duke.logic.command;
+
+import duke.exception.DukeException;
+import duke.logic.CommandParams;
+import duke.logic.CommandResult;
+import duke.model.Model;
+import duke.storage.Storage;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Applies again the latest changes to the expense list that were undone.
+ */
+public class RedoCommand extends Command {
+    private static final String name = "redo";
+    private static final String description = "Redoes the latest undone changes to the expenses";
+    private static final String usage = "redo [$times]";
+
+    private static final String COMPLETE_MESSAGE = "Redid %d change(s)!";
+
+    private enum SecondaryParam {
+        ;
+
+        private String name;
+        private String description;
+
+        SecondaryParam(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    /**
+     * Creates a RedoCommand, with its name, description, usage and secondary parameters.
+     */
+    public RedoCommand() {
+        super(name, description, usage, Stream.of(SecondaryParam.values())
+            .collect(Collectors.toMap(s -> s.name, s -> s.description)));
+    }
+
+    @Override
+    public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
+        int times = UndoCommand.parseTimes(commandParams);
+        int redone = model.redoExpense(times);
+        if (redone == 0) {
+            throw new DukeException(DukeException.MESSAGE_REDO_EMPTY);
+        }
+        storage.saveExpenseList(model.getExpenseList());
+        return new CommandResult(String.format(COMPLETE_MESSAGE, redone), CommandResult.DisplayedPane.EXPENSE,
+                CommandResult.DisplayedPane.BUDGET);
+    }
+}
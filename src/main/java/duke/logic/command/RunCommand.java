@@ -0,0 +1,56 @@
+package duke.logic.command;
+
+import duke.exception.DukeException;
+import duke.logic.CommandParams;
+import duke.logic.CommandResult;
+import duke.logic.LogicManager;
+import duke.model.Model;
+import duke.storage.Storage;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs every command in a file as one batch, which is saved once and reverted entirely if a command fails.
+ */
+public class RunCommand extends Command {
+    private static final String name = "run";
+    private static final String description = "Runs the commands in a file, one per line, as a single change";
+    private static final String usage = "run /file $path";
+
+    private enum SecondaryParam {
+        FILE("file", "the path of the file holding the commands");
+
+        private String name;
+        private String description;
+
+        SecondaryParam(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    /**
+     * Creates a RunCommand, with its name, description, usage and secondary parameters.
+     */
+    public RunCommand() {
+        super(name, description, usage, Stream.of(SecondaryParam.values())
+            .collect(Collectors.toMap(s -> s.name, s -> s.description)));
+    }
+
+    @Override
+    public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
+        if (!commandParams.containsParams(SecondaryParam.FILE.name)) {
+            throw new DukeException(String.format(DukeException.MESSAGE_COMMAND_PARAM_MISSING,
+                    SecondaryParam.FILE.name));
+        }
+        String path = commandParams.getParam(SecondaryParam.FILE.name);
+        try {
+            return new LogicManager(model, storage).executeBatch(Paths.get(path));
+        } catch (InvalidPathException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_BATCH_FILE_UNREADABLE, path));
+        }
+    }
+}
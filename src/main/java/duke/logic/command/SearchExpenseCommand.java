@@ -0,0 +1,56 @@
+package duke.logic.command;
+
+import duke.exception.DukeException;
+import duke.logic.CommandParams;
+import duke.logic.CommandResult;
+import duke.model.Model;
+import duke.storage.Storage;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Searches and lists all expenses whose description or tag contains the given keyword.
+ * Keyword matching is case insensitive.
+ */
+public class SearchExpenseCommand extends Command {
+    private static final String name = "searchExpense";
+    private static final String description = "searches expenses with given keywords";
+    private static final String usage = "searchExpense $keyword";
+
+    private static final String COMPLETE_MESSAGE = "Here are searching results!";
+    private static final String EXCEPTION_WORD_KEYWORD = "keyword";
+
+    private enum SecondaryParam {
+        ;
+
+        private String name;
+        private String description;
+
+        SecondaryParam(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    /**
+     * Creates a SearchExpenseCommand, with its name, description, usage and secondary parameters.
+     */
+    public SearchExpenseCommand() {
+        super(name, description, usage, Stream.of(SecondaryParam.values())
+                .collect(Collectors.toMap(s -> s.name, s -> s.description)));
+    }
+
+    @Override
+    public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
+        if (!commandParams.containsMainParam()) {
+            throw new DukeException(String.format(DukeException.MESSAGE_COMMAND_PARAM_MISSING,
+                    EXCEPTION_WORD_KEYWORD));
+        }
+
+        model.searchExpense(commandParams.getMainParam());
+
+        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE,
+                CommandResult.DisplayedPane.BUDGET);
+    }
+}
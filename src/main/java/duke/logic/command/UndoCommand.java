@@ -0,0 +1,76 @@
+package duke.logic.command;
+
+import duke.exception.DukeException;
+import duke.logic.CommandParams;
+import duke.logic.CommandResult;
+import duke.model.Model;
+import duke.storage.Storage;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reverts the latest changes made to the expense list.
+ */
+public class UndoCommand extends Command {
+    private static final String name = "undo";
+    private static final String description = "Undoes the latest changes to the expenses";
+    private static final String usage = "undo [$times]";
+
+    private static final String COMPLETE_MESSAGE = "Undid %d change(s)!";
+
+    private enum SecondaryParam {
+        ;
+
+        private String name;
+        private String description;
+
+        SecondaryParam(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    /**
+     * Creates an UndoCommand, with its name, description, usage and secondary parameters.
+     */
+    public UndoCommand() {
+        super(name, description, usage, Stream.of(SecondaryParam.values())
+            .collect(Collectors.toMap(s -> s.name, s -> s.description)));
+    }
+
+    @Override
+    public CommandResult execute(CommandParams commandParams, Model model, Storage storage) throws DukeException {
+        int times = parseTimes(commandParams);
+        int undone = model.undoExpense(times);
+        if (undone == 0) {
+            throw new DukeException(DukeException.MESSAGE_UNDO_EMPTY);
+        }
+        storage.saveExpenseList(model.getExpenseList());
+        return new CommandResult(String.format(COMPLETE_MESSAGE, undone), CommandResult.DisplayedPane.EXPENSE,
+                CommandResult.DisplayedPane.BUDGET);
+    }
+
+    /**
+     * Returns the number of changes given as the main parameter, which is 1 if none is given.
+     *
+     * @param commandParams the parameters given by the user.
+     * @return the number of changes.
+     * @throws DukeException if the main parameter is not a positive number.
+     */
+    static int parseTimes(CommandParams commandParams) throws DukeException {
+        if (!commandParams.containsMainParam()) {
+            return 1;
+        }
+        try {
+            int times = Integer.parseInt(commandParams.getMainParam());
+            if (times < 1) {
+                throw new NumberFormatException();
+            }
+            return times;
+        } catch (NumberFormatException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_NUMBER_FORMAT_INVALID,
+                    commandParams.getMainParam()));
+        }
+    }
+}
@@ -22,7 +22,7 @@ public class ViewExpenseCommand extends Command {
     private static final String description = "Change how expenses are displayed";
     private static final String usage = "view $criteria";
 
-    private static final String COMPLETE_MESSAGE = "Changed view scope of expenses!";
+    private static final String COMPLETE_MESSAGE = "Changed view scope of expenses to %s!";
     private static final String EXCEPTION_WORD_TIME_SCOPE = "time scope";
     private static final String PARAM_PREVIOUS_NAME = "previous";
     private static final String PARAM_PREVIOUS_REDUNDANT = "/previous";
@@ -70,7 +70,8 @@ public class ViewExpenseCommand extends Command {
         if (!commandParams.containsParams(PARAM_PREVIOUS_NAME)) {
             model.viewExpense(mainParam, DEFAULT_PREVIOUS_VALUE);
 
-            return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE);
+            return new CommandResult(String.format(COMPLETE_MESSAGE, model.getExpenseList().getViewScope()),
+                    CommandResult.DisplayedPane.EXPENSE, CommandResult.DisplayedPane.BUDGET);
         }
 
         if (commandParams.getMainParam().toLowerCase().equals(PARAM_PREVIOUS_ALL)) {
@@ -89,6 +90,7 @@ public class ViewExpenseCommand extends Command {
 
         model.viewExpense(mainParam, previous);
 
-        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.EXPENSE);
+        return new CommandResult(String.format(COMPLETE_MESSAGE, model.getExpenseList().getViewScope()),
+                CommandResult.DisplayedPane.EXPENSE, CommandResult.DisplayedPane.BUDGET);
     }
 }
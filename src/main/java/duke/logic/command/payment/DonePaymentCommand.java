@@ -85,6 +85,7 @@ public class DonePaymentCommand extends Command {
             throw new DukeException(DukeException.MESSAGE_PAYMENT_SAVE_FAILED);
         }
 
-        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.PAYMENT);
+        return new CommandResult(COMPLETE_MESSAGE, CommandResult.DisplayedPane.PAYMENT,
+                CommandResult.DisplayedPane.EXPENSE, CommandResult.DisplayedPane.BUDGET);
     }
 }
@@ -4,6 +4,7 @@ import duke.exception.DukeException;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -15,6 +16,7 @@ import java.time.format.DateTimeParseException;
 public class Parser {
 
     private static DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("HH:mm dd/MM/yyyy");
+    private static DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
     /**
      * Converts a LocalDateTime to a user readable string.
@@ -26,6 +28,16 @@ public class Parser {
         return localDateTime.format(dateTimeFormatter);
     }
 
+    /**
+     * Converts a LocalDate to a user readable string.
+     *
+     * @param localDate LocalDate object that we wish to convert
+     * @return String that is a formatted date, written as dd/MM/yyyy
+     */
+    public static String formatDate(LocalDate localDate) {
+        return localDate.format(dateFormatter);
+    }
+
     /**
      * Converts a {@code String} to a {@code LocalDateTime}.
      *
@@ -41,18 +53,31 @@ public class Parser {
         }
     }
 
+    /**
+     * Converts a {@code String} to a {@code LocalDate}.
+     *
+     * @param string {@code String} to convert, written as dd/MM/yyyy.
+     * @return {@code LocalDate} corresponding to the string.
+     * @throws DukeException if the string cannot be parsed into a {@code LocalDate} object.
+     */
+    public static LocalDate parseDate(String string) throws DukeException {
+        try {
+            return LocalDate.parse(string, dateFormatter);
+        } catch (DateTimeParseException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_PARSER_DATE_INVALID, string));
+        }
+    }
+
     /**
      * Returns a formatted BigDecimal representing Money.
+     * The string is read exactly, not through a {@code double}, and rounded half-even to cents.
      * @param string String we want to format
      * @return a formatted BigDecimal representing Money.
      * @throws DukeException if {@code string} is null or has invalid format
      */
     public static BigDecimal parseMoney(String string) throws DukeException {
         try {
-            double amountDouble = Double.parseDouble(string);
-            BigDecimal amount = BigDecimal.valueOf(amountDouble);
-            BigDecimal scaledAmount = amount.setScale(2, RoundingMode.HALF_EVEN);
-            return scaledAmount;
+            return new BigDecimal(string.trim()).setScale(2, RoundingMode.HALF_EVEN);
         } catch (NumberFormatException | NullPointerException e) {
             throw new DukeException(String.format(DukeException.MESSAGE_EXPENSE_AMOUNT_INVALID, string));
         }
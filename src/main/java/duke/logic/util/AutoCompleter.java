@@ -1,35 +1,13 @@
 package duke.logic.util;
 
 import duke.commons.LogsCenter;
-import duke.logic.command.AddExpenseCommand;
-import duke.logic.command.Command;
-import duke.logic.command.ConfirmTentativeCommand;
-import duke.logic.command.DeleteExpenseCommand;
-import duke.logic.command.ExitCommand;
-import duke.logic.command.FilterExpenseCommand;
-import duke.logic.command.GoToCommand;
-import duke.logic.command.PlanBotCommand;
-import duke.logic.command.SortExpenseCommand;
-import duke.logic.command.ViewExpenseCommand;
-import duke.logic.command.BudgetCommand;
-import duke.logic.command.ViewBudgetCommand;
-import duke.logic.command.payment.AddPaymentCommand;
-import duke.logic.command.payment.ChangePaymentCommand;
-import duke.logic.command.payment.DeletePaymentCommand;
-import duke.logic.command.payment.DonePaymentCommand;
-import duke.logic.command.payment.FilterPaymentCommand;
-import duke.logic.command.payment.SearchPaymentCommand;
-import duke.logic.command.payment.SortPaymentCommand;
+import duke.logic.CommandIndex;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -81,15 +59,10 @@ public class AutoCompleter {
     private static final int BASE_CONVERSION = 1;
 
     /**
-     * The list storing all commands' names.
-     * Works as the information source to complete command names.
+     * The names of all commands and their secondaryParams.
+     * Works as the information source of all complements.
      **/
-    private final List<String> allCommandNames;
-
-    /**
-     * Maps each commandNames to their respective collections of secondaryParams' names.
-     **/
-    private final HashMap<String, List<String>> allSecondaryParams;
+    private final CommandIndex commandIndex;
 
     /**
      * The most recent complement provided by auto-completer.
@@ -121,31 +94,6 @@ public class AutoCompleter {
      **/
     private int iteratingIndex;
 
-    /**
-     * A supplier that supplies streams of all command classes.
-     * It works as the source of all complements information.
-     **/
-    private static final Supplier<Stream<Command>> COMMANDS = () -> Stream.of(
-            new AddExpenseCommand(),
-            new DeleteExpenseCommand(),
-            new ConfirmTentativeCommand(),
-            new ExitCommand(),
-            new FilterExpenseCommand(),
-            new SortExpenseCommand(),
-            new ViewExpenseCommand(),
-            new GoToCommand(),
-            new PlanBotCommand(),
-            new AddPaymentCommand(),
-            new ChangePaymentCommand(),
-            new DeletePaymentCommand(),
-            new FilterPaymentCommand(),
-            new SearchPaymentCommand(),
-            new SortPaymentCommand(),
-            new DonePaymentCommand(),
-            new BudgetCommand(),
-            new ViewBudgetCommand()
-    );
-
     /**
      * Purposes of complement.
      */
@@ -159,23 +107,12 @@ public class AutoCompleter {
 
     /**
      * Constructs a auto-completer.
-     * All commandNames are stored in {@code allCommandNames}.
-     * All collections of secondaryParams of each command are stored in {@code allSecondaryParams}.
+     * All commandNames and secondaryParams are looked up in the shared {@code CommandIndex}.
      * The {@code complementList} is initialized as an empty ArrayList.
      * The {@code lastComplement} is initialized as an empty String.
      */
     public AutoCompleter() {
-        allCommandNames = COMMANDS.get().map(Command::getName).collect(Collectors.toList());
-        assert !allCommandNames.isEmpty();
-
-        allSecondaryParams = new HashMap<String, List<String>>();
-        COMMANDS.get().forEach(command -> {
-            Set<String> secondaryParamSet = command.getSecondaryParams().keySet();
-            List<String> secondaryParamList = new ArrayList<String>(secondaryParamSet);
-            // maps commandName to collections of its all secondaryParams' names
-            allSecondaryParams.put(command.getName(), secondaryParamList);
-        });
-        assert !allSecondaryParams.isEmpty();
+        commandIndex = CommandIndex.getInstance();
 
         complementList = new ArrayList<String>();
         lastComplement = EMPTY_STRING;
@@ -371,7 +308,7 @@ public class AutoCompleter {
      * @return True if the first token of {@code fromInput} is a valid commandName and false otherwise.
      */
     private boolean hasValidCommandName() {
-        return allCommandNames.contains(getCommandName());
+        return commandIndex.containsCommandName(getCommandName());
     }
 
     /**
@@ -408,8 +345,7 @@ public class AutoCompleter {
      */
     private void completeCommandNameComplements() {
         String unCompletedCommandName = getFragmentAfterLastSpace();
-        complementList = allCommandNames.stream()
-                .filter(s -> s.startsWith(unCompletedCommandName)).collect(Collectors.toList());
+        complementList = commandIndex.getCommandNamesStartingWith(unCompletedCommandName);
 
         logger.info("ComplementList for command names is constructed.");
     }
@@ -420,9 +356,8 @@ public class AutoCompleter {
      */
     private void completeParameterComplements() {
         String unCompletedParameter = getFragmentAfterLastSpace().substring(1); // gets rid of "/" at index 0
-        List<String> options = allSecondaryParams.get(getCommandName());
-        List<String> usableParameters = options.stream()
-                .filter(s -> s.startsWith(unCompletedParameter)).collect(Collectors.toList());
+        List<String> usableParameters = commandIndex.getSecondaryParamsStartingWith(getCommandName(),
+                unCompletedParameter);
         complementList = usableParameters.stream().map(s -> PARAMETER_INDICATOR + s).collect(Collectors.toList());
 
         logger.info("ComplementList for parameter names is constructed.");
@@ -434,7 +369,7 @@ public class AutoCompleter {
      */
     private void produceParameterComplements() {
         getFragmentAfterLastSpace();
-        List<String> options = allSecondaryParams.get(getCommandName());
+        List<String> options = commandIndex.getSecondaryParamsStartingWith(getCommandName(), EMPTY_STRING);
         complementList = options.stream().map(s -> PARAMETER_INDICATOR + s).collect(Collectors.toList());
 
         logger.info("ComplementList producing parameter names is constructed.");
@@ -0,0 +1,168 @@
+package duke.logic.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable prefix tree mapping names to values, used to resolve abbreviated names typed by the user.
+ * Every node knows which names start with its prefix, so that finding the only name with a prefix
+ * walks the prefix once and allocates nothing.
+ *
+ * @param <V> the type of the values mapped to.
+ */
+public class PrefixTrie<V> {
+    private static final int[] NO_ENTRIES = new int[0];
+
+    private final String[] keys;
+    private final List<V> values;
+    private final Node root;
+
+    /**
+     * A node reached by a prefix.
+     */
+    private static class Node {
+        /**
+         * The characters leading to {@code children}, in ascending order.
+         */
+        private final char[] labels;
+        private final Node[] children;
+        /**
+         * The positions of the names starting with the prefix of this node, in the order they were given.
+         */
+        private final int[] entries;
+        /**
+         * The position of the name equal to the prefix of this node, or -1 if there is none.
+         */
+        private final int terminal;
+
+        private Node(char[] labels, Node[] children, int[] entries, int terminal) {
+            this.labels = labels;
+            this.children = children;
+            this.entries = entries;
+            this.terminal = terminal;
+        }
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    /**
+     * Builds a trie of the given names. Names starting with the same prefix are listed in the iteration
+     * order of {@code entries}.
+     *
+     * @param entries the names and the values they map to.
+     */
+    public PrefixTrie(Map<String, V> entries) {
+        keys = entries.keySet().toArray(new String[0]);
+        values = new ArrayList<>(entries.values());
+        int[] positions = new int[keys.length];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        root = build(positions, 0);
+    }
+
+    private Node build(int[] positions, int depth) {
+        TreeMap<Character, List<Integer>> groups = new TreeMap<>();
+        int terminal = -1;
+        for (int position : positions) {
+            if (keys[position].length() == depth) {
+                terminal = position;
+            } else {
+                groups.computeIfAbsent(keys[position].charAt(depth), c -> new ArrayList<>()).add(position);
+            }
+        }
+
+        char[] labels = new char[groups.size()];
+        Node[] children = new Node[groups.size()];
+        int index = 0;
+        for (Map.Entry<Character, List<Integer>> group : groups.entrySet()) {
+            labels[index] = group.getKey();
+            children[index] = build(group.getValue().stream().mapToInt(Integer::intValue).toArray(), depth + 1);
+            index++;
+        }
+        return new Node(labels, children, positions.length == 0 ? NO_ENTRIES : positions, terminal);
+    }
+
+    /**
+     * Returns the value of the only name starting with the characters of {@code text}
+     * from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param text  the text holding the prefix.
+     * @param start the index of the first character of the prefix.
+     * @param end   the index after the last character of the prefix.
+     * @return the value, or null if no name or more than one name starts with the prefix.
+     */
+    public V findUnique(CharSequence text, int start, int end) {
+        Node node = find(text, start, end);
+        if (node == null || node.entries.length != 1) {
+            return null;
+        }
+        return values.get(node.entries[0]);
+    }
+
+    /**
+     * Returns the value of the only name starting with {@code prefix}.
+     *
+     * @param prefix the prefix.
+     * @return the value, or null if no name or more than one name starts with the prefix.
+     */
+    public V findUnique(CharSequence prefix) {
+        return findUnique(prefix, 0, prefix.length());
+    }
+
+    /**
+     * Returns the value of a name.
+     *
+     * @param key the whole name.
+     * @return the value, or null if there is no such name.
+     */
+    public V get(CharSequence key) {
+        Node node = find(key, 0, key.length());
+        if (node == null || node.terminal < 0) {
+            return null;
+        }
+        return values.get(node.terminal);
+    }
+
+    /**
+     * Returns whether the trie contains a name.
+     *
+     * @param key the whole name.
+     * @return true if the name is in the trie.
+     */
+    public boolean contains(CharSequence key) {
+        Node node = find(key, 0, key.length());
+        return node != null && node.terminal >= 0;
+    }
+
+    /**
+     * Returns all names starting with {@code prefix}.
+     *
+     * @param prefix the prefix.
+     * @return a new list of the names, in the order they were given.
+     */
+    public List<String> keysStartingWith(CharSequence prefix) {
+        List<String> matches = new ArrayList<>();
+        Node node = find(prefix, 0, prefix.length());
+        if (node != null) {
+            for (int position : node.entries) {
+                matches.add(keys[position]);
+            }
+        }
+        return matches;
+    }
+
+    private Node find(CharSequence text, int start, int end) {
+        Node node = root;
+        for (int i = start; i < end && node != null; i++) {
+            node = node.child(text.charAt(i));
+        }
+        return node;
+    }
+}
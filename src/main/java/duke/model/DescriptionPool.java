@@ -0,0 +1,42 @@
+package duke.model;
+
+/**
+ * A bounded pool of descriptions, so that items with the same description share one string.
+ *
+ * <p>The pool is a fixed table with one description per slot, chosen by the hash of the description.
+ * A description replaces whichever description was in its slot, so the pool never grows, and the
+ * descriptions that repeat most stay shared. Strings are immutable, so threads racing on a slot can at
+ * worst miss a chance to share.
+ */
+public final class DescriptionPool {
+    private static final int SLOT_COUNT = 4096;
+    /**
+     * Descriptions longer than this are rarely repeated and are not pooled.
+     */
+    private static final int MAX_LENGTH = 64;
+
+    private static final String[] slots = new String[SLOT_COUNT];
+
+    private DescriptionPool() {
+    }
+
+    /**
+     * Returns a description equal to the given one, shared with earlier items if possible.
+     *
+     * @param description the description.
+     * @return an equal description.
+     */
+    public static String intern(String description) {
+        if (description == null || description.length() > MAX_LENGTH) {
+            return description;
+        }
+        int hash = description.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & (SLOT_COUNT - 1);
+        String pooled = slots[slot];
+        if (description.equals(pooled)) {
+            return pooled;
+        }
+        slots[slot] = description;
+        return description;
+    }
+}
@@ -31,9 +31,9 @@ abstract class DukeItem implements Serializable {
      */
     protected static final String TAG_SEPARATOR = " ";
     /**
-     * The item's tags.
+     * The id of the item's set of tags in the {@link TagDictionary}.
      */
-    protected final String tag;
+    protected final int tagSetId;
 
     /**
      * A utility method used to extract fields from a storage string into a map, so that they can be
@@ -56,7 +56,7 @@ abstract class DukeItem implements Serializable {
      * @param <T> the subclassed builder; see the sof link above.
      */
     abstract static class Builder<T extends Builder<T>> {
-        private String tag = "";
+        private int tagSetId = TagDictionary.EMPTY_SET_ID;
 
         /**
          * Constructs an empty item with default values for all fields.
@@ -71,7 +71,7 @@ abstract class DukeItem implements Serializable {
          * @param i the existing item.
          */
         protected Builder(DukeItem i) {
-            tag = i.tag;
+            tagSetId = i.tagSetId;
         }
 
         /**
@@ -90,12 +90,33 @@ abstract class DukeItem implements Serializable {
          */
         protected Builder(Map<String, String> mappedStorageString) {
             if (mappedStorageString.containsKey("tag")) {
-                this.tag =  mappedStorageString.get("tag");
+                setTag(mappedStorageString.get("tag"));
             }
         }
 
+        /**
+         * Sets the tags of the item.
+         *
+         * @param tag the tags, separated by spaces.
+         * @return this builder.
+         */
         public T setTag(String tag) {
-            this.tag = tag;
+            this.tagSetId = TagDictionary.setIdOf(tag);
+            return getThis();
+        }
+
+        /**
+         * Sets the tags by the id of their set in the {@link TagDictionary}, for loading items whose tags
+         * are already looked up.
+         *
+         * @param tagSetId the id of the set of tags.
+         * @return this builder.
+         */
+        public T setTagSetId(int tagSetId) {
+            if (tagSetId < 0 || tagSetId >= TagDictionary.setCount()) {
+                throw new IllegalArgumentException("Unknown tag set id " + tagSetId);
+            }
+            this.tagSetId = tagSetId;
             return getThis();
         }
 
@@ -119,7 +140,7 @@ abstract class DukeItem implements Serializable {
      * @param builder the builder containing information for this object.
      */
     protected DukeItem(Builder<?> builder) {
-        tag = builder.tag;
+        tagSetId = builder.tagSetId;
     }
 
     /**
@@ -129,17 +150,37 @@ abstract class DukeItem implements Serializable {
      */
     protected String toStorageString() {
         StringJoiner stringJoiner = new StringJoiner(STORAGE_FIELD_DELIMITER);
-        stringJoiner.add("tag" + STORAGE_NAME_SEPARATOR + String.join(" ", tag));
+        stringJoiner.add("tag" + STORAGE_NAME_SEPARATOR + getTag());
         return stringJoiner.toString();
     }
 
     /**
-     * Returns the set of tags of this item.
+     * Returns the tags of this item, separated by spaces.
      *
-     * @return the set of tags of this item.
+     * @return the tags of this item.
      */
     public String getTag() {
-        return tag;
+        return TagDictionary.tagsOf(tagSetId);
+    }
+
+    /**
+     * Returns the id of the set of tags of this item in the {@link TagDictionary}.
+     *
+     * @return the id of the set of tags.
+     */
+    public int getTagSetId() {
+        return tagSetId;
+    }
+
+    /**
+     * Returns whether this item has a tag. A tag no item has ever had is not added to the dictionary.
+     *
+     * @param tag a single tag.
+     * @return true if the item has the tag.
+     */
+    public boolean hasTag(String tag) {
+        int tagId = TagDictionary.findIdOf(tag);
+        return tagId != TagDictionary.UNKNOWN_ID && TagDictionary.hasTag(tagSetId, tagId);
     }
 
     /**
@@ -148,12 +189,7 @@ abstract class DukeItem implements Serializable {
      * @return single String of all the tags
      */
     public String getTagString() {
-        StringJoiner stringJoiner = new StringJoiner(" ");
-        if (tag.isEmpty()) {
-            return "";
-        } else {
-            return tag;
-        }
+        return getTag();
     }
 
 }
@@ -1,21 +1,10 @@
 package duke.model;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.ObjectInput;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutput;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Scanner;
-import java.util.Stack;
 
 import duke.exception.DukeException;
-import duke.exception.DukeRuntimeException;
 import javafx.collections.ObservableList;
 
 /**
@@ -25,25 +14,40 @@ import javafx.collections.ObservableList;
  * @param <T> The {@code DukeItem} contained in the list.
  */
 abstract class DukeList<T extends DukeItem> {
-    private static String STORAGE_DELIMITER = "\n\n";
+    /**
+     * The number of changes that can be undone.
+     */
+    private static final int UNDO_CAPACITY = 100;
 
-    // private final File file;
     private final String itemName;
-    private Stack<byte[]> undoStates;
-    private byte[] currentState;
-    private Stack<byte[]> redoStates;
+    private final EditHistory<T> history;
 
     protected List<T> internalList;
     protected ObservableList<T> externalList;
 
+    /**
+     * Whether changes to {@code internalList} are being recorded for the storage.
+     */
+    private boolean isTrackingChanges;
+    /**
+     * Changes made to {@code internalList} that have not been taken by the storage yet.
+     */
+    private List<ItemChange> pendingChanges = new ArrayList<>();
+
+    /**
+     * The edits reverting the changes made since {@code startEditGroup}, or null if no group is open.
+     */
+    private List<ListEdit<T>> editGroup;
+    /**
+     * The number of {@code pendingChanges} when the open group started, or -1 if the storage has taken
+     * changes made in the group since.
+     */
+    private int editGroupStartChanges;
 
     public DukeList(List<T> internalList, String itemName) {
         this.itemName = itemName;
         this.internalList = internalList;
-
-        undoStates = new Stack<byte[]>();
-        currentState = toByteArray(internalList);
-        redoStates = new Stack<byte[]>();
+        history = new EditHistory<>(UNDO_CAPACITY);
     }
 
     /**
@@ -69,13 +73,37 @@ abstract class DukeList<T extends DukeItem> {
 
     public abstract List<T> view(List<T> currentList);
 
+    /**
+     * Called after an item is added into {@code internalList}.
+     *
+     * @param index the index the item was added at.
+     * @param item  the item added.
+     */
+    protected void onItemAdded(int index, T item) {
+    }
+
+    /**
+     * Called after an item is removed from {@code internalList}.
+     *
+     * @param index the index the item was removed from.
+     * @param item  the item removed.
+     */
+    protected void onItemRemoved(int index, T item) {
+    }
+
+    /**
+     * Called after {@code internalList} is swapped for another list, e.g. when the list is cleared.
+     */
+    protected void onItemsReset() {
+    }
+
     /**
      * Adds an item into {@code internalList}.
      *
      * @param item the item to add.
      */
     public void add(T item) {
-        internalList.add(item);
+        edit(ListEdit.add(internalList.size(), item));
     }
 
     /**
@@ -108,49 +136,184 @@ abstract class DukeList<T extends DukeItem> {
      * @throws DukeException if the index is out of bounds.
      */
     public void remove(int index) throws DukeException {
-        internalList.remove(get(index));
+        edit(ListEdit.remove(internalList.indexOf(get(index))));
+    }
+
+    /**
+     * Replaces an item referenced using its index in {@code externalList} with another item.
+     *
+     * @param index the index of the item to replace in {@code externalList}.
+     * @param item  the item to replace it with.
+     * @throws DukeException if the index is out of bounds.
+     */
+    public void set(int index, T item) throws DukeException {
+        edit(ListEdit.replace(internalList.indexOf(get(index)), item));
     }
 
     /**
      * Removes all items from {@code internalList}.
      */
     public void clear() {
-        internalList.clear();
+        edit(ListEdit.clear(new ArrayList<>()));
+    }
+
+    /**
+     * Reverts the latest changes to {@code internalList}.
+     *
+     * @param times the number of changes to revert.
+     * @return the number of changes reverted, which is less than {@code times} if the history runs out.
+     */
+    public int undo(int times) {
+        int undone = 0;
+        List<ListEdit<T>> inverseEdits;
+        while (undone < times && (inverseEdits = history.popUndo()) != null) {
+            history.pushRedo(applyAll(inverseEdits));
+            undone++;
+        }
+        return undone;
+    }
+
+    /**
+     * Applies again the latest changes to {@code internalList} that were reverted.
+     *
+     * @param times the number of changes to apply again.
+     * @return the number of changes applied, which is less than {@code times} if nothing more was reverted.
+     */
+    public int redo(int times) {
+        int redone = 0;
+        List<ListEdit<T>> edits;
+        while (redone < times && (edits = history.popRedo()) != null) {
+            history.pushUndo(applyAll(edits));
+            redone++;
+        }
+        return redone;
     }
 
+    /**
+     * Starts grouping the following changes to {@code internalList}, so that they are undone together
+     * or can all be reverted if a later change fails.
+     */
+    public void startEditGroup() {
+        editGroup = new ArrayList<>();
+        editGroupStartChanges = pendingChanges.size();
+    }
+
+    /**
+     * Ends the open group, recording its changes as a single change to undo.
+     */
+    public void commitEditGroup() {
+        if (editGroup != null && !editGroup.isEmpty()) {
+            history.push(editGroup);
+        }
+        editGroup = null;
+    }
 
     /**
-     * Taken from https://stackoverflow.com/a/30968827
-     * Converts the current state of {@code internalList} into a byte array so that it can be restored later.
+     * Ends the open group by reverting all of its changes. Changes the storage has not taken yet are
+     * forgotten, so that reverted changes are never saved.
+     */
+    public void rollbackEditGroup() {
+        if (editGroup == null) {
+            return;
+        }
+        applyAll(editGroup);
+        if (editGroupStartChanges >= 0) {
+            pendingChanges.subList(editGroupStartChanges, pendingChanges.size()).clear();
+        }
+        editGroup = null;
+    }
+
+    /**
+     * Applies a new change to {@code internalList} and records how to revert it.
+     */
+    private void edit(ListEdit<T> edit) {
+        if (editGroup != null) {
+            editGroup.add(apply(edit));
+        } else {
+            history.push(Collections.singletonList(apply(edit)));
+        }
+    }
+
+    /**
+     * Applies edits in reverse order, which is the order that reverts the edits they were recorded from.
+     *
+     * @return the edits reverting the applied edits.
+     */
+    private List<ListEdit<T>> applyAll(List<ListEdit<T>> edits) {
+        List<ListEdit<T>> inverseEdits = new ArrayList<>(edits.size());
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            inverseEdits.add(apply(edits.get(i)));
+        }
+        return inverseEdits;
+    }
+
+    /**
+     * Applies an edit to {@code internalList}.
      *
-     * @return the byte array of the current {@code internalList}.
-     */
-    private byte[] toByteArray(List<T> list) {
-        try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            ObjectOutput out = new ObjectOutputStream(bos)) {
-            out.writeObject(list);
-            return bos.toByteArray();
-        } catch (IOException e) {
-            throw new DukeRuntimeException("Failed to create byte array from list.", e);
+     * @return the edit reverting it.
+     */
+    private ListEdit<T> apply(ListEdit<T> edit) {
+        switch (edit.getType()) {
+        case ADD:
+            internalList.add(edit.getIndex(), edit.getItem());
+            recordChange(ItemChange.Type.ADD, edit.getItem().toStorageString());
+            onItemAdded(edit.getIndex(), edit.getItem());
+            return ListEdit.remove(edit.getIndex());
+
+        case REMOVE:
+            T removedItem = internalList.remove(edit.getIndex());
+            recordChange(ItemChange.Type.REMOVE, removedItem.toStorageString());
+            onItemRemoved(edit.getIndex(), removedItem);
+            return ListEdit.add(edit.getIndex(), removedItem);
+
+        case REPLACE:
+            T replacedItem = internalList.set(edit.getIndex(), edit.getItem());
+            recordChange(ItemChange.Type.REMOVE, replacedItem.toStorageString());
+            recordChange(ItemChange.Type.ADD, edit.getItem().toStorageString());
+            onItemRemoved(edit.getIndex(), replacedItem);
+            onItemAdded(edit.getIndex(), edit.getItem());
+            return ListEdit.replace(edit.getIndex(), replacedItem);
+
+        default: // case CLEAR:
+            final List<T> previousList = internalList;
+            internalList = edit.getList();
+            recordChange(ItemChange.Type.CLEAR, "");
+            for (T item : internalList) {
+                recordChange(ItemChange.Type.ADD, item.toStorageString());
+            }
+            onItemsReset();
+            return ListEdit.clear(previousList);
         }
     }
 
     /**
-     * Taken from https://stackoverflow.com/a/30968827
-     * Returns a list corresponding to a previous state of {@code internalList}.
-     * Casting to {@code List<T>} causes the warning. As the code is self-contained, there is no risk of
-     * the object in {@code bytes} not being one of type {@code List<T>}.
+     * Starts recording the changes made to {@code internalList}, so that the storage can save
+     * only what has changed instead of the whole list.
+     */
+    public void startTrackingChanges() {
+        isTrackingChanges = true;
+        pendingChanges.clear();
+    }
+
+    public boolean isTrackingChanges() {
+        return isTrackingChanges;
+    }
+
+    /**
+     * Returns the changes made since the last call, in the order they were made, and forgets them.
      *
-     * @param bytes a byte array corresponding to a previous state of {@code internalList}.
-     * @return the previous state of {@code internalList}.
-     */
-    @SuppressWarnings("unchecked")
-    private List<T> fromByteArray(byte[] bytes) {
-        try (ByteArrayInputStream bis = new ByteArrayInputStream(bytes);
-            ObjectInput in = new ObjectInputStream(bis)) {
-            return (List<T>) in.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            throw new DukeRuntimeException("Failed to load list from byte array.", e);
+     * @return the pending changes.
+     */
+    public List<ItemChange> takeChanges() {
+        List<ItemChange> changes = pendingChanges;
+        pendingChanges = new ArrayList<>();
+        editGroupStartChanges = -1;
+        return changes;
+    }
+
+    private void recordChange(ItemChange.Type type, String storageString) {
+        if (isTrackingChanges) {
+            pendingChanges.add(new ItemChange(type, storageString));
         }
     }
-}
\ No newline at end of file
+}
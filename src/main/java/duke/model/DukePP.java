@@ -15,6 +15,8 @@ import javafx.collections.transformation.FilteredList;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -43,6 +45,12 @@ public class DukePP implements Model {
     public ObservableList<Expense> externalExpenseList;
     public ObservableList<Income> externalIncomeList;
 
+    // The state to restore when the open transaction is rolled back, or null if there is none.
+    private List<Payment> paymentsBeforeTransaction;
+    private BigDecimal monthlyBudgetBeforeTransaction;
+    private Map<String, BigDecimal> budgetCategoryBeforeTransaction;
+    private Map<Integer, String> budgetViewBeforeTransaction;
+
 
     /**
      * Creates a DukePP.
@@ -77,12 +85,20 @@ public class DukePP implements Model {
         expenseList.remove(index);
     }
 
+    public void setExpense(int index, Expense expense) throws DukeException {
+        expenseList.set(index, expense);
+    }
+
     public void clearExpense() {
         expenseList.clear();
     }
 
-    public void filterExpense(String filterCriteria) throws DukeException {
-        expenseList.setFilterCriteria(filterCriteria);
+    public void filterExpense(ExpenseFilter filter) {
+        expenseList.setFilter(filter);
+    }
+
+    public void searchExpense(String keyword) {
+        expenseList.search(keyword);
     }
 
     public void sortExpense(String sortCriteria) throws DukeException {
@@ -93,6 +109,14 @@ public class DukePP implements Model {
         expenseList.setViewScope(viewScope, previous);
     }
 
+    public int undoExpense(int times) {
+        return expenseList.undo(times);
+    }
+
+    public int redoExpense(int times) {
+        return expenseList.redo(times);
+    }
+
     /**
      * Returns external expense list.
      *
@@ -246,7 +270,7 @@ public class DukePP implements Model {
     }
 
     public void filterIncome(String filterCriteria) throws DukeException {
-        expenseList.setFilterCriteria(filterCriteria);
+        incomeList.setFilterCriteria(filterCriteria);
     }
 
     public void sortIncome(String sortCriteria) throws DukeException {
@@ -297,17 +321,17 @@ public class DukePP implements Model {
     }
 
     public void setMonthPredicate() {
-        PaymentInMonthPredicate monthPredicate = new PaymentInMonthPredicate();
+        PaymentInMonthPredicate monthPredicate = new PaymentInMonthPredicate(payments.getDueScheduler());
         payments.setTimePredicate(monthPredicate);
     }
 
     public void setWeekPredicate() {
-        PaymentInWeekPredicate weekPredicate = new PaymentInWeekPredicate();
+        PaymentInWeekPredicate weekPredicate = new PaymentInWeekPredicate(payments.getDueScheduler());
         payments.setTimePredicate(weekPredicate);
     }
 
     public void setOverduePredicate() {
-        PaymentOverduePredicate overduePredicate = new PaymentOverduePredicate();
+        PaymentOverduePredicate overduePredicate = new PaymentOverduePredicate(payments.getDueScheduler());
         payments.setTimePredicate(overduePredicate);
     }
 
@@ -342,4 +366,43 @@ public class DukePP implements Model {
         return payments.getPredicateIndicator();
     }
 
+    //************************************************************
+    // Transaction operations
+
+    @Override
+    public void startTransaction() {
+        expenseList.startEditGroup();
+        incomeList.startEditGroup();
+        paymentsBeforeTransaction = new ArrayList<>(payments.getInternalList());
+        monthlyBudgetBeforeTransaction = budget.getMonthlyBudget();
+        budgetCategoryBeforeTransaction = new HashMap<>(budget.getBudgetCategory());
+        budgetViewBeforeTransaction = new HashMap<>(budgetView.getBudgetViewCategory());
+    }
+
+    @Override
+    public void commitTransaction() {
+        expenseList.commitEditGroup();
+        incomeList.commitEditGroup();
+        paymentsBeforeTransaction = null;
+        budgetCategoryBeforeTransaction = null;
+        budgetViewBeforeTransaction = null;
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        if (paymentsBeforeTransaction == null) {
+            return;
+        }
+        expenseList.rollbackEditGroup();
+        incomeList.rollbackEditGroup();
+        payments.setPayments(paymentsBeforeTransaction);
+        budget.getBudgetCategory().clear();
+        budget.getBudgetCategory().putAll(budgetCategoryBeforeTransaction);
+        budget.setMonthlyBudget(monthlyBudgetBeforeTransaction);
+        budgetView.getBudgetViewCategory().clear();
+        budgetView.getBudgetViewCategory().putAll(budgetViewBeforeTransaction);
+        paymentsBeforeTransaction = null;
+        budgetCategoryBeforeTransaction = null;
+        budgetViewBeforeTransaction = null;
+    }
 }
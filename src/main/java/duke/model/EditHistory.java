@@ -0,0 +1,86 @@
+package duke.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The undo and redo history of a {@code DukeList}, holding the edits that revert each change.
+ * The undo history is a ring buffer, so that once it is full the oldest change is forgotten.
+ * Each entry holds the edits of one change, in the order they were applied.
+ *
+ * @param <T> the {@code DukeItem} contained in the list.
+ */
+class EditHistory<T extends DukeItem> {
+    private final Object[] undoEntries;
+    private final Deque<List<ListEdit<T>>> redoEntries;
+    private int newest;
+    private int undoSize;
+
+    /**
+     * Constructs an empty history.
+     *
+     * @param capacity the number of changes that can be undone.
+     */
+    EditHistory(int capacity) {
+        undoEntries = new Object[capacity];
+        redoEntries = new ArrayDeque<>();
+        newest = -1;
+    }
+
+    /**
+     * Records the edits reverting a new change. Changes that were undone can no longer be redone.
+     *
+     * @param inverseEdits the edits reverting the change.
+     */
+    void push(List<ListEdit<T>> inverseEdits) {
+        pushUndo(inverseEdits);
+        redoEntries.clear();
+    }
+
+    /**
+     * Records the edits reverting a change that was redone, keeping the remaining changes redoable.
+     *
+     * @param inverseEdits the edits reverting the change.
+     */
+    void pushUndo(List<ListEdit<T>> inverseEdits) {
+        newest = (newest + 1) % undoEntries.length;
+        undoEntries[newest] = inverseEdits;
+        undoSize = Math.min(undoSize + 1, undoEntries.length);
+    }
+
+    /**
+     * Removes and returns the edits reverting the latest change.
+     *
+     * @return the edits, or null if there is nothing to undo.
+     */
+    @SuppressWarnings("unchecked")
+    List<ListEdit<T>> popUndo() {
+        if (undoSize == 0) {
+            return null;
+        }
+        final List<ListEdit<T>> inverseEdits = (List<ListEdit<T>>) undoEntries[newest];
+        undoEntries[newest] = null;
+        newest = (newest - 1 + undoEntries.length) % undoEntries.length;
+        undoSize--;
+        return inverseEdits;
+    }
+
+    /**
+     * Records the edits redoing a change that was undone.
+     *
+     * @param edits the edits redoing the change.
+     */
+    void pushRedo(List<ListEdit<T>> edits) {
+        redoEntries.push(edits);
+    }
+
+    /**
+     * Removes and returns the edits redoing the latest undone change.
+     *
+     * @return the edits, or null if there is nothing to redo.
+     */
+    List<ListEdit<T>> popRedo() {
+        return redoEntries.poll();
+    }
+}
@@ -10,11 +10,13 @@ import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.StringJoiner;
 
+import static java.util.Objects.requireNonNull;
+
 public class Expense extends DukeItem {
     /**
      * The amount of money of the expense.
      */
-    private final BigDecimal amount;
+    private final Money amount;
     /**
      * The description of the expense.
      */
@@ -22,25 +24,28 @@ public class Expense extends DukeItem {
     /**
      * Whether or not the expense is tentative.
      */
-    private boolean isTentative;
+    private final boolean isTentative;
     /**
      * The time of the expense.
      */
     private final LocalDateTime time;
     /**
-     * Is true if expense is a recurring one.
+     * How often the expense recurs from its day, or null if it is not a recurring one.
      */
-    private boolean isRecurring;
+    private final Recurrence recurrence;
 
     /**
      * {@inheritDoc}
      */
     public static class Builder extends DukeItem.Builder<Builder> {
-        private BigDecimal amount = BigDecimal.ZERO;
+        private Money amount = Money.ZERO;
         private String description = "";
         private boolean isTentative = false;
-        private boolean isRecurring = false;
-        private LocalDateTime time = LocalDateTime.now();
+        private Recurrence recurrence;
+        /**
+         * The time of the expense, or null to use the time the expense is built.
+         */
+        private LocalDateTime time;
 
         public Builder() {
 
@@ -56,6 +61,7 @@ public class Expense extends DukeItem {
             amount = expense.amount;
             description = expense.description;
             isTentative = expense.isTentative;
+            recurrence = expense.recurrence;
             time = expense.time;
         }
 
@@ -65,7 +71,7 @@ public class Expense extends DukeItem {
          */
         public Builder(Payment payment) {
             setTag(payment.getTag());
-            amount = payment.getAmount();
+            amount = Money.of(payment.getAmount().setScale(2, RoundingMode.HALF_EVEN));
             description = payment.getDescription();
             isTentative = false;
             time = LocalDateTime.now();
@@ -98,6 +104,9 @@ public class Expense extends DukeItem {
             if (mappedStorageString.containsKey("isRecurring")) {
                 setRecurring(Boolean.parseBoolean(mappedStorageString.get("isRecurring")));
             }
+            if (mappedStorageString.containsKey("recurrence")) {
+                setRecurrence(Recurrence.parse(mappedStorageString.get("recurrence")));
+            }
         }
 
         /**
@@ -105,13 +114,13 @@ public class Expense extends DukeItem {
          *
          * @param amount the amount of the expense as a string.
          * @return this builder.
-         * @throws DukeException if the value in amount cannot be converted into a {@code BigDecimal},
-         *                       or if the {@code BigDecimal} does not represent a valid amount.
-         * @see #setAmount(BigDecimal)
+         * @throws DukeException if the value in amount is not a decimal with at most two decimal places.
+         * @see Money#parse(String)
          */
         public Builder setAmount(String amount) throws DukeException {
             try {
-                return setAmount(new BigDecimal(amount));
+                this.amount = Money.parse(amount);
+                return this;
             } catch (NumberFormatException e) {
                 throw new DukeException(String.format(DukeException.MESSAGE_EXPENSE_AMOUNT_INVALID, amount));
             }
@@ -125,11 +134,23 @@ public class Expense extends DukeItem {
          * @throws DukeException if the {@code BigDecimal} does not represent a valid amount.
          */
         public Builder setAmount(BigDecimal amount) throws DukeException {
-            if (amount.scale() > 2) {
+            try {
+                this.amount = Money.of(amount);
+                return this;
+            } catch (ArithmeticException e) {
                 throw new DukeException(
                         String.format(DukeException.MESSAGE_EXPENSE_AMOUNT_INVALID, amount.toPlainString()));
             }
-            this.amount = amount.setScale(2, RoundingMode.UNNECESSARY);
+        }
+
+        /**
+         * Sets the amount of the expense.
+         *
+         * @param amount the amount of the expense.
+         * @return this builder.
+         */
+        public Builder setAmount(Money amount) {
+            this.amount = requireNonNull(amount);
             return this;
         }
 
@@ -140,7 +161,7 @@ public class Expense extends DukeItem {
          * @return this builder.
          */
         public Builder setDescription(String description) {
-            this.description = description;
+            this.description = DescriptionPool.intern(description);
             return this;
         }
 
@@ -156,13 +177,29 @@ public class Expense extends DukeItem {
         }
 
         /**
-         * Sets the expense as a recurring expense.
+         * Sets the expense as a recurring expense. A recurring expense recurs every month unless
+         * {@link #setRecurrence(Recurrence)} says otherwise.
          *
-         * @param recurring whether the expense is tentative.
+         * @param recurring whether the expense is recurring.
          * @return this builder.
          */
         public Builder setRecurring(boolean recurring) {
-            isRecurring = recurring;
+            if (!recurring) {
+                recurrence = null;
+            } else if (recurrence == null) {
+                recurrence = Recurrence.MONTHLY;
+            }
+            return this;
+        }
+
+        /**
+         * Sets how often the expense recurs from its day.
+         *
+         * @param recurrence the rule of the recurrence, or null if the expense is not recurring.
+         * @return this builder.
+         */
+        public Builder setRecurrence(Recurrence recurrence) {
+            this.recurrence = recurrence;
             return this;
         }
 
@@ -214,8 +251,8 @@ public class Expense extends DukeItem {
         amount = builder.amount;
         description = builder.description;
         isTentative = builder.isTentative;
-        isRecurring = builder.isRecurring;
-        time = builder.time;
+        recurrence = builder.recurrence;
+        time = builder.time == null ? LocalDateTime.now() : builder.time;
     }
 
     /**
@@ -224,6 +261,15 @@ public class Expense extends DukeItem {
      * @return {@link #amount}.
      */
     public BigDecimal getAmount() {
+        return amount.toBigDecimal();
+    }
+
+    /**
+     * Returns the amount of the expense , whose cents can be added up without allocating.
+     *
+     * @return {@link #amount}.
+     */
+    public Money getMoney() {
         return amount;
     }
 
@@ -245,10 +291,6 @@ public class Expense extends DukeItem {
         return isTentative;
     }
 
-    public void setTentative(boolean val) {
-        isTentative = val;
-    }
-
     /**
      * Returns the date of the expense.
      *
@@ -261,10 +303,35 @@ public class Expense extends DukeItem {
     /**
      * Returns whether the expense is recurring.
      *
-     * @return {@link #isTentative}.
+     * @return whether the expense has a {@link #recurrence}.
      */
     public boolean isRecurring() {
-        return isRecurring;
+        return recurrence != null;
+    }
+
+    /**
+     * Returns how often the expense recurs from its day.
+     *
+     * @return {@link #recurrence}, or null if the expense is not recurring.
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Returns the number of times the expense occurs from {@code fromDay} to {@code toDay} inclusive.
+     * An expense that is not recurring occurs once, on its day.
+     *
+     * @param fromDay the first day of the range, in epoch days.
+     * @param toDay   the last day of the range, in epoch days.
+     * @return the number of occurrences in the range.
+     */
+    public long countOccurrences(long fromDay, long toDay) {
+        if (recurrence != null) {
+            return recurrence.count(time.toLocalDate(), fromDay, toDay);
+        }
+        long day = time.toLocalDate().toEpochDay();
+        return day >= fromDay && day <= toDay ? 1 : 0;
     }
 
 
@@ -274,7 +341,7 @@ public class Expense extends DukeItem {
      * @return String of time that is formatted
      */
     public String getTimeString() {
-        if (isRecurring) {
+        if (recurrence != null) {
             return "recurring";
         }
         return Parser.formatTime(time);
@@ -294,7 +361,10 @@ public class Expense extends DukeItem {
         stringJoiner.add("description" + STORAGE_NAME_SEPARATOR + description);
         stringJoiner.add("time" + STORAGE_NAME_SEPARATOR + Parser.formatTime(time));
         stringJoiner.add("isTentative" + STORAGE_NAME_SEPARATOR + isTentative);
-        stringJoiner.add("isRecurring" + STORAGE_NAME_SEPARATOR + isRecurring);
+        stringJoiner.add("isRecurring" + STORAGE_NAME_SEPARATOR + isRecurring());
+        if (recurrence != null) {
+            stringJoiner.add("recurrence" + STORAGE_NAME_SEPARATOR + recurrence);
+        }
         return stringJoiner.toString();
     }
 }
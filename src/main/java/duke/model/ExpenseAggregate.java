@@ -0,0 +1,193 @@
+package duke.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Running totals over a set of expenses, kept up to date as expenses are added and removed so that
+ * reading a total never scans the expenses.
+ * Keeps the total of confirmed expenses per set of tags, the grand total of confirmed expenses and the total of
+ * tentative expenses.
+ *
+ * <p>Tag totals are looked up by a query of one or more tags, which matches every expense having all of
+ * them, as the budget bars and the pie chart do. The answer to each query is cached and kept up to date on
+ * every change; hits and misses of that cache are counted.
+ *
+ * <p>An expense may be counted more than once, as a recurring expense is in a period it occurs in several times.
+ *
+ * <p>All totals are kept in cents and indexed by the id of the set of tags, so that an update adds up
+ * primitive {@code long}s and compares no strings. Each set of tags is matched against the queries once,
+ * when it is first seen.
+ */
+class ExpenseAggregate {
+    private static final int[] NO_QUERIES = new int[0];
+
+    /**
+     * The total of every set of tags, by set id.
+     */
+    private long[] setTotals = new long[0];
+    /**
+     * The indices of the queries every set of tags matches, by set id, or null for a set not seen yet.
+     */
+    private int[][] setQueries = new int[0][];
+    private final Map<String, Integer> queryIndices = new HashMap<>();
+    /**
+     * The ids of the tags of every query, by query index.
+     */
+    private final List<int[]> queries = new ArrayList<>();
+    private long[] queryTotals = new long[0];
+    private long total;
+    private long tentativeTotal;
+    private long hitCount;
+    private long missCount;
+
+    void add(Expense expense) {
+        add(expense, 1);
+    }
+
+    void add(Expense expense, long times) {
+        update(expense, Math.multiplyExact(expense.getMoney().getCents(), times));
+    }
+
+    void remove(Expense expense) {
+        remove(expense, 1);
+    }
+
+    void remove(Expense expense, long times) {
+        update(expense, Math.negateExact(Math.multiplyExact(expense.getMoney().getCents(), times)));
+    }
+
+    /**
+     * Replaces the content of the aggregate with the given expenses.
+     *
+     * @param expenses the expenses to aggregate.
+     */
+    void reset(Iterable<Expense> expenses) {
+        reset(expenses, expense -> 1);
+    }
+
+    /**
+     * Replaces the content of the aggregate with the given expenses, each counted a number of times.
+     *
+     * @param expenses the expenses to aggregate.
+     * @param timesOf  returns the number of times an expense is counted.
+     */
+    void reset(Iterable<Expense> expenses, ToLongFunction<Expense> timesOf) {
+        setTotals = new long[0];
+        setQueries = new int[0][];
+        queryIndices.clear();
+        queries.clear();
+        queryTotals = new long[0];
+        total = 0;
+        tentativeTotal = 0;
+        for (Expense expense : expenses) {
+            add(expense, timesOf.applyAsLong(expense));
+        }
+    }
+
+    private void update(Expense expense, long amount) {
+        if (expense.isTentative()) {
+            tentativeTotal = Math.addExact(tentativeTotal, amount);
+            return;
+        }
+        total = Math.addExact(total, amount);
+        int setId = expense.getTagSetId();
+        if (setId >= setTotals.length) {
+            int length = Math.max(setId + 1, TagDictionary.setCount());
+            setTotals = Arrays.copyOf(setTotals, length);
+            setQueries = Arrays.copyOf(setQueries, length);
+        }
+        if (setQueries[setId] == null) {
+            setQueries[setId] = matchQueries(TagDictionary.sharedTagIdsOf(setId));
+        }
+        setTotals[setId] = Math.addExact(setTotals[setId], amount);
+        for (int query : setQueries[setId]) {
+            queryTotals[query] = Math.addExact(queryTotals[query], amount);
+        }
+    }
+
+    private int[] matchQueries(int[] tags) {
+        int[] matches = NO_QUERIES;
+        for (int i = 0; i < queries.size(); i++) {
+            if (containsAll(tags, queries.get(i))) {
+                matches = Arrays.copyOf(matches, matches.length + 1);
+                matches[matches.length - 1] = i;
+            }
+        }
+        return matches;
+    }
+
+    private static boolean containsAll(int[] tags, int[] queryTags) {
+        for (int queryTag : queryTags) {
+            boolean isFound = false;
+            for (int tag : tags) {
+                if (tag == queryTag) {
+                    isFound = true;
+                    break;
+                }
+            }
+            if (!isFound) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the total of confirmed expenses.
+     *
+     * @return the total in cents.
+     */
+    long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the total of tentative expenses.
+     *
+     * @return the total in cents.
+     */
+    long getTentativeTotal() {
+        return tentativeTotal;
+    }
+
+    /**
+     * Returns the total of confirmed expenses having every tag of the query.
+     *
+     * @param query the tags the expenses should have, separated by spaces.
+     * @return the total of the matching expenses in cents.
+     */
+    long getTagTotal(String query) {
+        Integer index = queryIndices.get(query);
+        if (index != null) {
+            hitCount++;
+            return queryTotals[index];
+        }
+        missCount++;
+        int newIndex = queries.size();
+        int[] queryTags = TagDictionary.sharedTagIdsOf(TagDictionary.setIdOf(query));
+        queries.add(queryTags);
+        queryIndices.put(query, newIndex);
+        queryTotals = Arrays.copyOf(queryTotals, newIndex + 1);
+        for (int setId = 0; setId < setQueries.length; setId++) {
+            if (setQueries[setId] != null && containsAll(TagDictionary.sharedTagIdsOf(setId), queryTags)) {
+                setQueries[setId] = Arrays.copyOf(setQueries[setId], setQueries[setId].length + 1);
+                setQueries[setId][setQueries[setId].length - 1] = newIndex;
+                queryTotals[newIndex] = Math.addExact(queryTotals[newIndex], setTotals[setId]);
+            }
+        }
+        return queryTotals[newIndex];
+    }
+
+    long getHitCount() {
+        return hitCount;
+    }
+
+    long getMissCount() {
+        return missCount;
+    }
+}
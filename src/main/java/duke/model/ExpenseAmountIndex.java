@@ -0,0 +1,115 @@
+package duke.model;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A secondary index of expenses by amount, so that the expenses within a range of amounts can be found
+ * by binary search instead of by scanning every expense.
+ * Keeps the expenses in an array sorted by amount, next to an array of their amounts in cents.
+ */
+class ExpenseAmountIndex {
+    private Expense[] expenses = new Expense[16];
+    private long[] cents = new long[16];
+    private int size;
+
+    void add(Expense expense) {
+        if (size == expenses.length) {
+            expenses = Arrays.copyOf(expenses, size * 2);
+            cents = Arrays.copyOf(cents, size * 2);
+        }
+        long amount = expense.getMoney().getCents();
+        int position = firstAbove(amount);
+        System.arraycopy(expenses, position, expenses, position + 1, size - position);
+        System.arraycopy(cents, position, cents, position + 1, size - position);
+        expenses[position] = expense;
+        cents[position] = amount;
+        size++;
+    }
+
+    void remove(Expense expense) {
+        long amount = expense.getMoney().getCents();
+        for (int position = firstAtLeast(amount); position < size && cents[position] == amount; position++) {
+            if (expenses[position] == expense) {
+                System.arraycopy(expenses, position + 1, expenses, position, size - position - 1);
+                System.arraycopy(cents, position + 1, cents, position, size - position - 1);
+                expenses[--size] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Replaces the content of the index with the given expenses.
+     *
+     * @param expenses the expenses to index.
+     */
+    void reset(List<Expense> expenses) {
+        size = expenses.size();
+        this.expenses = expenses.toArray(new Expense[Math.max(size, 16)]);
+        Arrays.sort(this.expenses, 0, size, Comparator.comparingLong(expense -> expense.getMoney().getCents()));
+        cents = new long[this.expenses.length];
+        for (int i = 0; i < size; i++) {
+            cents[i] = this.expenses[i].getMoney().getCents();
+        }
+    }
+
+    /**
+     * Returns the number of expenses {@link #find(long, long)} would return, without collecting them.
+     *
+     * @param minCents the smallest amount, in cents.
+     * @param maxCents the largest amount, in cents.
+     * @return the number of expenses in the range.
+     */
+    int count(long minCents, long maxCents) {
+        return Math.max(0, firstAbove(maxCents) - firstAtLeast(minCents));
+    }
+
+    /**
+     * Returns the expenses of amounts from {@code minCents} to {@code maxCents} inclusive, from the smallest.
+     *
+     * @param minCents the smallest amount, in cents.
+     * @param maxCents the largest amount, in cents.
+     * @return the expenses in the range.
+     */
+    List<Expense> find(long minCents, long maxCents) {
+        int start = firstAtLeast(minCents);
+        int end = Math.max(start, firstAbove(maxCents));
+        return Arrays.asList(Arrays.copyOfRange(expenses, start, end));
+    }
+
+    /**
+     * Returns the position of the first expense of at least the given amount.
+     */
+    private int firstAtLeast(long amount) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cents[middle] < amount) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first expense of more than the given amount.
+     */
+    private int firstAbove(long amount) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cents[middle] <= amount) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,42 @@
+package duke.model;
+
+import java.util.List;
+
+/**
+ * The stored expenses which are not loaded into an {@code ExpenseList} yet.
+ * The list loads them from here when it first needs the days they were made on,
+ * and adds their totals to its own until then.
+ */
+public interface ExpenseArchive {
+
+    /**
+     * Returns the number of expenses not loaded yet.
+     *
+     * @return the number of expenses left in the archive.
+     */
+    int getCount();
+
+    /**
+     * Returns the total amount of the confirmed expenses not loaded yet.
+     *
+     * @return the total of the confirmed expenses left in the archive.
+     */
+    Money getTotal();
+
+    /**
+     * Returns the total amount of the tentative expenses not loaded yet.
+     *
+     * @return the total of the tentative expenses left in the archive.
+     */
+    Money getTentativeTotal();
+
+    /**
+     * Takes the expenses made from {@code startDay} to {@code endDay} out of the archive.
+     * More expenses may be returned than asked for, as the archive loads them in whole batches.
+     *
+     * @param startDay the first day, in epoch days.
+     * @param endDay   the last day, in epoch days.
+     * @return the expenses loaded, which are no longer counted by the archive.
+     */
+    List<Expense> load(long startDay, long endDay);
+}
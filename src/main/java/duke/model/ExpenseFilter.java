@@ -0,0 +1,320 @@
+package duke.model;
+
+import duke.exception.DukeException;
+import duke.logic.parser.Parser;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Predicate;
+
+/**
+ * The criteria an expense must meet to be shown, compiled once into a short pipeline of checks.
+ *
+ * <p>An expense passes the filter if it has every tag of the filter, its amount is within the amount range,
+ * its day is within the date range, its description contains the description of the filter ignoring case,
+ * its description or tags contain the keyword of the filter ignoring case, and it is tentative or recurring
+ * if the filter asks for that. Like the view scope, the date range keeps the
+ * recurring expenses occurring within it at least once. Criteria that are not given are not checked.
+ *
+ * <p>Every criterion is resolved when the filter is built: known tags into tag ids, amounts into cents,
+ * dates into epoch days and the description into lower case. Tags are only looked up, so a mistyped tag
+ * adds nothing to the {@link TagDictionary} and no expense passes until one has the tag. The checks are
+ * ordered from the cheapest to the most expensive, so most expenses that fail are turned away by comparing
+ * a few numbers. {@code ExpenseList} also reads the criteria to look candidates up in whichever
+ * of its indices narrows them down most.
+ */
+public final class ExpenseFilter implements Predicate<Expense> {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final int[] NO_TAGS = new int[0];
+
+    /**
+     * The filter every expense passes.
+     */
+    public static final ExpenseFilter NONE = new Builder().build();
+
+    private final String tags;
+    /**
+     * The ids of the tags, from the smallest, looked up again while any of the tags is not yet known,
+     * since an expense with the tag may be added after the filter is built.
+     */
+    private volatile int[] tagIds;
+    private final long minCents;
+    private final long maxCents;
+    private final long fromDay;
+    private final long toDay;
+    private final String description;
+    private final String keyword;
+    private final boolean isTentativeOnly;
+    private final boolean isRecurringOnly;
+    private final String criteria;
+    private final List<Predicate<Expense>> checks = new ArrayList<>();
+
+    public static class Builder {
+        private String tag = "";
+        private Money minAmount;
+        private Money maxAmount;
+        private LocalDate from;
+        private LocalDate to;
+        private String description = "";
+        private String keyword = "";
+        private boolean isTentativeOnly;
+        private boolean isRecurringOnly;
+
+        /**
+         * Sets the tags the expenses must all have.
+         *
+         * @param tag the tags separated by spaces.
+         * @return this builder.
+         */
+        public Builder setTag(String tag) {
+            this.tag = tag;
+            return this;
+        }
+
+        /**
+         * Sets the smallest amount of the expenses.
+         *
+         * @param minAmount the amount as a string.
+         * @return this builder.
+         * @throws DukeException if the amount is not a decimal with at most two decimal places.
+         */
+        public Builder setMinAmount(String minAmount) throws DukeException {
+            this.minAmount = parseAmount(minAmount);
+            return this;
+        }
+
+        /**
+         * Sets the largest amount of the expenses.
+         *
+         * @param maxAmount the amount as a string.
+         * @return this builder.
+         * @throws DukeException if the amount is not a decimal with at most two decimal places.
+         */
+        public Builder setMaxAmount(String maxAmount) throws DukeException {
+            this.maxAmount = parseAmount(maxAmount);
+            return this;
+        }
+
+        /**
+         * Sets the first day the expenses may be made on.
+         *
+         * @param from the day as dd/MM/yyyy.
+         * @return this builder.
+         * @throws DukeException if the day is not a valid date.
+         */
+        public Builder setFrom(String from) throws DukeException {
+            this.from = Parser.parseDate(from);
+            return this;
+        }
+
+        /**
+         * Sets the last day the expenses may be made on.
+         *
+         * @param to the day as dd/MM/yyyy.
+         * @return this builder.
+         * @throws DukeException if the day is not a valid date.
+         */
+        public Builder setTo(String to) throws DukeException {
+            this.to = Parser.parseDate(to);
+            return this;
+        }
+
+        public Builder setDescription(String description) {
+            this.description = description == null ? "" : description.trim();
+            return this;
+        }
+
+        /**
+         * Sets a keyword the description or the tags of the expenses must contain.
+         *
+         * @param keyword the keyword.
+         * @return this builder.
+         */
+        public Builder setKeyword(String keyword) {
+            this.keyword = keyword == null ? "" : keyword.trim();
+            return this;
+        }
+
+        public Builder setTentative(boolean isTentativeOnly) {
+            this.isTentativeOnly = isTentativeOnly;
+            return this;
+        }
+
+        public Builder setRecurring(boolean isRecurringOnly) {
+            this.isRecurringOnly = isRecurringOnly;
+            return this;
+        }
+
+        public ExpenseFilter build() {
+            return new ExpenseFilter(this);
+        }
+
+        private static Money parseAmount(String amount) throws DukeException {
+            try {
+                return Money.parse(amount.trim());
+            } catch (NumberFormatException | NullPointerException e) {
+                throw new DukeException(String.format(DukeException.MESSAGE_EXPENSE_AMOUNT_INVALID, amount));
+            }
+        }
+    }
+
+    private ExpenseFilter(Builder builder) {
+        tags = builder.tag.trim().replaceAll("\\s+", " ");
+        tagIds = TagDictionary.findTagIdsOf(tags);
+        minCents = builder.minAmount == null ? Long.MIN_VALUE : builder.minAmount.getCents();
+        maxCents = builder.maxAmount == null ? Long.MAX_VALUE : builder.maxAmount.getCents();
+        fromDay = builder.from == null ? LocalDate.MIN.toEpochDay() : builder.from.toEpochDay();
+        toDay = builder.to == null ? LocalDate.MAX.toEpochDay() : builder.to.toEpochDay();
+        description = builder.description.toLowerCase();
+        keyword = builder.keyword.toLowerCase();
+        isTentativeOnly = builder.isTentativeOnly;
+        isRecurringOnly = builder.isRecurringOnly;
+
+        StringJoiner criteria = new StringJoiner(" ");
+        if (!description.isEmpty()) {
+            criteria.add(builder.description);
+        }
+        if (!keyword.isEmpty()) {
+            criteria.add("/keyword " + builder.keyword);
+        }
+        if (hasTags()) {
+            criteria.add("/tag " + tags);
+        }
+        if (builder.minAmount != null) {
+            criteria.add("/min " + builder.minAmount);
+        }
+        if (builder.maxAmount != null) {
+            criteria.add("/max " + builder.maxAmount);
+        }
+        if (builder.from != null) {
+            criteria.add("/from " + builder.from.format(DATE_FORMATTER));
+        }
+        if (builder.to != null) {
+            criteria.add("/to " + builder.to.format(DATE_FORMATTER));
+        }
+        if (isTentativeOnly) {
+            criteria.add("/tentative");
+        }
+        if (isRecurringOnly) {
+            criteria.add("/recurring");
+        }
+        this.criteria = criteria.toString();
+
+        compile();
+    }
+
+    /**
+     * Adds a check for every criterion given, from the cheapest to the most expensive.
+     */
+    private void compile() {
+        if (isTentativeOnly) {
+            checks.add(Expense::isTentative);
+        }
+        if (isRecurringOnly) {
+            checks.add(Expense::isRecurring);
+        }
+        if (hasAmountRange()) {
+            checks.add(expense -> {
+                long cents = expense.getMoney().getCents();
+                return cents >= minCents && cents <= maxCents;
+            });
+        }
+        if (hasTags()) {
+            checks.add(expense -> ExpenseTagIndex.matches(expense, getTagIds(), NO_TAGS));
+        }
+        if (hasDateRange()) {
+            checks.add(expense -> expense.countOccurrences(fromDay, toDay) > 0);
+        }
+        if (!description.isEmpty()) {
+            checks.add(expense -> expense.getDescription() != null
+                    && expense.getDescription().toLowerCase().contains(description));
+        }
+        if (!keyword.isEmpty()) {
+            checks.add(expense -> (expense.getDescription() != null
+                    && expense.getDescription().toLowerCase().contains(keyword))
+                    || expense.getTag().toLowerCase().contains(keyword));
+        }
+    }
+
+    /**
+     * Returns whether an expense passes the filter.
+     *
+     * @param expense the expense to check.
+     * @return true if the expense meets every criterion.
+     */
+    @Override
+    public boolean test(Expense expense) {
+        for (Predicate<Expense> check : checks) {
+            if (!check.test(expense)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether every expense passes the filter.
+     *
+     * @return true if no criterion is given.
+     */
+    public boolean isEmpty() {
+        return checks.isEmpty();
+    }
+
+    /**
+     * Returns the text an expense must contain somewhere in its description or tags to pass the filter.
+     *
+     * @return the keyword if there is one, else the description, in lower case, or an empty string.
+     */
+    String getSearchText() {
+        return keyword.isEmpty() ? description : keyword;
+    }
+
+    boolean hasTags() {
+        return tagIds.length > 0;
+    }
+
+    int[] getTagIds() {
+        if (tagIds.length > 0 && tagIds[0] == TagDictionary.UNKNOWN_ID) {
+            tagIds = TagDictionary.findTagIdsOf(tags);
+        }
+        return tagIds;
+    }
+
+    boolean hasAmountRange() {
+        return minCents != Long.MIN_VALUE || maxCents != Long.MAX_VALUE;
+    }
+
+    long getMinCents() {
+        return minCents;
+    }
+
+    long getMaxCents() {
+        return maxCents;
+    }
+
+    boolean hasDateRange() {
+        return fromDay != LocalDate.MIN.toEpochDay() || toDay != LocalDate.MAX.toEpochDay();
+    }
+
+    long getFromDay() {
+        return fromDay;
+    }
+
+    long getToDay() {
+        return toDay;
+    }
+
+    /**
+     * Returns the criteria of the filter, written the way they are given to the filter command.
+     *
+     * @return the criteria, or an empty string if there are none.
+     */
+    @Override
+    public String toString() {
+        return criteria;
+    }
+}
@@ -9,8 +9,13 @@ import javafx.collections.ObservableList;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -18,9 +23,10 @@ public class ExpenseList extends DukeList<Expense> {
 
 
     private static final Logger logger = LogsCenter.getLogger(ExpenseList.class);
+    private static final int[] NO_TAGS = new int[0];
 
     private enum SortCriteria {
-        AMOUNT(Comparator.comparing(Expense::getAmount).reversed()),
+        AMOUNT(Comparator.comparing(Expense::getMoney).reversed()),
         TIME(Comparator.comparing(Expense::getTime).reversed()),
         DESCRIPTION(Comparator.comparing(Expense::getDescription));
 
@@ -38,6 +44,19 @@ public class ExpenseList extends DukeList<Expense> {
     public class ViewScope {
         private int viewScopeNumber;
         private ViewScopeName viewScopeName;
+        /**
+         * The first day of the view scope, in epoch days.
+         */
+        private long startDay;
+        /**
+         * The last day of the view scope, in epoch days.
+         */
+        private long endDay;
+        /**
+         * The last day the occurrences of recurring expenses are counted up to, in epoch days: the last day of the
+         * view scope, or today for all time.
+         */
+        private long recurrenceEndDay;
 
         /**
          * Constructor for ViewScope.
@@ -53,64 +72,67 @@ public class ExpenseList extends DukeList<Expense> {
                 throw new DukeException(String.format(
                         DukeException.MESSAGE_EXPENSE_VIEW_NAME_INVALID, viewScopeName));
             }
+            setRange(LocalDate.now());
         }
 
+        /**
+         * Constructor for a ViewScope counting from the current period.
+         * @param viewScopeName the name of the viewScope
+         */
         public ViewScope(ViewScopeName viewScopeName) {
             this.viewScopeNumber = 0;
             this.viewScopeName = viewScopeName;
+            setRange(LocalDate.now());
         }
 
+        /**
+         * Works out the days covered by the view scope, counting back from {@code current}.
+         */
+        private void setRange(LocalDate current) {
+            LocalDate start;
+            LocalDate end;
+            switch (viewScopeName) {
+            case DAY:
+                start = current.minusDays(viewScopeNumber);
+                end = start;
+                break;
 
-        private List<Expense> dayView(List<Expense> currentList) {
-            return currentList.stream()
-                    .filter(e -> {
-                        boolean isRecurring = e.isRecurring();
-                        LocalDate dateOfExpense = e.getTime().toLocalDate();
-                        LocalDate current = LocalDate.now().minusDays(viewScopeNumber);
-                        return dateOfExpense.equals(current) && !isRecurring;
-                    })
-                    .collect(Collectors.toList());
-        }
+            case WEEK:
+                LocalDate dayInWeek = current.minusWeeks(viewScopeNumber);
+                // Monday to Sunday of the week.
+                start = dayInWeek.minusDays(dayInWeek.getDayOfWeek().getValue() - 1);
+                end = start.plusDays(6);
+                break;
 
-        private List<Expense> weekView(List<Expense> currentList) {
-            return currentList.stream()
-                    .filter(e -> {
-                        boolean isRecurring = e.isRecurring();
-                        int dayOfWeek = e.getTime().getDayOfWeek().getValue();
-                        LocalDate start = e.getTime().minusDays(dayOfWeek - 1).toLocalDate();
-                        // Sunday of week of expense.
-                        LocalDate end = e.getTime().plusDays(7 - dayOfWeek).toLocalDate();
-                        // Monday of week of expense.
-                        LocalDate current = LocalDate.now().minusWeeks(viewScopeNumber);
-
-                        return (current.equals(end) || current.equals(start)
-                                || (current.isAfter(start) && current.isBefore(end)) && !isRecurring);
-                    })
-                    .collect(Collectors.toList());
-        }
+            case MONTH:
+                start = current.minusMonths(viewScopeNumber).withDayOfMonth(1);
+                end = start.plusMonths(1).minusDays(1);
+                break;
 
-        private List<Expense> monthView(List<Expense> currentList) {
-            return currentList.stream()
-                    .filter(e -> {
-                        boolean isRecurring = e.isRecurring();
-                        LocalDate dateOfExpense = e.getTime().toLocalDate();
-                        LocalDate current = LocalDate.now().minusMonths(viewScopeNumber);
-                        boolean isSameYear = dateOfExpense.getYear() == current.getYear();
-                        boolean isSameMonth = dateOfExpense.getMonth().equals(current.getMonth());
-                        return (isSameYear && isSameMonth || isRecurring);
-                    })
-                    .collect(Collectors.toList());
+            case YEAR:
+                start = current.minusYears(viewScopeNumber).withDayOfYear(1);
+                end = start.plusYears(1).minusDays(1);
+                break;
+
+            default: // case ALL:
+                start = LocalDate.MIN;
+                end = LocalDate.MAX;
+                break;
+            }
+            startDay = start.toEpochDay();
+            endDay = end.toEpochDay();
+            recurrenceEndDay = viewScopeName == ViewScopeName.ALL ? current.toEpochDay() : endDay;
         }
 
-        private List<Expense> yearView(List<Expense> currentList) {
-            return currentList.stream()
-                    .filter(e -> {
-                        boolean isRecurring = e.isRecurring();
-                        LocalDate dateOfExpense = e.getTime().toLocalDate();
-                        LocalDate current = LocalDate.now().minusYears(viewScopeNumber);
-                        return dateOfExpense.getYear() == current.getYear() || isRecurring;
-                    })
-                    .collect(Collectors.toList());
+        /**
+         * Returns whether an expense falls within the view scope.
+         * A recurring expense falls within the view scope if it occurs in it at least once.
+         *
+         * @param expense the expense to check.
+         * @return true if the expense is within the view scope.
+         */
+        public boolean contains(Expense expense) {
+            return viewScopeName == ViewScopeName.ALL || expense.countOccurrences(startDay, endDay) > 0;
         }
 
         /**
@@ -120,34 +142,75 @@ public class ExpenseList extends DukeList<Expense> {
          * @return the filtered List of Expense
          */
         public List<Expense> view(List<Expense> currentList) {
-            switch (viewScopeName) {
-            case DAY:
-                return dayView(currentList);
-
-            case WEEK:
-                return weekView(currentList);
-
-            case MONTH:
-                return monthView(currentList);
+            if (viewScopeName == ViewScopeName.ALL) {
+                return currentList;
+            }
+            return currentList.stream()
+                    .filter(this::contains)
+                    .collect(Collectors.toList());
+        }
 
-            case YEAR:
-                return yearView(currentList);
+        /**
+         * Returns the expenses of {@code internalList} within the view scope, looked up in the time index.
+         *
+         * @return the List of Expense within the view scope.
+         */
+        private List<Expense> lookUp() {
+            if (viewScopeName == ViewScopeName.ALL) {
+                return internalList;
+            }
+            return timeIndex.find(startDay, endDay);
+        }
 
-            default: // case ALL:
-                return currentList; // the viewScope here is ALL.
+        /**
+         * Returns the number of expenses of {@code internalList} within the view scope.
+         */
+        private int count() {
+            if (viewScopeName == ViewScopeName.ALL) {
+                return internalList.size();
             }
+            return timeIndex.count(startDay, endDay);
         }
 
         public ViewScopeName getViewScopeName() {
             return viewScopeName;
         }
+
+        /**
+         * Returns the view scope the way it is asked for with the view command,
+         * such as {@code month} or {@code week /previous 2}.
+         */
+        @Override
+        public String toString() {
+            String name = viewScopeName.name().toLowerCase();
+            return viewScopeNumber == 0 ? name : name + " /previous " + viewScopeNumber;
+        }
     }
 
+    private final ExpenseTimeIndex timeIndex;
+    private final ExpenseTagIndex tagIndex;
+    private final ExpenseAmountIndex amountIndex;
+    private final TextIndex<Expense> textIndex;
+    private final ExpenseRollup rollup;
+    /**
+     * The stored expenses not loaded into {@code internalList} yet, or null if every expense is loaded.
+     * Every expense within the view scope is always loaded, so expenses loaded for any other reason are
+     * never visible.
+     */
+    private final ExpenseArchive archive;
     private SortCriteria sortCriteria;
     private ViewScope viewScope;
-    private String filterCriteria;
+    private ExpenseFilter filter;
 
     private ObservableList<Expense> externalFinalList;
+    /**
+     * Running totals of all expenses in {@code internalList}.
+     */
+    private final ExpenseAggregate internalAggregate;
+    /**
+     * Running totals of the expenses in {@code externalList}, kept as expenses enter and leave it.
+     */
+    private final ExpenseAggregate externalAggregate;
     private StringProperty totalString;
     private StringProperty filterString;
     private StringProperty sortString;
@@ -158,9 +221,35 @@ public class ExpenseList extends DukeList<Expense> {
      * @param internalList the List&lt;Expense> object we want to populate the list with
      */
     public ExpenseList(List<Expense> internalList) {
+        this(internalList, null);
+    }
+
+    /**
+     * Constructor for an ExpenseList holding only some of the stored expenses, which loads the rest from
+     * {@code archive} as they are needed. The list starts viewing the current month, so that only the
+     * expenses of this month are loaded.
+     * @param internalList the List&lt;Expense> object we want to populate the list with
+     * @param archive the expenses not in {@code internalList} yet, or null if there are none
+     */
+    public ExpenseList(List<Expense> internalList, ExpenseArchive archive) {
         super(internalList, "expense");
-        filterCriteria = "";
-        viewScope = new ViewScope(ViewScopeName.ALL);
+        this.archive = archive;
+        timeIndex = new ExpenseTimeIndex();
+        timeIndex.reset(internalList);
+        tagIndex = new ExpenseTagIndex();
+        tagIndex.reset(internalList);
+        amountIndex = new ExpenseAmountIndex();
+        amountIndex.reset(internalList);
+        textIndex = new TextIndex<>(expense -> new String[] {expense.getDescription(), expense.getTag()});
+        textIndex.reset(internalList);
+        rollup = new ExpenseRollup();
+        rollup.reset(internalList);
+        internalAggregate = new ExpenseAggregate();
+        internalAggregate.reset(internalList);
+        externalAggregate = new ExpenseAggregate();
+        filter = ExpenseFilter.NONE;
+        viewScope = new ViewScope(archive == null ? ViewScopeName.ALL : ViewScopeName.MONTH);
+        loadArchived(viewScope.startDay, viewScope.endDay);
         sortCriteria = SortCriteria.TIME;
         externalList = FXCollections.observableArrayList();
         externalFinalList = FXCollections.unmodifiableObservableList(externalList);
@@ -171,12 +260,16 @@ public class ExpenseList extends DukeList<Expense> {
         updateExternalList();
     }
 
+    /**
+     * Rebuilds {@code externalList} from {@code internalList}.
+     * Only needed when the criteria themselves change; single changes are applied to {@code externalList}
+     * where they belong.
+     */
     private void updateExternalList() {
-        List<Expense> filteredSortedViewedList = filter(sort(view(internalList)));
-        ObservableList<Expense> internalFinalList = FXCollections.observableArrayList(filteredSortedViewedList);
-        externalList.setAll(internalFinalList);
+        externalList.setAll(sort(lookUpVisible()));
+        externalAggregate.reset(externalList, this::timesShown);
         totalString.setValue("Total: $" + getTotalExternalAmount());
-        filterString.setValue("Filter: " + filterCriteria);
+        filterString.setValue("Filter: " + filter);
         switch (sortCriteria) {
         case AMOUNT:
             sortString.setValue("Sort by: Largest");
@@ -191,22 +284,225 @@ public class ExpenseList extends DukeList<Expense> {
         viewString.set("Viewscope: " + viewScope.getViewScopeName());
     }
 
+    /**
+     * Returns whether an expense belongs in {@code externalList} under the current criteria.
+     */
+    private boolean isVisible(Expense expense) {
+        return viewScope.contains(expense) && isFiltered(expense);
+    }
+
+    /**
+     * Returns the number of times an expense in {@code externalList} counts towards its totals: once, or for a
+     * recurring expense, the number of times it occurs within both the view scope and the date range of the filter.
+     */
+    private long timesShown(Expense expense) {
+        if (!expense.isRecurring()) {
+            return 1;
+        }
+        return expense.countOccurrences(Math.max(viewScope.startDay, filter.getFromDay()),
+                Math.min(viewScope.recurrenceEndDay, filter.getToDay()));
+    }
+
+    /**
+     * Returns the expenses of {@code internalList} that belong in {@code externalList}, in no particular order.
+     * The candidates are looked up in whichever of the time, tag, amount and text indices the view scope and
+     * the filter narrow down to the fewest expenses, then checked against both.
+     */
+    private List<Expense> lookUpVisible() {
+        long startDay = Math.max(viewScope.startDay, filter.getFromDay());
+        long endDay = Math.min(viewScope.endDay, filter.getToDay());
+        boolean isWholeList = viewScope.getViewScopeName() == ViewScopeName.ALL && !filter.hasDateRange();
+        int timeCount = isWholeList
+                ? internalList.size()
+                : timeIndex.count(startDay, endDay);
+        long[] tagPositions = filter.hasTags() ? tagIndex.find(filter.getTagIds(), NO_TAGS) : null;
+        int tagCount = filter.hasTags() ? ExpenseTagIndex.count(tagPositions) : Integer.MAX_VALUE;
+        int amountCount = filter.hasAmountRange()
+                ? amountIndex.count(filter.getMinCents(), filter.getMaxCents())
+                : Integer.MAX_VALUE;
+        Set<Expense> textMatches = filter.getSearchText().isEmpty() ? null : textIndex.find(filter.getSearchText());
+        int textCount = textMatches == null ? Integer.MAX_VALUE : textMatches.size();
+
+        List<Expense> candidates;
+        if (textCount < timeCount && textCount <= tagCount && textCount <= amountCount) {
+            candidates = new ArrayList<>(textMatches);
+        } else if (amountCount < timeCount && amountCount < tagCount) {
+            candidates = amountIndex.find(filter.getMinCents(), filter.getMaxCents());
+        } else if (tagCount < timeCount) {
+            candidates = expensesAt(tagPositions);
+        } else if (isWholeList) {
+            candidates = internalList;
+        } else {
+            candidates = timeIndex.find(startDay, endDay);
+        }
+        if (filter.isEmpty()) {
+            return candidates;
+        }
+        return candidates.stream().filter(this::isVisible).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the expenses at the positions set in a bitmap of {@code tagIndex}, in the order of
+     * {@code internalList}.
+     */
+    private List<Expense> expensesAt(long[] positions) {
+        List<Expense> expenses = new ArrayList<>(ExpenseTagIndex.count(positions));
+        for (int word = 0; word < positions.length; word++) {
+            for (long bits = positions[word]; bits != 0; bits &= bits - 1) {
+                expenses.add(internalList.get(word * Long.SIZE + Long.numberOfTrailingZeros(bits)));
+            }
+        }
+        return expenses;
+    }
+
+    /**
+     * Returns the index of the first expense in {@code externalList} that is sorted after the given expense.
+     * Inserting there keeps expenses that compare equal in the order they were added, as a full sort would.
+     */
+    private int upperBound(Expense expense) {
+        int low = 0;
+        int high = externalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortCriteria.comparator.compare(externalList.get(middle), expense) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the given expense in {@code externalList}, or -1 if it is not there.
+     * Only the run of expenses comparing equal to it is searched.
+     */
+    private int indexInExternalList(Expense expense) {
+        int low = 0;
+        int high = externalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortCriteria.comparator.compare(externalList.get(middle), expense) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int i = low; i < externalList.size()
+                && sortCriteria.comparator.compare(externalList.get(i), expense) == 0; i++) {
+            if (externalList.get(i) == expense) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Loads the archived expenses made from {@code startDay} to {@code endDay} into {@code internalList}.
+     * Loading is not a change to the list, so it is neither saved nor undone.
+     */
+    private void loadArchived(long startDay, long endDay) {
+        if (archive == null) {
+            return;
+        }
+        List<Expense> loadedExpenses = archive.load(startDay, endDay);
+        for (Expense expense : loadedExpenses) {
+            internalList.add(expense);
+            timeIndex.add(expense);
+            tagIndex.insert(internalList.size() - 1, expense);
+            amountIndex.add(expense);
+            textIndex.add(expense);
+            rollup.add(expense);
+            internalAggregate.add(expense);
+        }
+        if (!loadedExpenses.isEmpty()) {
+            logger.info("Loaded " + loadedExpenses.size() + " archived expenses");
+        }
+    }
+
+    /**
+     * Loads the archived expenses made on the same day as {@code expense}, so that the expenses of a day are
+     * either all loaded or all archived.
+     */
+    private void loadArchivedDayOf(Expense expense) {
+        if (!expense.isRecurring()) {
+            long day = ExpenseTimeIndex.epochDayOf(expense);
+            loadArchived(day, day);
+        }
+    }
+
     @Override
     public void add(Expense expense) {
+        loadArchivedDayOf(expense);
         super.add(expense);
-        updateExternalList();
-        logger.info("externalList lengths " + externalList.size());
     }
 
     @Override
-    public void remove(int index) throws DukeException {
-        super.remove(index);
-        updateExternalList();
+    public void set(int index, Expense expense) throws DukeException {
+        loadArchivedDayOf(expense);
+        super.set(index, expense);
     }
 
+    /**
+     * Removes all expenses, loading the archived ones first so that undoing brings them all back.
+     */
     @Override
     public void clear() {
+        loadArchived(LocalDate.MIN.toEpochDay(), LocalDate.MAX.toEpochDay());
         super.clear();
+    }
+
+    /**
+     * Returns whether there are no expenses, loaded or archived.
+     *
+     * @return true if there are no expenses at all.
+     */
+    public boolean isEmpty() {
+        return internalList.isEmpty() && (archive == null || archive.getCount() == 0);
+    }
+
+    @Override
+    protected void onItemAdded(int index, Expense expense) {
+        timeIndex.add(expense);
+        tagIndex.insert(index, expense);
+        amountIndex.add(expense);
+        textIndex.add(expense);
+        rollup.add(expense);
+        internalAggregate.add(expense);
+        if (!isVisible(expense)) {
+            return;
+        }
+        externalList.add(upperBound(expense), expense);
+        externalAggregate.add(expense, timesShown(expense));
+        totalString.setValue("Total: $" + getTotalExternalAmount());
+        logger.info("externalList lengths " + externalList.size());
+    }
+
+    @Override
+    protected void onItemRemoved(int index, Expense expense) {
+        timeIndex.remove(expense);
+        tagIndex.remove(index);
+        amountIndex.remove(expense);
+        textIndex.remove(expense);
+        rollup.remove(expense);
+        internalAggregate.remove(expense);
+        int externalIndex = indexInExternalList(expense);
+        if (externalIndex < 0) {
+            return;
+        }
+        externalList.remove(externalIndex);
+        externalAggregate.remove(expense, timesShown(expense));
+        totalString.setValue("Total: $" + getTotalExternalAmount());
+    }
+
+    @Override
+    protected void onItemsReset() {
+        timeIndex.reset(internalList);
+        tagIndex.reset(internalList);
+        amountIndex.reset(internalList);
+        textIndex.reset(internalList);
+        rollup.reset(internalList);
+        internalAggregate.reset(internalList);
         updateExternalList();
     }
 
@@ -242,18 +538,46 @@ public class ExpenseList extends DukeList<Expense> {
         updateExternalList();
     }
 
+    /**
+     * Sets a filter keeping the expenses whose description contains {@code filterCriteria}, ignoring case.
+     *
+     * @param filterCriteria the text to look for in descriptions, or an empty string to keep every expense.
+     */
     @Override
-    public void setFilterCriteria(String filterCriteria) throws DukeException {
-        this.filterCriteria = filterCriteria;
+    public void setFilterCriteria(String filterCriteria) {
+        setFilter(new ExpenseFilter.Builder().setDescription(filterCriteria).build());
+    }
+
+    /**
+     * Sets a filter keeping the expenses whose description or tags contain {@code keyword}, ignoring case.
+     * The expenses are looked up in the full-text index of the descriptions and tags.
+     *
+     * @param keyword the keyword to search for.
+     */
+    public void search(String keyword) {
+        setFilter(new ExpenseFilter.Builder().setKeyword(keyword).build());
+    }
+
+    /**
+     * Sets the filter deciding which expenses within the view scope are shown.
+     *
+     * @param filter the filter.
+     */
+    public void setFilter(ExpenseFilter filter) {
+        this.filter = filter;
         updateExternalList();
     }
 
+    public ExpenseFilter getFilter() {
+        return filter;
+    }
+
     public SortCriteria getSortCriteria() {
         return sortCriteria;
     }
 
     public String getFilterCriteria() {
-        return filterCriteria;
+        return filter.toString();
     }
 
     public ViewScope getViewScope() {
@@ -270,30 +594,68 @@ public class ExpenseList extends DukeList<Expense> {
     @Override
     public void setViewScope(String viewScopeName, int viewScopeNumber) throws DukeException {
         this.viewScope = new ViewScope(viewScopeName, viewScopeNumber);
+        loadArchived(viewScope.startDay, viewScope.endDay);
         updateExternalList();
     }
 
     /**
-     * Sorts the given List with the given criteria and returns the sorted List.
+     * Sorts a copy of the given List with the given criteria and returns the sorted copy.
+     * The given List is left as it is, as the undo history refers to items by their index in it.
      *
      * @param currentList The List going to be sorted.
      * @return The sorted List.
      */
     @Override
     public List<Expense> sort(List<Expense> currentList) {
-        currentList.sort(sortCriteria.comparator);
-        return currentList;
+        List<Expense> sortedList = new ArrayList<>(currentList);
+        sortedList.sort(sortCriteria.comparator);
+        return sortedList;
     }
 
     /**
-     * To be implemented when tags are specified.
+     * Returns the expenses of the given List which pass the filter.
      *
      * @param currentList The List going to be filtered.
      * @return The filtered List.
      */
     @Override
     public List<Expense> filter(List<Expense> currentList) {
-        return currentList;
+        if (filter.isEmpty()) {
+            return currentList;
+        }
+        return currentList.stream()
+                .filter(filter)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns whether an expense passes the filter, which is compiled once when it is set.
+     */
+    private boolean isFiltered(Expense expense) {
+        return filter.test(expense);
+    }
+
+    /**
+     * Returns the expenses within the view scope having every tag in {@code tags} and none in
+     * {@code excludedTags}, in no particular order.
+     * Looks the expenses up in whichever of the tag index and the time index narrows them down more.
+     *
+     * @param tags         the tags the expenses must have, separated by spaces.
+     * @param excludedTags the tags the expenses must not have, separated by spaces.
+     * @return the List of matching Expense.
+     */
+    public List<Expense> findByTags(String tags, String excludedTags) {
+        int[] tagIds = TagDictionary.sharedTagIdsOf(TagDictionary.setIdOf(tags));
+        int[] excludedTagIds = TagDictionary.sharedTagIdsOf(TagDictionary.setIdOf(excludedTags));
+        long[] positions = tagIndex.find(tagIds, excludedTagIds);
+        if (ExpenseTagIndex.count(positions) > viewScope.count()) {
+            return viewScope.lookUp().stream()
+                    .filter(expense -> ExpenseTagIndex.matches(expense, tagIds, excludedTagIds))
+                    .collect(Collectors.toList());
+        }
+        return expensesAt(positions).stream()
+                .filter(viewScope::contains)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -322,15 +684,101 @@ public class ExpenseList extends DukeList<Expense> {
     }
 
     /**
-     * Returns the total amount of money spent.
+     * Returns the totals of the confirmed expenses in each of the last {@code periodCount} days, weeks, months or
+     * years up to the current one, which ends today, overall and for the {@code maxTags} tags spent the most on
+     * over them.
+     * The archived expenses of those periods are loaded the first time they are asked for; every total is then
+     * read from the rollup of the expenses by day and tag, without going through the expenses.
+     *
+     * @param unit        the length of a period, which is not {@code ALL}.
+     * @param periodCount the number of periods.
+     * @param maxTags     the largest number of tags to give the totals of.
+     * @return the trend.
+     */
+    public ExpenseTrend getTrend(ViewScopeName unit, int periodCount, int maxTags) {
+        ChronoUnit step;
+        LocalDate currentStart;
+        LocalDate today = LocalDate.now();
+        switch (unit) {
+        case DAY:
+            step = ChronoUnit.DAYS;
+            currentStart = today;
+            break;
+        case WEEK:
+            step = ChronoUnit.WEEKS;
+            currentStart = today.minusDays(today.getDayOfWeek().getValue() - 1);
+            break;
+        case MONTH:
+            step = ChronoUnit.MONTHS;
+            currentStart = today.withDayOfMonth(1);
+            break;
+        case YEAR:
+            step = ChronoUnit.YEARS;
+            currentStart = today.withDayOfYear(1);
+            break;
+        default:
+            throw new IllegalArgumentException("A trend needs periods of a fixed length, not " + unit);
+        }
+
+        long[] boundaries = new long[periodCount + 1];
+        List<LocalDate> periodStarts = new ArrayList<>(periodCount);
+        for (int i = 0; i <= periodCount; i++) {
+            LocalDate start = currentStart.plus(i - periodCount + 1, step);
+            boundaries[i] = start.toEpochDay();
+            if (i < periodCount) {
+                periodStarts.add(start);
+            }
+        }
+        // The current period ends today, so that the recurring expenses still to come are not counted as spent.
+        boundaries[periodCount] = today.toEpochDay() + 1;
+        loadArchived(boundaries[0], boundaries[periodCount] - 1);
+        rollup.cover(boundaries[0], boundaries[periodCount] - 1);
+
+        long[] totals = new long[periodCount];
+        for (int i = 0; i < periodCount; i++) {
+            totals[i] = rollup.getTotal(boundaries[i], boundaries[i + 1] - 1);
+        }
+        List<Integer> tagIds = new ArrayList<>();
+        for (int tagId : rollup.getTagIds()) {
+            if (rollup.getTagTotal(tagId, boundaries[0], boundaries[periodCount] - 1) > 0) {
+                tagIds.add(tagId);
+            }
+        }
+        tagIds.sort(Comparator.comparingLong((Integer tagId) ->
+                rollup.getTagTotal(tagId, boundaries[0], boundaries[periodCount] - 1)).reversed());
+        Map<String, long[]> tagTotals = new LinkedHashMap<>();
+        for (int tagId : tagIds.subList(0, Math.min(maxTags, tagIds.size()))) {
+            long[] series = new long[periodCount];
+            for (int i = 0; i < periodCount; i++) {
+                series[i] = rollup.getTagTotal(tagId, boundaries[i], boundaries[i + 1] - 1);
+            }
+            tagTotals.put(TagDictionary.tagOf(tagId), series);
+        }
+        return new ExpenseTrend(unit, periodStarts, totals, tagTotals);
+    }
+
+    /**
+     * Returns the total amount of money spent, including archived expenses.
      *
      * @return BigDecimal of the total amount of money spent.
      */
     public BigDecimal getTotalAmount() {
-        return internalList.stream()
-                .filter(expense -> !expense.isTentative())
-                .map(Expense::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (archive == null) {
+            return Money.ofCents(internalAggregate.getTotal()).toBigDecimal();
+        }
+        return Money.ofCents(internalAggregate.getTotal()).add(archive.getTotal()).toBigDecimal();
+    }
+
+    /**
+     * Returns the total amount of money of tentative expenses, including archived expenses.
+     *
+     * @return BigDecimal of the total amount of tentative expenses.
+     */
+    public BigDecimal getTentativeAmount() {
+        if (archive == null) {
+            return Money.ofCents(internalAggregate.getTentativeTotal()).toBigDecimal();
+        }
+        return Money.ofCents(internalAggregate.getTentativeTotal()).add(archive.getTentativeTotal()).toBigDecimal();
     }
 
     /**
@@ -340,15 +788,34 @@ public class ExpenseList extends DukeList<Expense> {
      * @return A BigDecimal which is the sum of all items of a single tag
      */
     public BigDecimal getTagAmount(String tag) {
-        try {
-            return externalList.stream()
-                    .filter(expense -> expense.getTag().contains(tag))
-                    .filter(expense -> !expense.isTentative())
-                    .map(Expense::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-        } catch (NullPointerException e) {
+        if (tag == null) {
             return BigDecimal.ZERO;
         }
+        long missCount = externalAggregate.getMissCount();
+        long tagAmount = externalAggregate.getTagTotal(tag);
+        if (externalAggregate.getMissCount() > missCount) {
+            logger.fine("Tag amount cache missed " + tag + ": " + externalAggregate.getHitCount() + " hits, "
+                    + externalAggregate.getMissCount() + " misses");
+        }
+        return Money.ofCents(tagAmount).toBigDecimal();
+    }
+
+    /**
+     * Returns the number of {@link #getTagAmount(String)} calls answered from the cache.
+     *
+     * @return the number of cache hits.
+     */
+    public long getTagAmountHitCount() {
+        return externalAggregate.getHitCount();
+    }
+
+    /**
+     * Returns the number of {@link #getTagAmount(String)} calls that had to add up the tag totals.
+     *
+     * @return the number of cache misses.
+     */
+    public long getTagAmountMissCount() {
+        return externalAggregate.getMissCount();
     }
 
     /**
@@ -357,13 +824,9 @@ public class ExpenseList extends DukeList<Expense> {
      * @return BigDecimal of the total amount of money spent on currently visible expenses.
      */
     public BigDecimal getTotalExternalAmount() {
-        return externalList.stream()
-                .filter(expense -> !expense.isTentative())
-                .map(Expense::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return Money.ofCents(externalAggregate.getTotal()).toBigDecimal();
     }
 
-
     public StringProperty getTotalString() {
         return totalString;
     }
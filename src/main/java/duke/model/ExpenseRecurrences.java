@@ -0,0 +1,127 @@
+package duke.model;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The recurring expenses, and which of them occur in the periods looked up lately.
+ *
+ * <p>Whether an expense occurs in a period is worked out from its {@link Recurrence} when the period is first
+ * looked up, which takes one check per recurring expense however many times each occurs. The expenses found
+ * are cached by period, so that going back to a day, week, month or year viewed lately looks nothing up again.
+ * Cached periods are kept up to date as recurring expenses are added and removed, and the periods looked up
+ * least recently are dropped once there are too many.
+ */
+class ExpenseRecurrences {
+    private static final int MAX_CACHED_PERIODS = 16;
+
+    private final List<Expense> expenses = new ArrayList<>();
+    /**
+     * The expenses occurring in every cached period, by period, from the least recently looked up.
+     */
+    private final Map<Period, List<Expense>> occurringByPeriod = new LinkedHashMap<>(MAX_CACHED_PERIODS, 0.75f, true);
+
+    /**
+     * The first and last days of a period, in epoch days.
+     */
+    private static final class Period {
+        private final long startDay;
+        private final long endDay;
+
+        private Period(long startDay, long endDay) {
+            this.startDay = startDay;
+            this.endDay = endDay;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Period && ((Period) other).startDay == startDay
+                    && ((Period) other).endDay == endDay;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(startDay) * 31 + Long.hashCode(endDay);
+        }
+    }
+
+    void add(Expense expense) {
+        expenses.add(expense);
+        for (Map.Entry<Period, List<Expense>> entry : occurringByPeriod.entrySet()) {
+            if (expense.countOccurrences(entry.getKey().startDay, entry.getKey().endDay) > 0) {
+                entry.getValue().add(expense);
+            }
+        }
+    }
+
+    void remove(Expense expense) {
+        if (removeByIdentity(expenses, expense)) {
+            for (List<Expense> occurring : occurringByPeriod.values()) {
+                removeByIdentity(occurring, expense);
+            }
+        }
+    }
+
+    /**
+     * Replaces the content of the index with the recurring expenses among the given expenses.
+     *
+     * @param expenses the expenses to index.
+     */
+    void reset(List<Expense> expenses) {
+        this.expenses.clear();
+        occurringByPeriod.clear();
+        for (Expense expense : expenses) {
+            if (expense.isRecurring()) {
+                this.expenses.add(expense);
+            }
+        }
+    }
+
+    /**
+     * Returns the recurring expenses occurring at least once from {@code startDay} to {@code endDay} inclusive.
+     *
+     * @param startDay the first day of the period, in epoch days.
+     * @param endDay   the last day of the period, in epoch days.
+     * @return the expenses, which are cached for the period and must not be modified.
+     */
+    List<Expense> find(long startDay, long endDay) {
+        if (expenses.isEmpty()) {
+            return expenses;
+        }
+        Period period = new Period(startDay, endDay);
+        List<Expense> occurring = occurringByPeriod.get(period);
+        if (occurring != null) {
+            return occurring;
+        }
+        occurring = new ArrayList<>();
+        for (Expense expense : expenses) {
+            if (expense.countOccurrences(startDay, endDay) > 0) {
+                occurring.add(expense);
+            }
+        }
+        occurringByPeriod.put(period, occurring);
+        if (occurringByPeriod.size() > MAX_CACHED_PERIODS) {
+            Iterator<Period> leastRecent = occurringByPeriod.keySet().iterator();
+            leastRecent.next();
+            leastRecent.remove();
+        }
+        return occurring;
+    }
+
+    int count(long startDay, long endDay) {
+        return find(startDay, endDay).size();
+    }
+
+    private static boolean removeByIdentity(List<Expense> expenses, Expense expense) {
+        for (int i = expenses.size() - 1; i >= 0; i--) {
+            if (expenses.get(i) == expense) {
+                expenses.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+}
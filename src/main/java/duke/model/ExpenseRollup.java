@@ -0,0 +1,299 @@
+package duke.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Totals of the confirmed expenses by day, overall and for every tag, so that the total spent over any range of
+ * days is read without scanning the expenses.
+ *
+ * <p>The totals of every day are kept in cents in Fenwick trees, one for all expenses and one per tag id, over a
+ * dense range of days. The total of a range of days is the difference of two prefix sums, each adding up at most
+ * log n cells, and adding or removing an expense updates at most log n cells of the tree of each of its tags.
+ *
+ * <p>The range of days covered only grows when totals are asked for over days outside it, doubling towards them,
+ * so it stays as small as the trends read from it, however far apart the days of the expenses are. Expenses on
+ * days outside the range are kept aside in a list and added up once the range grows over their day. A recurring
+ * expense counts on every day it occurs on within the range, and its occurrences on the days the range grows by
+ * are added as it grows. Tentative expenses are left out, as they are from the budget.
+ */
+class ExpenseRollup {
+    private static final int MIN_DAY_COUNT = 64;
+    private static final int[] NO_TAG_IDS = new int[0];
+
+    /**
+     * The first day covered, in epoch days.
+     */
+    private long firstDay;
+    /**
+     * The number of days covered, or 0 if the rollup covers no day yet.
+     */
+    private int dayCount;
+    /**
+     * The tree of all expenses, whose cell {@code i} (from 1) sums a range of days ending on
+     * {@code firstDay + i - 1}.
+     */
+    private long[] totalTree = new long[1];
+    /**
+     * The tree of every tag, by tag id, or null for a tag no expense has been added with.
+     */
+    private long[][] tagTrees = new long[0][];
+    private final List<Expense> recurringExpenses = new ArrayList<>();
+    /**
+     * The expenses that do not recur and fall on a day outside the range covered.
+     */
+    private final List<Expense> uncoveredExpenses = new ArrayList<>();
+
+    void add(Expense expense) {
+        update(expense, expense.getMoney().getCents());
+    }
+
+    void remove(Expense expense) {
+        update(expense, Math.negateExact(expense.getMoney().getCents()));
+    }
+
+    /**
+     * Replaces the content of the rollup with the given expenses.
+     *
+     * @param expenses the expenses to add up.
+     */
+    void reset(List<Expense> expenses) {
+        dayCount = 0;
+        totalTree = new long[1];
+        tagTrees = new long[0][];
+        recurringExpenses.clear();
+        uncoveredExpenses.clear();
+        for (Expense expense : expenses) {
+            add(expense);
+        }
+    }
+
+    private void update(Expense expense, long amount) {
+        if (expense.isTentative()) {
+            return;
+        }
+        int[] tagIds = TagDictionary.sharedTagIdsOf(expense.getTagSetId());
+        long day = ExpenseTimeIndex.epochDayOf(expense);
+        if (!expense.isRecurring()) {
+            if (isCovered(day)) {
+                updateDay(day, tagIds, amount);
+            } else if (amount > 0) {
+                uncoveredExpenses.add(expense);
+            } else {
+                removeByIdentity(uncoveredExpenses, expense);
+            }
+            return;
+        }
+        if (amount > 0) {
+            recurringExpenses.add(expense);
+        } else if (!removeByIdentity(recurringExpenses, expense)) {
+            return;
+        }
+        updateOccurrences(expense, tagIds, amount, firstDay, lastDay());
+    }
+
+    /**
+     * Grows the range of days covered to include the days from {@code fromDay} to {@code toDay}, so that the
+     * expenses and the occurrences of recurring expenses on them are added up too.
+     *
+     * @param fromDay the first day to cover, in epoch days.
+     * @param toDay   the last day to cover, in epoch days.
+     */
+    void cover(long fromDay, long toDay) {
+        if (dayCount > 0 && fromDay >= firstDay && toDay <= lastDay()) {
+            return;
+        }
+        long oldFirstDay;
+        long oldLastDay;
+        long newFirstDay;
+        long newLastDay;
+        int newDayCount = MIN_DAY_COUNT;
+        if (dayCount == 0) {
+            while (newDayCount < toDay - fromDay + 1) {
+                newDayCount = Math.multiplyExact(newDayCount, 2);
+            }
+            newFirstDay = fromDay;
+            newLastDay = newFirstDay + newDayCount - 1;
+            // Nothing is covered yet, so every day of the new range is added up below.
+            oldFirstDay = newLastDay + 1;
+            oldLastDay = newLastDay;
+            totalTree = new long[newDayCount + 1];
+            tagTrees = new long[0][];
+        } else {
+            oldFirstDay = firstDay;
+            oldLastDay = lastDay();
+            newLastDay = Math.max(toDay, oldLastDay);
+            newFirstDay = Math.min(fromDay, oldFirstDay);
+            newDayCount = dayCount;
+            while (newDayCount < newLastDay - newFirstDay + 1) {
+                newDayCount = Math.multiplyExact(newDayCount, 2);
+            }
+            if (fromDay < oldFirstDay) {
+                // Grows towards the earlier days, where trends are being read.
+                newFirstDay = newLastDay - newDayCount + 1;
+            } else {
+                newLastDay = newFirstDay + newDayCount - 1;
+            }
+            int shift = (int) (oldFirstDay - newFirstDay);
+            totalTree = regrow(totalTree, shift, newDayCount);
+            for (int tagId = 0; tagId < tagTrees.length; tagId++) {
+                if (tagTrees[tagId] != null) {
+                    tagTrees[tagId] = regrow(tagTrees[tagId], shift, newDayCount);
+                }
+            }
+        }
+        firstDay = newFirstDay;
+        dayCount = newDayCount;
+        for (Expense expense : recurringExpenses) {
+            int[] tagIds = TagDictionary.sharedTagIdsOf(expense.getTagSetId());
+            long amount = expense.getMoney().getCents();
+            updateOccurrences(expense, tagIds, amount, newFirstDay, oldFirstDay - 1);
+            updateOccurrences(expense, tagIds, amount, oldLastDay + 1, newLastDay);
+        }
+        uncoveredExpenses.removeIf(expense -> {
+            long day = ExpenseTimeIndex.epochDayOf(expense);
+            if (!isCovered(day)) {
+                return false;
+            }
+            updateDay(day, TagDictionary.sharedTagIdsOf(expense.getTagSetId()), expense.getMoney().getCents());
+            return true;
+        });
+    }
+
+    /**
+     * Returns the total of the confirmed expenses from {@code fromDay} to {@code toDay} inclusive.
+     * Days not covered count as having no expenses.
+     *
+     * @param fromDay the first day of the range, in epoch days.
+     * @param toDay   the last day of the range, in epoch days.
+     * @return the total in cents.
+     */
+    long getTotal(long fromDay, long toDay) {
+        return rangeSum(totalTree, fromDay, toDay);
+    }
+
+    /**
+     * Returns the total of the confirmed expenses having a tag from {@code fromDay} to {@code toDay} inclusive.
+     *
+     * @param tagId   the id of the tag.
+     * @param fromDay the first day of the range, in epoch days.
+     * @param toDay   the last day of the range, in epoch days.
+     * @return the total in cents.
+     */
+    long getTagTotal(int tagId, long fromDay, long toDay) {
+        return tagId < tagTrees.length && tagTrees[tagId] != null ? rangeSum(tagTrees[tagId], fromDay, toDay) : 0;
+    }
+
+    /**
+     * Returns the ids of the tags any expense has been added with.
+     *
+     * @return the tag ids, from the smallest.
+     */
+    int[] getTagIds() {
+        int[] tagIds = NO_TAG_IDS;
+        for (int tagId = 0; tagId < tagTrees.length; tagId++) {
+            if (tagTrees[tagId] != null) {
+                tagIds = Arrays.copyOf(tagIds, tagIds.length + 1);
+                tagIds[tagIds.length - 1] = tagId;
+            }
+        }
+        return tagIds;
+    }
+
+    /**
+     * Returns the number of days covered, which is 0 until the first range is covered.
+     */
+    int getDayCount() {
+        return dayCount;
+    }
+
+    private boolean isCovered(long day) {
+        return dayCount > 0 && day >= firstDay && day <= lastDay();
+    }
+
+    private long lastDay() {
+        return firstDay + dayCount - 1;
+    }
+
+    private void updateOccurrences(Expense expense, int[] tagIds, long amount, long fromDay, long toDay) {
+        if (fromDay > toDay) {
+            return;
+        }
+        for (LocalDate occurrence : expense.getRecurrence().occurrences(expense.getTime().toLocalDate(),
+                fromDay, toDay)) {
+            updateDay(occurrence.toEpochDay(), tagIds, amount);
+        }
+    }
+
+    private void updateDay(long day, int[] tagIds, long amount) {
+        int cell = (int) (day - firstDay) + 1;
+        addToCell(totalTree, cell, amount);
+        for (int tagId : tagIds) {
+            if (tagId >= tagTrees.length) {
+                tagTrees = Arrays.copyOf(tagTrees, Math.max(tagId + 1, TagDictionary.size()));
+            }
+            if (tagTrees[tagId] == null) {
+                tagTrees[tagId] = new long[dayCount + 1];
+            }
+            addToCell(tagTrees[tagId], cell, amount);
+        }
+    }
+
+    private static void addToCell(long[] tree, int cell, long amount) {
+        for (int i = cell; i < tree.length; i += i & -i) {
+            tree[i] = Math.addExact(tree[i], amount);
+        }
+    }
+
+    private static long prefixSum(long[] tree, int cell) {
+        long sum = 0;
+        for (int i = cell; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private long rangeSum(long[] tree, long fromDay, long toDay) {
+        long firstCell = Math.max(fromDay - firstDay + 1, 1);
+        long lastCell = Math.min(toDay - firstDay + 1, dayCount);
+        if (firstCell > lastCell) {
+            return 0;
+        }
+        return prefixSum(tree, (int) lastCell) - prefixSum(tree, (int) firstCell - 1);
+    }
+
+    /**
+     * Returns a tree of the same totals over {@code dayCount} days, starting {@code shift} days earlier.
+     * The totals of the days are taken out of the tree and built into the new one in linear time.
+     */
+    private static long[] regrow(long[] tree, int shift, int dayCount) {
+        long[] days = tree.clone();
+        for (int i = days.length - 1; i > 0; i--) {
+            int parent = i + (i & -i);
+            if (parent < days.length) {
+                days[parent] -= days[i];
+            }
+        }
+        long[] newTree = new long[dayCount + 1];
+        System.arraycopy(days, 1, newTree, shift + 1, days.length - 1);
+        for (int i = 1; i < newTree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < newTree.length) {
+                newTree[parent] += newTree[i];
+            }
+        }
+        return newTree;
+    }
+
+    private static boolean removeByIdentity(List<Expense> expenses, Expense expense) {
+        for (int i = expenses.size() - 1; i >= 0; i--) {
+            if (expenses.get(i) == expense) {
+                expenses.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,202 @@
+package duke.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A secondary index of expenses by tag, so that the expenses having some tags and not others can be found
+ * with a few bitwise operations instead of by scanning every expense.
+ *
+ * <p>Keeps a bitmap per tag over the positions of the expenses in the list they are indexed from, in which
+ * bit {@code i} is set if the expense at position {@code i} has the tag. The bitmaps are shifted as
+ * expenses are inserted and removed, so that they stay in step with the list.
+ */
+class ExpenseTagIndex {
+    private static final long[] EMPTY_BITMAP = new long[0];
+
+    /**
+     * The bitmap of every tag, by tag id. A bitmap may be shorter than the list, or missing, where the
+     * bits it would hold are all clear.
+     */
+    private long[][] bitmaps = new long[0][];
+    private int size;
+
+    /**
+     * Returns the number of words a bitmap of the given number of bits needs.
+     */
+    static int wordCount(int bits) {
+        return (bits + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Indexes an expense inserted into the list at a position.
+     *
+     * @param position the position of the expense in the list.
+     * @param expense  the expense.
+     */
+    void insert(int position, Expense expense) {
+        for (int tagId = 0; tagId < bitmaps.length; tagId++) {
+            if (bitmaps[tagId] != null) {
+                bitmaps[tagId] = insertBit(bitmaps[tagId], position);
+            }
+        }
+        size++;
+        for (int tagId : TagDictionary.sharedTagIdsOf(expense.getTagSetId())) {
+            setBit(tagId, position);
+        }
+    }
+
+    /**
+     * Removes the expense at a position of the list from the index.
+     *
+     * @param position the position of the expense in the list.
+     */
+    void remove(int position) {
+        for (long[] bitmap : bitmaps) {
+            if (bitmap != null) {
+                removeBit(bitmap, position);
+            }
+        }
+        size--;
+    }
+
+    /**
+     * Replaces the content of the index with the given expenses.
+     *
+     * @param expenses the expenses to index.
+     */
+    void reset(List<Expense> expenses) {
+        bitmaps = new long[0][];
+        size = expenses.size();
+        for (int i = 0; i < expenses.size(); i++) {
+            for (int tagId : TagDictionary.sharedTagIdsOf(expenses.get(i).getTagSetId())) {
+                setBit(tagId, i);
+            }
+        }
+    }
+
+    /**
+     * Returns the positions of the expenses having every tag in {@code tagIds} and none in
+     * {@code excludedTagIds}, as a bitmap covering the whole list.
+     *
+     * @param tagIds         the ids of the tags the expenses must have.
+     * @param excludedTagIds the ids of the tags the expenses must not have.
+     * @return the bitmap of the matching positions.
+     */
+    long[] find(int[] tagIds, int[] excludedTagIds) {
+        long[] matches = new long[wordCount(size)];
+        if (tagIds.length == 0) {
+            Arrays.fill(matches, -1L);
+            if (size % Long.SIZE != 0) {
+                matches[matches.length - 1] = (1L << size) - 1;
+            }
+        } else {
+            long[] first = bitmapOf(tagIds[0]);
+            System.arraycopy(first, 0, matches, 0, Math.min(first.length, matches.length));
+        }
+        for (int i = 1; i < tagIds.length; i++) {
+            long[] bitmap = bitmapOf(tagIds[i]);
+            for (int word = 0; word < matches.length; word++) {
+                matches[word] &= word < bitmap.length ? bitmap[word] : 0;
+            }
+        }
+        for (int excludedTagId : excludedTagIds) {
+            long[] bitmap = bitmapOf(excludedTagId);
+            for (int word = 0; word < Math.min(bitmap.length, matches.length); word++) {
+                matches[word] &= ~bitmap[word];
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of positions set in a bitmap returned by {@link #find(int[], int[])}.
+     *
+     * @param positions the bitmap.
+     * @return the number of matching positions.
+     */
+    static int count(long[] positions) {
+        int count = 0;
+        for (long word : positions) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns whether an expense has every tag in {@code tagIds} and none in {@code excludedTagIds},
+     * for checking expenses one by one where that is cheaper than looking them up in the index.
+     *
+     * @param expense        the expense.
+     * @param tagIds         the ids of the tags the expense must have.
+     * @param excludedTagIds the ids of the tags the expense must not have.
+     * @return true if the expense matches.
+     */
+    static boolean matches(Expense expense, int[] tagIds, int[] excludedTagIds) {
+        for (int tagId : tagIds) {
+            if (!TagDictionary.hasTag(expense.getTagSetId(), tagId)) {
+                return false;
+            }
+        }
+        for (int excludedTagId : excludedTagIds) {
+            if (TagDictionary.hasTag(expense.getTagSetId(), excludedTagId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long[] bitmapOf(int tagId) {
+        return tagId >= 0 && tagId < bitmaps.length && bitmaps[tagId] != null ? bitmaps[tagId] : EMPTY_BITMAP;
+    }
+
+    private void setBit(int tagId, int position) {
+        if (tagId >= bitmaps.length) {
+            bitmaps = Arrays.copyOf(bitmaps, Math.max(tagId + 1, TagDictionary.size()));
+        }
+        long[] bitmap = bitmaps[tagId] == null ? EMPTY_BITMAP : bitmaps[tagId];
+        int word = position >>> 6;
+        if (word >= bitmap.length) {
+            bitmap = Arrays.copyOf(bitmap, Math.max(Math.max(word + 1, wordCount(size)), bitmap.length * 2));
+        }
+        bitmap[word] |= 1L << position;
+        bitmaps[tagId] = bitmap;
+    }
+
+    /**
+     * Inserts a clear bit at a position, moving the bits from there on up by one.
+     *
+     * @return the bitmap, which is a longer copy if the last bit had to move into a new word.
+     */
+    private static long[] insertBit(long[] bitmap, int position) {
+        int word = position >>> 6;
+        if (word >= bitmap.length) {
+            return bitmap;
+        }
+        if (bitmap[bitmap.length - 1] < 0) {
+            bitmap = Arrays.copyOf(bitmap, bitmap.length + 1);
+        }
+        for (int i = bitmap.length - 1; i > word; i--) {
+            bitmap[i] = (bitmap[i] << 1) | (bitmap[i - 1] >>> 63);
+        }
+        long lowMask = (1L << position) - 1;
+        bitmap[word] = (bitmap[word] & lowMask) | ((bitmap[word] & ~lowMask) << 1);
+        return bitmap;
+    }
+
+    /**
+     * Removes the bit at a position, moving the bits after it down by one.
+     */
+    private static void removeBit(long[] bitmap, int position) {
+        int word = position >>> 6;
+        if (word >= bitmap.length) {
+            return;
+        }
+        long lowMask = (1L << position) - 1;
+        bitmap[word] = (bitmap[word] & lowMask) | ((bitmap[word] >>> 1) & ~lowMask);
+        for (int i = word; i < bitmap.length - 1; i++) {
+            bitmap[i] |= bitmap[i + 1] << 63;
+            bitmap[i + 1] >>>= 1;
+        }
+    }
+}
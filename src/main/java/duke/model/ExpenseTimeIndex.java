@@ -0,0 +1,112 @@
+package duke.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A secondary index of expenses by the day they were made, so that the expenses of a day, week, month
+ * or year can be looked up as a range instead of by scanning every expense.
+ * Recurring expenses occur on many days and are kept apart, in {@link ExpenseRecurrences}, which works out
+ * from their rules which of them occur in a range.
+ */
+class ExpenseTimeIndex {
+    private final NavigableMap<Long, List<Expense>> expensesByDay = new TreeMap<>();
+    private final ExpenseRecurrences recurrences = new ExpenseRecurrences();
+
+    /**
+     * Returns the day an expense is indexed under, counted in days since 1970-01-01.
+     * A recurring expense first occurs on that day.
+     *
+     * @param expense the expense.
+     * @return the epoch day of the expense.
+     */
+    static long epochDayOf(Expense expense) {
+        return expense.getTime().toLocalDate().toEpochDay();
+    }
+
+    void add(Expense expense) {
+        if (expense.isRecurring()) {
+            recurrences.add(expense);
+        } else {
+            expensesByDay.computeIfAbsent(epochDayOf(expense), day -> new ArrayList<>()).add(expense);
+        }
+    }
+
+    void remove(Expense expense) {
+        if (expense.isRecurring()) {
+            recurrences.remove(expense);
+            return;
+        }
+        long day = epochDayOf(expense);
+        List<Expense> expensesOfDay = expensesByDay.get(day);
+        if (expensesOfDay != null) {
+            removeByIdentity(expensesOfDay, expense);
+            if (expensesOfDay.isEmpty()) {
+                expensesByDay.remove(day);
+            }
+        }
+    }
+
+    /**
+     * Replaces the content of the index with the given expenses.
+     *
+     * @param expenses the expenses to index.
+     */
+    void reset(List<Expense> expenses) {
+        expensesByDay.clear();
+        recurrences.reset(expenses);
+        for (Expense expense : expenses) {
+            if (!expense.isRecurring()) {
+                add(expense);
+            }
+        }
+    }
+
+    /**
+     * Returns the expenses made from {@code startDay} to {@code endDay} inclusive, followed by the
+     * recurring expenses occurring in that range. The range is empty if it ends before it starts.
+     *
+     * @param startDay the first day of the range, in epoch days.
+     * @param endDay   the last day of the range, in epoch days.
+     * @return the expenses in the range.
+     */
+    List<Expense> find(long startDay, long endDay) {
+        List<Expense> expenses = new ArrayList<>();
+        if (startDay <= endDay) {
+            for (List<Expense> expensesOfDay : expensesByDay.subMap(startDay, true, endDay, true).values()) {
+                expenses.addAll(expensesOfDay);
+            }
+            expenses.addAll(recurrences.find(startDay, endDay));
+        }
+        return expenses;
+    }
+
+    /**
+     * Returns the number of expenses {@link #find(long, long)} would return, without collecting them.
+     *
+     * @param startDay the first day of the range, in epoch days.
+     * @param endDay   the last day of the range, in epoch days.
+     * @return the number of expenses in the range.
+     */
+    int count(long startDay, long endDay) {
+        int count = 0;
+        if (startDay <= endDay) {
+            count += recurrences.count(startDay, endDay);
+            for (List<Expense> expensesOfDay : expensesByDay.subMap(startDay, true, endDay, true).values()) {
+                count += expensesOfDay.size();
+            }
+        }
+        return count;
+    }
+
+    private static void removeByIdentity(List<Expense> expenses, Expense expense) {
+        for (int i = expenses.size() - 1; i >= 0; i--) {
+            if (expenses.get(i) == expense) {
+                expenses.remove(i);
+                return;
+            }
+        }
+    }
+}
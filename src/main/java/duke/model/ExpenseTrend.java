@@ -0,0 +1,59 @@
+package duke.model;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The totals spent in each of a run of consecutive days, weeks, months or years, overall and for the tags
+ * spent the most on over them. Totals are in cents, with one entry per period, from the earliest.
+ */
+public final class ExpenseTrend {
+    private final ExpenseList.ViewScopeName unit;
+    private final List<LocalDate> periodStarts;
+    private final long[] totals;
+    private final Map<String, long[]> tagTotals;
+
+    /**
+     * Constructs a trend.
+     *
+     * @param unit         the length of a period.
+     * @param periodStarts the first day of every period, from the earliest.
+     * @param totals       the total of every period.
+     * @param tagTotals    the totals of every period for each tag, from the tag spent the most on.
+     */
+    ExpenseTrend(ExpenseList.ViewScopeName unit, List<LocalDate> periodStarts, long[] totals,
+                 Map<String, long[]> tagTotals) {
+        this.unit = unit;
+        this.periodStarts = Collections.unmodifiableList(periodStarts);
+        this.totals = totals;
+        this.tagTotals = Collections.unmodifiableMap(tagTotals);
+    }
+
+    public ExpenseList.ViewScopeName getUnit() {
+        return unit;
+    }
+
+    public List<LocalDate> getPeriodStarts() {
+        return periodStarts;
+    }
+
+    /**
+     * Returns the total of every period.
+     *
+     * @return the totals in cents, which must not be modified.
+     */
+    public long[] getTotals() {
+        return totals;
+    }
+
+    /**
+     * Returns the totals of every period for each tag shown, from the tag spent the most on.
+     *
+     * @return the totals in cents by tag, which must not be modified.
+     */
+    public Map<String, long[]> getTagTotals() {
+        return tagTotals;
+    }
+}
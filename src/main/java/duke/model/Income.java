@@ -3,10 +3,11 @@ package duke.model;
 import duke.exception.DukeException;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.Map;
 import java.util.StringJoiner;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * Represents an income of the user.
  */
@@ -14,7 +15,7 @@ public class Income extends DukeItem {
     /**
      * The amount of money of the income.
      */
-    private final BigDecimal amount;
+    private final Money amount;
     /**
      * The description of the income.
      */
@@ -24,7 +25,7 @@ public class Income extends DukeItem {
      * {@inheritDoc}
      */
     public static class Builder extends DukeItem.Builder<Builder> {
-        private BigDecimal amount = BigDecimal.ZERO;
+        private Money amount = Money.ZERO;
         private String description = "";
 
         public Builder() {
@@ -70,13 +71,13 @@ public class Income extends DukeItem {
          *
          * @param amount the amount of the income as a string.
          * @return this builder.
-         * @throws DukeException if the value in amount cannot be converted into a {@code BigDecimal},
-         *                       or if the {@code BigDecimal} does not represent a valid amount.
-         * @see #setAmount(BigDecimal)
+         * @throws DukeException if the value in amount is not a decimal with at most two decimal places.
+         * @see Money#parse(String)
          */
         public Builder setAmount(String amount) throws DukeException {
             try {
-                return setAmount(new BigDecimal(amount));
+                this.amount = Money.parse(amount);
+                return this;
             } catch (NumberFormatException | NullPointerException e) {
                 throw new DukeException(String.format(DukeException.MESSAGE_INCOME_AMOUNT_INVALID, amount));
             }
@@ -90,11 +91,23 @@ public class Income extends DukeItem {
          * @throws DukeException if the {@code BigDecimal} does not represent a valid amount.
          */
         public Builder setAmount(BigDecimal amount) throws DukeException {
-            if (amount.scale() > 2) {
+            try {
+                this.amount = Money.of(amount);
+                return this;
+            } catch (ArithmeticException e) {
                 throw new DukeException(
                         String.format(DukeException.MESSAGE_INCOME_AMOUNT_INVALID, amount.toPlainString()));
             }
-            this.amount = amount.setScale(2, RoundingMode.UNNECESSARY);
+        }
+
+        /**
+         * Sets the amount of the income.
+         *
+         * @param amount the amount of the income.
+         * @return this builder.
+         */
+        public Builder setAmount(Money amount) {
+            this.amount = requireNonNull(amount);
             return this;
         }
 
@@ -105,7 +118,7 @@ public class Income extends DukeItem {
          * @return this builder.
          */
         public Builder setDescription(String description) {
-            this.description = description;
+            this.description = DescriptionPool.intern(description);
             return this;
         }
 
@@ -136,6 +149,15 @@ public class Income extends DukeItem {
      * @return {@link #amount}.
      */
     public BigDecimal getAmount() {
+        return amount.toBigDecimal();
+    }
+
+    /**
+     * Returns the amount of the income , whose cents can be added up without allocating.
+     *
+     * @return {@link #amount}.
+     */
+    public Money getMoney() {
         return amount;
     }
 
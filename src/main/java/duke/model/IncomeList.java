@@ -9,6 +9,8 @@ import javafx.collections.ObservableList;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.logging.Logger;
 
 /**
@@ -26,6 +28,11 @@ public class IncomeList extends DukeList<Income> {
     private List<Income> internalIncomeList;
     private ObservableList<Income> externalIncomeList;
     private StringProperty totalString;
+    private String filterCriteria = "";
+    /**
+     * The full-text index of the descriptions of all incomes in {@code internalList}.
+     */
+    private final TextIndex<Income> textIndex = new TextIndex<>(income -> new String[] {income.getDescription()});
 
     /**
      * Constructor for IncomeList.
@@ -38,6 +45,7 @@ public class IncomeList extends DukeList<Income> {
         externalList = FXCollections.observableArrayList();
         externalIncomeList = FXCollections.unmodifiableObservableList(externalList);
         totalString = new SimpleStringProperty();
+        textIndex.reset(internalList);
         updateExternalList();
     }
 
@@ -46,40 +54,26 @@ public class IncomeList extends DukeList<Income> {
      */
     private void updateExternalList() {
         internalIncomeList = internalList;
-        externalList.setAll(FXCollections.observableArrayList(internalIncomeList));
+        externalList.setAll(FXCollections.observableArrayList(filter(internalIncomeList)));
         totalString.setValue("Total Income: $" + getTotalExternalAmount());
     }
 
-    /**
-     * Adds an income to incomeList.
-     *
-     * @param income income to be added
-     */
     @Override
-    public void add(Income income) {
-        super.add(income);
+    protected void onItemAdded(int index, Income income) {
+        textIndex.add(income);
         updateExternalList();
         logger.info("externalList lengths " + externalList.size());
     }
 
-    /**
-     * Deletes an income from the incomeList according to its index.
-     *
-     * @param index the index of the item to in {@code externalList}.
-     * @throws DukeException if index is not valid
-     */
     @Override
-    public void remove(int index) throws DukeException {
-        super.remove(index);
+    protected void onItemRemoved(int index, Income income) {
+        textIndex.remove(income);
         updateExternalList();
     }
 
-    /**
-     * Clears the entire incomeList.
-     */
     @Override
-    public void clear() {
-        super.clear();
+    protected void onItemsReset() {
+        textIndex.reset(internalList);
         updateExternalList();
     }
 
@@ -121,9 +115,9 @@ public class IncomeList extends DukeList<Income> {
      * @return BigDecimal of the total amount of money spent on currently visible incomes.
      */
     public BigDecimal getTotalExternalAmount() {
-        return externalList.stream()
-                .map(Income::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return Money.ofCents(externalList.stream()
+                .mapToLong(income -> income.getMoney().getCents())
+                .reduce(0, Math::addExact)).toBigDecimal();
     }
 
     /**
@@ -139,8 +133,15 @@ public class IncomeList extends DukeList<Income> {
     public void setSortCriteria(String sortCriteria) {
     }
 
+    /**
+     * Shows only the incomes whose description contains {@code filterCriteria}, ignoring case.
+     *
+     * @param filterCriteria the text to look for, or an empty string to show every income.
+     */
     @Override
     public void setFilterCriteria(String filterCriteria) {
+        this.filterCriteria = filterCriteria == null ? "" : filterCriteria.trim();
+        updateExternalList();
     }
 
     @Override
@@ -152,9 +153,22 @@ public class IncomeList extends DukeList<Income> {
         return null;
     }
 
+    /**
+     * Returns the incomes of the given List whose description contains the filter criteria, found through the
+     * full-text index of {@code internalList}.
+     *
+     * @param currentList The List going to be filtered, of incomes in {@code internalList}.
+     * @return The filtered List.
+     */
     @Override
     public List<Income> filter(List<Income> currentList) {
-        return null;
+        if (filterCriteria.isEmpty()) {
+            return currentList;
+        }
+        Set<Income> matches = textIndex.find(filterCriteria);
+        return currentList.stream()
+                .filter(matches::contains)
+                .collect(Collectors.toList());
     }
 
     @Override
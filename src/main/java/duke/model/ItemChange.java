@@ -0,0 +1,36 @@
+package duke.model;
+
+/**
+ * A single change made to the items of a {@code DukeList}, captured as the storage string of the item
+ * at the time of the change so that it can be replayed later by the storage.
+ */
+public class ItemChange {
+    /**
+     * The kind of change made to the list.
+     */
+    public enum Type {
+        ADD, REMOVE, CLEAR
+    }
+
+    private final Type type;
+    private final String storageString;
+
+    /**
+     * Constructs a change.
+     *
+     * @param type          the kind of change.
+     * @param storageString the storage string of the item changed, or an empty string for {@code CLEAR}.
+     */
+    public ItemChange(Type type, String storageString) {
+        this.type = type;
+        this.storageString = storageString;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getStorageString() {
+        return storageString;
+    }
+}
@@ -0,0 +1,76 @@
+package duke.model;
+
+import java.util.List;
+
+/**
+ * A single edit to the internal list of a {@code DukeList}, kept by its undo history.
+ * Applying an edit to a list returns the edit that reverts it, so that undo and redo only ever
+ * store the few items an edit touched, not copies of the list.
+ *
+ * @param <T> the {@code DukeItem} contained in the list.
+ */
+class ListEdit<T extends DukeItem> {
+    /**
+     * The kind of edit.
+     */
+    enum Type {
+        ADD, REMOVE, REPLACE, CLEAR
+    }
+
+    private final Type type;
+    private final int index;
+    private final T item;
+    private final List<T> list;
+
+    private ListEdit(Type type, int index, T item, List<T> list) {
+        this.type = type;
+        this.index = index;
+        this.item = item;
+        this.list = list;
+    }
+
+    /**
+     * Returns an edit inserting the item at the index.
+     */
+    static <T extends DukeItem> ListEdit<T> add(int index, T item) {
+        return new ListEdit<>(Type.ADD, index, item, null);
+    }
+
+    /**
+     * Returns an edit removing the item at the index.
+     */
+    static <T extends DukeItem> ListEdit<T> remove(int index) {
+        return new ListEdit<>(Type.REMOVE, index, null, null);
+    }
+
+    /**
+     * Returns an edit replacing the item at the index with the given item.
+     */
+    static <T extends DukeItem> ListEdit<T> replace(int index, T item) {
+        return new ListEdit<>(Type.REPLACE, index, item, null);
+    }
+
+    /**
+     * Returns an edit swapping the whole list for the given list, which is how a list is cleared
+     * (and a clear undone) without copying its items.
+     */
+    static <T extends DukeItem> ListEdit<T> clear(List<T> list) {
+        return new ListEdit<>(Type.CLEAR, 0, null, list);
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    T getItem() {
+        return item;
+    }
+
+    List<T> getList() {
+        return list;
+    }
+}
@@ -24,14 +24,22 @@ public interface Model {
 
     public void deleteExpense(int index) throws DukeException;
 
+    public void setExpense(int index, Expense expense) throws DukeException;
+
     public void clearExpense();
 
-    public void filterExpense(String filterCriteria) throws DukeException;
+    public void filterExpense(ExpenseFilter filter);
+
+    public void searchExpense(String keyword);
 
     public void sortExpense(String sortCriteria) throws DukeException;
 
     public void viewExpense(String viewScope, int previous) throws DukeException;
 
+    public int undoExpense(int times);
+
+    public int redoExpense(int times);
+
     public ObservableList<Expense> getExpenseExternalList();
 
     public ExpenseList getExpenseList();
@@ -134,4 +142,22 @@ public interface Model {
     public IncomeList getIncomeList();
 
     public StringProperty getIncomeListTotalString();
+
+    //******************************** Transaction operations
+
+    /**
+     * Starts a transaction, so that the following changes to expenses, incomes, payments and budgets
+     * can be kept or reverted together.
+     */
+    public void startTransaction();
+
+    /**
+     * Keeps the changes made in the transaction. Expense and income changes are undone together.
+     */
+    public void commitTransaction();
+
+    /**
+     * Reverts every change made in the transaction.
+     */
+    public void rollbackTransaction();
 }
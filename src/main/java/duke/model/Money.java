@@ -0,0 +1,155 @@
+package duke.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money, kept as a whole number of cents so that adding amounts up needs no allocation.
+ * Arithmetic is exact and throws {@code ArithmeticException} instead of overflowing.
+ *
+ * <p>Amounts are converted to and from {@code BigDecimal} of scale 2 where they are shown or stored.
+ */
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+
+    private static final int CENTS_PER_UNIT = 100;
+    private static final int SCALE = 2;
+    /**
+     * The number of digits which always fit into a {@code long} after being scaled to cents.
+     */
+    private static final int MAX_FAST_DIGITS = 16;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Returns the amount of a number of cents.
+     *
+     * @param cents the number of cents.
+     * @return the amount.
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Returns the amount a {@code BigDecimal} represents.
+     *
+     * @param amount the amount, with no fraction of a cent, such as {@code 1.5} or {@code 1.500}.
+     * @return the amount.
+     * @throws ArithmeticException if the amount has a fraction of a cent or too many cents to count.
+     */
+    public static Money of(BigDecimal amount) {
+        BigDecimal cents;
+        try {
+            cents = amount.setScale(SCALE, RoundingMode.UNNECESSARY);
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Amount " + amount.toPlainString() + " has a fraction of a cent");
+        }
+        return ofCents(cents.unscaledValue().longValueExact());
+    }
+
+    /**
+     * Parses an amount the way {@code new BigDecimal(String)} would.
+     * Plain decimals are parsed straight into cents; anything else is left to {@code BigDecimal}.
+     *
+     * @param amount the amount as a string, with no fraction of a cent.
+     * @return the amount.
+     * @throws NumberFormatException if the string is not a decimal, has a fraction of a cent,
+     *                               or has too many cents to count.
+     */
+    public static Money parse(String amount) {
+        int position = 0;
+        boolean isNegative = false;
+        if (!amount.isEmpty() && (amount.charAt(0) == '-' || amount.charAt(0) == '+')) {
+            isNegative = amount.charAt(0) == '-';
+            position++;
+        }
+        long units = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; position < amount.length(); position++) {
+            char c = amount.charAt(position);
+            if (c >= '0' && c <= '9') {
+                units = units * 10 + (c - '0');
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                break;
+            }
+        }
+        if (position == amount.length() && digits > 0 && digits <= MAX_FAST_DIGITS && scale <= SCALE) {
+            for (int i = Math.max(scale, 0); i < SCALE; i++) {
+                units *= 10;
+            }
+            return ofCents(isNegative ? -units : units);
+        }
+        try {
+            return of(new BigDecimal(amount));
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException(e.getMessage());
+        }
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public Money add(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money subtract(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    /**
+     * Returns the amount as a {@code BigDecimal} of scale 2.
+     *
+     * @return the amount as a {@code BigDecimal}.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || (other instanceof Money && cents == ((Money) other).cents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    /**
+     * Returns the amount with two decimal places, as {@code toBigDecimal().toString()} would.
+     *
+     * @return the amount as a string.
+     */
+    @Override
+    public String toString() {
+        long fraction = Math.abs(cents % CENTS_PER_UNIT);
+        return (cents < 0 ? "-" : "") + Math.abs(cents / CENTS_PER_UNIT) + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
@@ -0,0 +1,239 @@
+package duke.model;
+
+import duke.commons.LogsCenter;
+import duke.exception.DukeException;
+import duke.logic.parser.Parser;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * How often a recurring expense recurs: every {@code interval} days, weeks, months or years from the day of the
+ * expense, up to an optional last day.
+ *
+ * <p>Occurrences are never stored. The number of occurrences within a range of days is worked out with a few
+ * divisions, so counting the occurrences of every rule in a period takes time in the number of rules, not in
+ * the number of occurrences. The days of the occurrences are only listed when asked for, and only within the
+ * range asked for.
+ *
+ * <p>Monthly and yearly occurrences are counted from the first day, not from one another, so a rule starting on
+ * the 31st recurs on the last day of shorter months and on the 31st again after them.
+ */
+public final class Recurrence {
+    private static final Logger logger = LogsCenter.getLogger(Recurrence.class);
+
+    /**
+     * Recurs every month, with no last day. Expenses only marked as recurring recur this way.
+     */
+    public static final Recurrence MONTHLY = new Recurrence(Unit.MONTH, 1, null);
+
+    public enum Unit {
+        DAY(1, false),
+        WEEK(7, false),
+        MONTH(1, true),
+        YEAR(12, true);
+
+        /**
+         * The number of days, or months, of the unit.
+         */
+        private final int length;
+        private final boolean isCountedInMonths;
+
+        Unit(int length, boolean isCountedInMonths) {
+            this.length = length;
+            this.isCountedInMonths = isCountedInMonths;
+        }
+    }
+
+    private final Unit unit;
+    private final int interval;
+    /**
+     * The last day the expense may recur on, or null if it recurs forever.
+     */
+    private final LocalDate end;
+
+    private Recurrence(Unit unit, int interval, LocalDate end) {
+        this.unit = unit;
+        this.interval = interval;
+        this.end = end;
+    }
+
+    /**
+     * Returns a rule recurring every {@code interval} units, with no last day.
+     *
+     * @param unit     the unit.
+     * @param interval the number of units between occurrences.
+     * @return the rule.
+     * @throws DukeException if the interval is not positive.
+     */
+    public static Recurrence every(Unit unit, int interval) throws DukeException {
+        requireNonNull(unit);
+        if (interval < 1) {
+            throw new DukeException(String.format(DukeException.MESSAGE_EXPENSE_RECURRENCE_INVALID,
+                    interval + " " + unit));
+        }
+        return new Recurrence(unit, interval, null);
+    }
+
+    /**
+     * Parses a rule written as an optional interval and a unit, such as {@code month} or {@code 2 weeks},
+     * optionally followed by {@code until} and the last day as dd/MM/yyyy.
+     *
+     * @param recurrence the rule as a string.
+     * @return the rule.
+     * @throws DukeException if the string is not a valid rule.
+     */
+    public static Recurrence parse(String recurrence) throws DukeException {
+        String[] words = recurrence.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        int position = 0;
+        int interval = 1;
+        try {
+            if (words[position].chars().allMatch(Character::isDigit)) {
+                interval = Integer.parseInt(words[position++]);
+            }
+            String unitName = words[position++];
+            if (unitName.endsWith("s")) {
+                unitName = unitName.substring(0, unitName.length() - 1);
+            }
+            Recurrence rule = every(Unit.valueOf(unitName.toUpperCase(Locale.ROOT)), interval);
+            if (position == words.length) {
+                return rule;
+            }
+            if (position + 2 == words.length && words[position].equals("until")) {
+                return rule.until(Parser.parseDate(words[position + 1]));
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            logger.fine("Recurrence " + recurrence + " could not be parsed: " + e.getMessage());
+        }
+        throw new DukeException(String.format(DukeException.MESSAGE_EXPENSE_RECURRENCE_INVALID, recurrence));
+    }
+
+    /**
+     * Returns this rule with a last day.
+     *
+     * @param end the last day the expense may recur on, or null if it recurs forever.
+     * @return the rule.
+     */
+    public Recurrence until(LocalDate end) {
+        return new Recurrence(unit, interval, end);
+    }
+
+    public Unit getUnit() {
+        return unit;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Returns the last day the expense may recur on.
+     *
+     * @return the last day, or null if the expense recurs forever.
+     */
+    public LocalDate getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the number of occurrences from {@code fromDay} to {@code toDay} inclusive of a rule starting
+     * on {@code start}.
+     *
+     * @param start   the day of the first occurrence.
+     * @param fromDay the first day of the range, in epoch days.
+     * @param toDay   the last day of the range, in epoch days.
+     * @return the number of occurrences in the range.
+     */
+    public long count(LocalDate start, long fromDay, long toDay) {
+        long firstDay = Math.max(fromDay, start.toEpochDay());
+        long lastDay = end == null ? toDay : Math.min(toDay, end.toEpochDay());
+        if (firstDay > lastDay) {
+            return 0;
+        }
+        return lastIndexUntil(start, lastDay) - lastIndexUntil(start, firstDay - 1);
+    }
+
+    /**
+     * Returns the days of the occurrences from {@code fromDay} to {@code toDay} inclusive of a rule starting
+     * on {@code start}, from the first.
+     *
+     * @param start   the day of the first occurrence.
+     * @param fromDay the first day of the range, in epoch days.
+     * @param toDay   the last day of the range, in epoch days.
+     * @return the days of the occurrences in the range.
+     */
+    public List<LocalDate> occurrences(LocalDate start, long fromDay, long toDay) {
+        List<LocalDate> occurrences = new ArrayList<>();
+        long firstDay = Math.max(fromDay, start.toEpochDay());
+        long lastDay = end == null ? toDay : Math.min(toDay, end.toEpochDay());
+        if (firstDay > lastDay) {
+            return occurrences;
+        }
+        long lastIndex = lastIndexUntil(start, lastDay);
+        for (long index = lastIndexUntil(start, firstDay - 1) + 1; index <= lastIndex; index++) {
+            occurrences.add(occurrence(start, index));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the index of the last occurrence on or before {@code day}, counting the first occurrence as 0,
+     * or -1 if there is none.
+     */
+    private long lastIndexUntil(LocalDate start, long day) {
+        if (day < start.toEpochDay()) {
+            return -1;
+        }
+        long step = (long) interval * unit.length;
+        long index;
+        if (unit.isCountedInMonths) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            long months = (date.getYear() - (long) start.getYear()) * 12 + date.getMonthValue()
+                    - start.getMonthValue();
+            index = months / step;
+        } else {
+            index = (day - start.toEpochDay()) / step;
+        }
+        // The occurrence of the same month may still be after the day, if the month is the one of the day.
+        return occurrence(start, index).toEpochDay() > day ? index - 1 : index;
+    }
+
+    private LocalDate occurrence(LocalDate start, long index) {
+        long step = (long) interval * unit.length;
+        return unit.isCountedInMonths ? start.plusMonths(index * step) : start.plusDays(index * step);
+    }
+
+    /**
+     * Returns the rule the way {@link #parse(String)} reads it.
+     *
+     * @return the rule as a string.
+     */
+    @Override
+    public String toString() {
+        String rule = interval + " " + unit.name().toLowerCase(Locale.ROOT) + (interval == 1 ? "" : "s");
+        return end == null ? rule : rule + " until " + Parser.formatDate(end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Recurrence)) {
+            return false;
+        }
+        Recurrence otherRecurrence = (Recurrence) other;
+        return unit == otherRecurrence.unit && interval == otherRecurrence.interval
+                && (end == null ? otherRecurrence.end == null : end.equals(otherRecurrence.end));
+    }
+
+    @Override
+    public int hashCode() {
+        return (unit.hashCode() * 31 + interval) * 31 + (end == null ? 0 : end.hashCode());
+    }
+}
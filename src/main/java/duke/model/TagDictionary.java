@@ -0,0 +1,224 @@
+package duke.model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The tags of every item in the process, each given a small id the first time it is seen,
+ * so that tags can be compared and indexed as ids.
+ *
+ * <p>An item has a set of tags, written as the tags separated by spaces. Every distinct set of tags is
+ * given an id of its own, so that an item keeps a single {@code int} however many tags it has, and items
+ * with the same tags share the ids of their tags. The order and repetition of the tags do not matter, so
+ * {@code "FOOD DRINKS"} and {@code "DRINKS FOOD"} are the same set, written the way it was first written
+ * without repeated tags. The empty set always has id {@link #EMPTY_SET_ID}.
+ *
+ * <p>Ids are never reused or forgotten, and only mean something within the running process;
+ * storage writes the tags themselves. Ids may be looked up from any thread.
+ */
+public final class TagDictionary {
+    public static final int EMPTY_SET_ID = 0;
+    /**
+     * The id looked up for a tag that has never been seen, which no item has.
+     */
+    public static final int UNKNOWN_ID = -1;
+
+    private static final String TAG_SEPARATOR = " ";
+
+    private static final Map<String, Integer> tagIds = new ConcurrentHashMap<>();
+    /**
+     * The tag of every tag id, written before the id is published in {@link #tagIds}.
+     */
+    private static volatile String[] tags = new String[16];
+    private static int tagCount;
+
+    /**
+     * The id of every set, by the ids of its tags from the smallest, separated by commas.
+     */
+    private static final Map<String, Integer> setIds = new ConcurrentHashMap<>();
+    /**
+     * The canonical string of every set id, written before the id is published in {@link #setIds}.
+     */
+    private static volatile String[] setStrings = new String[16];
+    /**
+     * The tag ids of every set id from the smallest, written before the id is published in {@link #setIds}.
+     */
+    private static volatile int[][] setMembers = new int[16][];
+    private static int setCount;
+
+    static {
+        setIdOf("");
+    }
+
+    private TagDictionary() {
+    }
+
+    /**
+     * Returns the id of a single tag, giving it a new id if it has none yet.
+     *
+     * @param tag the tag.
+     * @return the id of the tag.
+     */
+    public static int idOf(String tag) {
+        Integer id = tagIds.get(requireNonNull(tag));
+        if (id != null) {
+            return id;
+        }
+        synchronized (TagDictionary.class) {
+            id = tagIds.get(tag);
+            if (id != null) {
+                return id;
+            }
+            String[] newTags = tagCount == tags.length ? Arrays.copyOf(tags, tagCount * 2) : tags;
+            newTags[tagCount] = tag;
+            tags = newTags;
+            tagIds.put(tag, tagCount);
+            return tagCount++;
+        }
+    }
+
+    /**
+     * Returns the id of a single tag without giving it one, for looking tags up from user input.
+     *
+     * @param tag the tag.
+     * @return the id of the tag, or {@link #UNKNOWN_ID} if it has none.
+     */
+    public static int findIdOf(String tag) {
+        return tagIds.getOrDefault(requireNonNull(tag), UNKNOWN_ID);
+    }
+
+    /**
+     * Returns the tag of a tag id.
+     *
+     * @param id an id given by {@link #idOf(String)}.
+     * @return the tag of the id.
+     */
+    public static String tagOf(int id) {
+        return tags[id];
+    }
+
+    /**
+     * Returns the number of tag ids given so far. Every tag id is smaller than this number.
+     *
+     * @return the number of tags in the dictionary.
+     */
+    public static int size() {
+        return tagIds.size();
+    }
+
+    /**
+     * Returns the id of a set of tags, giving it a new id if it has none yet.
+     * Tags are separated by spaces; repeated tags and extra spaces are ignored.
+     *
+     * @param tags the tags separated by spaces.
+     * @return the id of the set of tags.
+     */
+    public static int setIdOf(String tags) {
+        int[] members = splitTags(tags).mapToInt(TagDictionary::idOf).sorted().distinct().toArray();
+        String key = keyOf(members);
+        Integer id = setIds.get(key);
+        if (id != null) {
+            return id;
+        }
+        StringJoiner canonicalTags = new StringJoiner(TAG_SEPARATOR);
+        splitTags(tags).distinct().forEach(canonicalTags::add);
+        synchronized (TagDictionary.class) {
+            id = setIds.get(key);
+            if (id != null) {
+                return id;
+            }
+            String[] newStrings = setCount == setStrings.length
+                    ? Arrays.copyOf(setStrings, setCount * 2) : setStrings;
+            int[][] newMembers = setCount == setMembers.length
+                    ? Arrays.copyOf(setMembers, setCount * 2) : setMembers;
+            newStrings[setCount] = canonicalTags.toString();
+            newMembers[setCount] = members;
+            setStrings = newStrings;
+            setMembers = newMembers;
+            setIds.put(key, setCount);
+            return setCount++;
+        }
+    }
+
+    /**
+     * Returns the ids of a set of tags from the smallest without giving ids to tags that have none,
+     * each of which is looked up as {@link #UNKNOWN_ID}.
+     *
+     * @param tags the tags separated by spaces.
+     * @return the ids of the tags.
+     */
+    public static int[] findTagIdsOf(String tags) {
+        return splitTags(tags).mapToInt(TagDictionary::findIdOf).sorted().distinct().toArray();
+    }
+
+    private static Stream<String> splitTags(String tags) {
+        return Arrays.stream(requireNonNull(tags).trim().split("\\s+")).filter(tag -> !tag.isEmpty());
+    }
+
+    private static String keyOf(int[] members) {
+        StringJoiner key = new StringJoiner(",");
+        for (int member : members) {
+            key.add(Integer.toString(member));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns the tags of a set, separated by spaces, in the order the set was first written.
+     *
+     * @param setId an id given by {@link #setIdOf(String)}.
+     * @return the tags of the set.
+     */
+    public static String tagsOf(int setId) {
+        return setStrings[setId];
+    }
+
+    /**
+     * Returns the ids of the tags of a set, from the smallest.
+     *
+     * @param setId an id given by {@link #setIdOf(String)}.
+     * @return a copy of the tag ids of the set.
+     */
+    public static int[] tagIdsOf(int setId) {
+        return setMembers[setId].clone();
+    }
+
+    /**
+     * Returns the ids of the tags of a set without copying them. The array must not be modified.
+     */
+    static int[] sharedTagIdsOf(int setId) {
+        return setMembers[setId];
+    }
+
+    /**
+     * Returns whether a set contains a tag.
+     *
+     * @param setId an id given by {@link #setIdOf(String)}.
+     * @param tagId an id given by {@link #idOf(String)}.
+     * @return true if the tag is in the set.
+     */
+    public static boolean hasTag(int setId, int tagId) {
+        for (int member : setMembers[setId]) {
+            if (member == tagId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of set ids given so far. Every set id is smaller than this number.
+     *
+     * @return the number of sets in the dictionary.
+     */
+    public static int setCount() {
+        synchronized (TagDictionary.class) {
+            return setCount;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package duke.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A full-text index over some text fields of items, so that the items with a field containing a keyword can be
+ * found without lowering the case of every field of every item on every search.
+ *
+ * <p>The fields of every item are lowered in case once, when the item is added, and kept with the item.
+ * The fields are split into words at every character that is not a letter or digit, and the item is posted
+ * under every run of three characters (trigram) of its words. A keyword is split into words the same way,
+ * and every word of three or more characters has all of its trigrams within one word of any field containing
+ * the keyword, so only the items posted under all of them need to be checked. Keywords with no word that long
+ * are checked against every item, using the fields lowered in case already.
+ *
+ * <p>Items are told apart by identity, as the lists they are indexed from may hold equal items. The same item
+ * may also be added more than once, and stays in the index until it is removed as many times.
+ *
+ * @param <T> the type of the items.
+ */
+public class TextIndex<T> {
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<T, String[]> fieldsOf;
+    /**
+     * The fields of every item, in lower case, by item.
+     */
+    private final Map<T, String[]> lowerCaseFields = new IdentityHashMap<>();
+    /**
+     * The number of times every item was added more than once, by item.
+     */
+    private final Map<T, Integer> extraCounts = new IdentityHashMap<>();
+    /**
+     * The items having a trigram in a word of a field, by trigram.
+     */
+    private final Map<String, Set<T>> postings = new HashMap<>();
+
+    /**
+     * Creates an empty index over the given fields.
+     *
+     * @param fieldsOf returns the text fields of an item to index, any of which may be null.
+     */
+    public TextIndex(Function<T, String[]> fieldsOf) {
+        this.fieldsOf = requireNonNull(fieldsOf);
+    }
+
+    /**
+     * Adds an item to the index.
+     *
+     * @param item the item.
+     */
+    public void add(T item) {
+        if (lowerCaseFields.containsKey(item)) {
+            extraCounts.merge(item, 1, Integer::sum);
+            return;
+        }
+        String[] fields = fieldsOf.apply(item).clone();
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = fields[i] == null ? "" : fields[i].toLowerCase();
+        }
+        lowerCaseFields.put(item, fields);
+        for (String gram : gramsOf(fields)) {
+            postings.computeIfAbsent(gram, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(item);
+        }
+    }
+
+    /**
+     * Removes an item from the index. Removing an item not in the index does nothing.
+     *
+     * @param item the item.
+     */
+    public void remove(T item) {
+        Integer extraCount = extraCounts.remove(item);
+        if (extraCount != null) {
+            if (extraCount > 1) {
+                extraCounts.put(item, extraCount - 1);
+            }
+            return;
+        }
+        String[] fields = lowerCaseFields.remove(item);
+        if (fields == null) {
+            return;
+        }
+        for (String gram : gramsOf(fields)) {
+            Set<T> items = postings.get(gram);
+            items.remove(item);
+            if (items.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Replaces the content of the index with the given items.
+     *
+     * @param items the items to index.
+     */
+    public void reset(Collection<? extends T> items) {
+        lowerCaseFields.clear();
+        extraCounts.clear();
+        postings.clear();
+        for (T item : items) {
+            add(item);
+        }
+    }
+
+    /**
+     * Returns the items in the index with a field containing the keyword, ignoring case.
+     *
+     * @param keyword the keyword.
+     * @return a new set of the matching items, told apart by identity.
+     */
+    public Set<T> find(String keyword) {
+        String lowerCaseKeyword = keyword.toLowerCase();
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (T candidate : candidatesOf(lowerCaseKeyword)) {
+            if (containsLowerCase(lowerCaseFields.get(candidate), lowerCaseKeyword)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns whether an item in the index has a field containing the keyword, ignoring case.
+     *
+     * @param item    an item in the index.
+     * @param keyword the keyword.
+     * @return true if the item matches, or false if it does not or is not in the index.
+     */
+    public boolean matches(T item, String keyword) {
+        String[] fields = lowerCaseFields.get(item);
+        return fields != null && containsLowerCase(fields, keyword.toLowerCase());
+    }
+
+    /**
+     * Returns the items posted under every trigram of the keyword, or every item if the keyword has no trigram.
+     */
+    private Collection<T> candidatesOf(String lowerCaseKeyword) {
+        Set<String> grams = gramsOf(new String[] {lowerCaseKeyword});
+        if (grams.isEmpty()) {
+            return lowerCaseFields.keySet();
+        }
+        Set<T> smallest = null;
+        for (String gram : grams) {
+            Set<T> items = postings.get(gram);
+            if (items == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || items.size() < smallest.size()) {
+                smallest = items;
+            }
+        }
+        List<T> candidates = new ArrayList<>();
+        for (T item : smallest) {
+            boolean isInAll = true;
+            for (String gram : grams) {
+                if (!postings.get(gram).contains(item)) {
+                    isInAll = false;
+                    break;
+                }
+            }
+            if (isInAll) {
+                candidates.add(item);
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean containsLowerCase(String[] fields, String lowerCaseKeyword) {
+        for (String field : fields) {
+            if (field.contains(lowerCaseKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distinct trigrams of the words of the given text.
+     */
+    private static Set<String> gramsOf(String[] texts) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String text : texts) {
+            int wordStart = 0;
+            for (int i = 0; i <= text.length(); i++) {
+                if (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) {
+                    continue;
+                }
+                for (int start = wordStart; start + GRAM_LENGTH <= i; start++) {
+                    grams.add(text.substring(start, start + GRAM_LENGTH));
+                }
+                wordStart = i + 1;
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,61 @@
+package duke.model.payment;
+
+import java.time.LocalDate;
+
+/**
+ * The time scopes of payments as seen on one day, with their bounds worked out once, so that the time scope
+ * of a payment is found by comparing its due day against a few numbers.
+ *
+ * <p>A payment is overdue if it was due before today. A payment not overdue is in this week if it is due by
+ * Sunday, and in this month if it is due by the last day of the month.
+ */
+final class DueCalendar {
+    static final int OVERDUE = 1;
+    static final int IN_WEEK = 1 << 1;
+    static final int IN_MONTH = 1 << 2;
+
+    private final LocalDate today;
+    private final long todayDay;
+    private final long weekEndDay;
+    private final long monthEndDay;
+
+    DueCalendar(LocalDate today) {
+        this.today = today;
+        todayDay = today.toEpochDay();
+        weekEndDay = today.plusDays(7 - today.getDayOfWeek().getValue()).toEpochDay();
+        monthEndDay = today.withDayOfMonth(today.lengthOfMonth()).toEpochDay();
+    }
+
+    LocalDate getToday() {
+        return today;
+    }
+
+    /**
+     * Returns the last day of the time scopes other than overdue, after which no payment is in any of them.
+     */
+    LocalDate getLastDay() {
+        return LocalDate.ofEpochDay(Math.max(weekEndDay, monthEndDay));
+    }
+
+    /**
+     * Returns the time scopes of a payment due on a day.
+     *
+     * @param due the due day of the payment.
+     * @return the time scopes the payment is in, as a combination of {@link #OVERDUE}, {@link #IN_WEEK} and
+     *     {@link #IN_MONTH}.
+     */
+    int scopesOf(LocalDate due) {
+        long dueDay = due.toEpochDay();
+        if (dueDay < todayDay) {
+            return OVERDUE;
+        }
+        int scopes = 0;
+        if (dueDay <= weekEndDay) {
+            scopes |= IN_WEEK;
+        }
+        if (dueDay <= monthEndDay) {
+            scopes |= IN_MONTH;
+        }
+        return scopes;
+    }
+}
@@ -1,6 +1,8 @@
 package duke.model.payment;
 
 import duke.exception.DukeException;
+import duke.model.DescriptionPool;
+import duke.model.TagDictionary;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -33,7 +35,7 @@ public class Payment {
 
     // Optional fields
     private String receiver;
-    private String tag;
+    private int tagSetId;
     private Priority priority;
 
     /**
@@ -80,7 +82,7 @@ public class Payment {
 
         // Optional fields
         private String receiver = NOT_ASSIGNED;
-        private String tag = NOT_ASSIGNED;
+        private int tagSetId = TagDictionary.EMPTY_SET_ID;
         private Priority priority = DEFAULT_PRIORITY;
 
         /**
@@ -102,7 +104,7 @@ public class Payment {
             description = payment.description;
             receiver = payment.receiver;
             due = payment.due;
-            tag = payment.tag;
+            tagSetId = payment.tagSetId;
             amount = payment.amount;
             priority = payment.priority;
         }
@@ -118,7 +120,7 @@ public class Payment {
             requireNonNull(description);
             assert !description.isEmpty();
 
-            this.description = description;
+            this.description = DescriptionPool.intern(description);
             return this;
         }
 
@@ -157,17 +159,30 @@ public class Payment {
         }
 
         /**
-         * Sets the tag in builder.
+         * Sets the field due in builder.
+         *
+         * @param due the due date to set
+         * @return a builder with the due already set
+         */
+        public Builder setDue(LocalDate due) {
+            requireNonNull(due);
+
+            this.due = due;
+            return this;
+        }
+
+        /**
+         * Sets the tags in builder, separated by spaces.
          * The {@code tag} cannot be empty.
          *
-         * @param tag the tag to set
+         * @param tag the tags to set
          * @return The builder with the tag set
          */
         public Builder setTag(String tag) {
             requireNonNull(tag);
             assert !tag.isEmpty();
 
-            this.tag = tag;
+            this.tagSetId = TagDictionary.setIdOf(tag);
             return this;
         }
 
@@ -190,6 +205,19 @@ public class Payment {
             return this;
         }
 
+        /**
+         * Sets the field amount in builder.
+         *
+         * @param amount the amount to set
+         * @return a builder with the amount already set
+         */
+        public Builder setAmount(BigDecimal amount) {
+            requireNonNull(amount);
+
+            this.amount = amount;
+            return this;
+        }
+
         /**
          * Parses and sets the field priority in builder.
          *
@@ -209,6 +237,19 @@ public class Payment {
             return this;
         }
 
+        /**
+         * Sets the field priority in builder.
+         *
+         * @param priority the priority to set
+         * @return a builder with the priority already set
+         */
+        public Builder setPriority(Priority priority) {
+            requireNonNull(priority);
+
+            this.priority = priority;
+            return this;
+        }
+
         /**
          * Builds a Payment with given fields.
          *
@@ -230,7 +271,7 @@ public class Payment {
         description = builder.description;
         receiver = builder.receiver;
         due = builder.due;
-        tag = builder.tag;
+        tagSetId = builder.tagSetId;
         amount = builder.amount;
         priority = builder.priority;
     }
@@ -248,7 +289,11 @@ public class Payment {
     }
 
     public String getTag() {
-        return this.tag;
+        return TagDictionary.tagsOf(tagSetId);
+    }
+
+    public int getTagSetId() {
+        return tagSetId;
     }
 
     public BigDecimal getAmount() {
@@ -274,8 +319,9 @@ public class Payment {
         requireNonNull(keyword);
         assert !keyword.isEmpty();
 
-        return description.toLowerCase().contains(keyword.toLowerCase())
-                || receiver.toLowerCase().contains(keyword.toLowerCase())
-                || tag.toLowerCase().contains(keyword.toLowerCase());
+        String lowerCaseKeyword = keyword.toLowerCase();
+        return description.toLowerCase().contains(lowerCaseKeyword)
+                || receiver.toLowerCase().contains(lowerCaseKeyword)
+                || getTag().toLowerCase().contains(lowerCaseKeyword);
     }
 }
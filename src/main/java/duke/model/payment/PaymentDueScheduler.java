@@ -0,0 +1,135 @@
+package duke.model.payment;
+
+import duke.commons.LogsCenter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Keeps track of which day it is for the time scopes of payments, and moves on to the next day at midnight.
+ *
+ * <p>The bounds of the overdue, week and month scopes are worked out once a day instead of on every test of a
+ * payment. Once started, the scheduler wakes up at every midnight and hands the change of day to a dispatcher,
+ * which should run it on the thread the payments are shown from. Listeners are then told of the calendars of
+ * the old and the new day, so that they can move the payments whose time scopes changed.
+ */
+public class PaymentDueScheduler implements AutoCloseable {
+    private static final Logger logger = LogsCenter.getLogger(PaymentDueScheduler.class);
+
+    private final Clock clock;
+    private final List<BiConsumer<DueCalendar, DueCalendar>> listeners = new CopyOnWriteArrayList<>();
+    private volatile DueCalendar calendar;
+    private ScheduledExecutorService timer;
+
+    /**
+     * Creates a scheduler for the days of the system clock, starting from today.
+     */
+    public PaymentDueScheduler() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a scheduler for the days of the given clock, starting from its current day.
+     *
+     * @param clock the clock telling the day and time.
+     */
+    public PaymentDueScheduler(Clock clock) {
+        this.clock = requireNonNull(clock);
+        this.calendar = new DueCalendar(LocalDate.now(clock));
+    }
+
+    DueCalendar getCalendar() {
+        return calendar;
+    }
+
+    public LocalDate getToday() {
+        return calendar.getToday();
+    }
+
+    /**
+     * Adds a listener told of the calendars of the old and the new day whenever the day changes.
+     */
+    void addListener(BiConsumer<DueCalendar, DueCalendar> listener) {
+        listeners.add(requireNonNull(listener));
+    }
+
+    /**
+     * Moves on to the given day, and tells every listener of the change.
+     * Does nothing if it is that day already.
+     *
+     * @param today the new day.
+     */
+    public void advanceTo(LocalDate today) {
+        DueCalendar oldCalendar = calendar;
+        if (oldCalendar.getToday().equals(today)) {
+            return;
+        }
+        DueCalendar newCalendar = new DueCalendar(today);
+        calendar = newCalendar;
+        logger.info("Payment time scopes moved on to " + today);
+        for (BiConsumer<DueCalendar, DueCalendar> listener : listeners) {
+            listener.accept(oldCalendar, newCalendar);
+        }
+    }
+
+    /**
+     * Starts waking up at every midnight to move on to the new day.
+     *
+     * @param dispatcher runs the change of day on the thread the payments are shown from,
+     *                   holding the lock of the model the payments are in.
+     */
+    public synchronized void start(Executor dispatcher) {
+        requireNonNull(dispatcher);
+        if (timer != null) {
+            return;
+        }
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "payment-due-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleNextDay(dispatcher);
+    }
+
+    private synchronized void scheduleNextDay(Executor dispatcher) {
+        if (timer == null) {
+            return;
+        }
+        timer.schedule(() -> {
+            LocalDate today = LocalDate.now(clock);
+            dispatcher.execute(() -> advanceTo(today));
+            scheduleNextDay(dispatcher);
+        }, delayUntilNextDay(ZonedDateTime.now(clock)).toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the time from {@code now} to the start of the next day in its time zone.
+     */
+    static Duration delayUntilNextDay(ZonedDateTime now) {
+        ZonedDateTime nextDay = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        return Duration.between(now, nextDay);
+    }
+
+    /**
+     * Stops waking up at midnight.
+     */
+    @Override
+    public synchronized void close() {
+        if (timer != null) {
+            timer.shutdownNow();
+            timer = null;
+        }
+    }
+}
@@ -1,30 +1,37 @@
 package duke.model.payment;
 
-import java.time.LocalDate;
 import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * Tests whether a {@code payment} is coming to due in current month.
+ * The bounds of the time scope are worked out once a day by a {@code PaymentDueScheduler}.
  */
 public class PaymentInMonthPredicate implements Predicate<Payment> {
 
+    private final PaymentDueScheduler scheduler;
+
+    /**
+     * Constructs a predicate for the time scope as of today, which does not move on to later days.
+     */
     public PaymentInMonthPredicate() {
+        this(new PaymentDueScheduler());
+    }
 
+    /**
+     * Constructs a predicate for the time scope as of the current day of {@code scheduler}.
+     *
+     * @param scheduler the scheduler telling the current day.
+     */
+    public PaymentInMonthPredicate(PaymentDueScheduler scheduler) {
+        this.scheduler = requireNonNull(scheduler);
     }
 
     @Override
     public boolean test(Payment payment) {
         requireNonNull(payment);
 
-        LocalDate due = payment.getDue();
-        LocalDate now = LocalDate.now();
-
-        boolean isSameYear = (due.getYear() == now.getYear());
-        boolean isSameMonth = due.getMonth().equals(now.getMonth());
-        boolean isOverdue = due.isBefore(now);
-
-        return (isSameYear && isSameMonth && !isOverdue);
+        return (scheduler.getCalendar().scopesOf(payment.getDue()) & DueCalendar.IN_MONTH) != 0;
     }
 }
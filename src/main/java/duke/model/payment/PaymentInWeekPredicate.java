@@ -1,40 +1,37 @@
 package duke.model.payment;
 
-import java.time.LocalDate;
 import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * Tests whether a {@code payment} is coming to due in current week.
+ * The bounds of the time scope are worked out once a day by a {@code PaymentDueScheduler}.
  */
 public class PaymentInWeekPredicate implements Predicate<Payment> {
 
+    private final PaymentDueScheduler scheduler;
+
+    /**
+     * Constructs a predicate for the time scope as of today, which does not move on to later days.
+     */
     public PaymentInWeekPredicate() {
+        this(new PaymentDueScheduler());
+    }
 
+    /**
+     * Constructs a predicate for the time scope as of the current day of {@code scheduler}.
+     *
+     * @param scheduler the scheduler telling the current day.
+     */
+    public PaymentInWeekPredicate(PaymentDueScheduler scheduler) {
+        this.scheduler = requireNonNull(scheduler);
     }
 
     @Override
     public boolean test(Payment payment) {
         requireNonNull(payment);
 
-        LocalDate now = LocalDate.now();
-        LocalDate due = payment.getDue();
-
-        // The current day of week. e.g. Wednesday corresponds to 3
-        int dayOfWeek = now.getDayOfWeek().getValue();
-
-        // Monday of current week
-        LocalDate thisMonday = now.minusDays(dayOfWeek - 1);
-
-        // Sunday of current week
-        LocalDate thisSunday = now.plusDays(7 - dayOfWeek);
-
-        boolean isInCurrentWeek = due.equals(thisSunday) || due.equals(thisMonday)
-                || (due.isAfter(thisMonday) && due.isBefore(thisSunday));
-
-        boolean isOverdue = due.isBefore(now);
-
-        return (!isOverdue && isInCurrentWeek);
+        return (scheduler.getCalendar().scopesOf(payment.getDue()) & DueCalendar.IN_WEEK) != 0;
     }
 }
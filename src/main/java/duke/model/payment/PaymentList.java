@@ -2,15 +2,21 @@ package duke.model.payment;
 
 import duke.commons.LogsCenter;
 import duke.exception.DukeException;
+import duke.model.TextIndex;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -23,9 +29,12 @@ import static java.util.Objects.requireNonNull;
  *
  * Payments can be sorted according to their amounts, due or priorities,
  * where payments with higher amounts, priorities and closer due will be placed at prior.
+ * The internal list is kept sorted as payments are added, removed and edited, by inserting each payment
+ * where it belongs, so that the whole list is only sorted again when the sorting criteria change.
  *
  * Time scope of payments can be altered such that it can choose to only shows payments
  * overdue, coming in current week, coming in current month or in all time.
+ * The time scopes move on at midnight, when only the payments whose time scope changed are tested again.
  *
  * Payments can be searched by keyword. Those containing keyword in their
  * description, receiver, or tag will be found out.
@@ -55,6 +64,27 @@ public class PaymentList {
      */
     private ObservableList<Payment> unmodifiableFilteredList;
 
+    /**
+     * The full-text index of the description, receiver and tag of all the payments.
+     */
+    private final TextIndex<Payment> textIndex = new TextIndex<>(payment ->
+            new String[] {payment.getDescription(), payment.getReceiver(), payment.getTag()});
+
+    /**
+     * The payments by their due day, to find the payments whose time scope may change with the day.
+     */
+    private final NavigableMap<LocalDate, List<Payment>> paymentsByDue = new TreeMap<>();
+
+    /**
+     * Tells the current day for the time scopes of payments.
+     */
+    private final PaymentDueScheduler dueScheduler;
+
+    /**
+     * The search predicate of the filtered list, or null if the filtered list has a time predicate.
+     */
+    private SearchKeywordPredicate searchPredicate;
+
     /**
      * Sorting criteria used to sort payments.
      */
@@ -74,9 +104,21 @@ public class PaymentList {
      * Sorting criteria of payments.
      */
     public enum SortingCriteria {
-        TIME,
-        AMOUNT,
-        PRIORITY;
+        TIME(Comparator.comparing(Payment::getDue), false),
+        AMOUNT(Comparator.comparing(Payment::getAmount).reversed(), true), // higher amounts will be prior.
+        PRIORITY(Comparator.comparing(Payment::getNumeratedPriority).reversed(), true); // higher priority first.
+
+        private final Comparator<Payment> comparator;
+        /**
+         * Whether payments that compare equal are listed from the newest, as they were when the list was
+         * sorted ascending and then reversed.
+         */
+        private final boolean isNewestFirst;
+
+        SortingCriteria(Comparator<Payment> comparator, boolean isNewestFirst) {
+            this.comparator = comparator;
+            this.isNewestFirst = isNewestFirst;
+        }
     }
 
     /**
@@ -88,10 +130,28 @@ public class PaymentList {
      * @param payments an empty list or a list of payments from storage
      */
     public PaymentList(List<Payment> payments) {
+        this(payments, new PaymentDueScheduler());
+    }
+
+    /**
+     * Constructs a PaymentList with a list of payments, whose time scopes follow the days of
+     * {@code dueScheduler}.
+     *
+     * @param payments     an empty list or a list of payments from storage
+     * @param dueScheduler the scheduler telling the current day
+     */
+    public PaymentList(List<Payment> payments, PaymentDueScheduler dueScheduler) {
         requireNonNull(payments);
+        requireNonNull(dueScheduler);
 
         // Fills the internal list
         this.internalList = FXCollections.observableList(payments);
+        textIndex.reset(payments);
+        for (Payment payment : payments) {
+            indexDue(payment);
+        }
+        this.dueScheduler = dueScheduler;
+        dueScheduler.addListener(this::onDayChanged);
         sortingCriteria = DEFAULT_SORTING_CRITERIA; // TIME
         sortInternalList();
 
@@ -116,24 +176,43 @@ public class PaymentList {
 
     /**
      * Adds a payment to the list.
-     * The list will then be sorted.
+     * The payment is inserted where it belongs in the sorted list.
      */
     public void add(Payment payment) {
         requireNonNull(payment);
 
-        internalList.add(payment);
-        sortInternalList();
+        index(payment);
+        internalList.add(insertionPoint(payment), payment);
+    }
+
+    /**
+     * Replaces all payments in the list with {@code payments}.
+     * The payments are sorted before they replace the list.
+     */
+    public void setPayments(List<Payment> payments) {
+        requireNonNull(payments);
+
+        List<Payment> sortedPayments = new ArrayList<>(payments);
+        sortedPayments.sort(sortingCriteria.comparator);
+        textIndex.reset(sortedPayments);
+        paymentsByDue.clear();
+        for (Payment payment : sortedPayments) {
+            indexDue(payment);
+        }
+        if (searchPredicate != null) {
+            searchPredicate.onPaymentsReset();
+        }
+        internalList.setAll(sortedPayments);
     }
 
     /**
      * Removes the payment at {@code index} from the list.
      * The payment must exist in the list.
-     * The list will then be sorted.
      */
     public void remove(int index) throws DukeException {
         Payment target = getPayment(index);
-        internalList.remove(target);
-        sortInternalList();
+        internalList.remove(filteredList.getSourceIndex(index - 1));
+        unindex(target);
     }
 
     /**
@@ -157,17 +236,162 @@ public class PaymentList {
     /**
      * Replaces the payment at {@code index} in the list with {@code editedPayment}.
      * The {@code index} must be a valid index in scope.
-     * The list will then be sorted.
+     * The edited payment takes the place of the payment it replaces if it sorts there, and is moved to
+     * where it belongs otherwise.
      */
     public void setPayment(int index, Payment editedPayment) throws DukeException {
         requireNonNull(editedPayment);
 
-        remove(index);
-        add(editedPayment);
+        Payment target = getPayment(index);
+        int sourceIndex = filteredList.getSourceIndex(index - 1);
+        unindex(target);
+        index(editedPayment);
+        if (isInOrderAt(sourceIndex, editedPayment)) {
+            internalList.set(sourceIndex, editedPayment);
+        } else {
+            internalList.remove(sourceIndex);
+            internalList.add(insertionPoint(editedPayment), editedPayment);
+        }
+    }
+
+    /**
+     * Adds a payment to the full-text index, and to the payments found by the current search.
+     */
+    private void index(Payment payment) {
+        indexDue(payment);
+        textIndex.add(payment);
+        if (searchPredicate != null) {
+            searchPredicate.onPaymentAdded(payment);
+        }
+    }
+
+    /**
+     * Removes a payment from the full-text index, and from the payments found by the current search.
+     */
+    private void unindex(Payment payment) {
+        List<Payment> paymentsOfDay = paymentsByDue.get(payment.getDue());
+        if (paymentsOfDay != null) {
+            paymentsOfDay.removeIf(other -> other == payment);
+            if (paymentsOfDay.isEmpty()) {
+                paymentsByDue.remove(payment.getDue());
+            }
+        }
+        textIndex.remove(payment);
+        if (searchPredicate != null) {
+            searchPredicate.onPaymentRemoved(payment);
+        }
+    }
+
+    private void indexDue(Payment payment) {
+        paymentsByDue.computeIfAbsent(payment.getDue(), due -> new ArrayList<>()).add(payment);
     }
 
     /**
-     * Sets the sorting criteria of the internal list.
+     * Tests again the payments whose time scope changed with the day, if the filtered list shows a time scope.
+     * Each of them is set again into the internal list, so that the filtered list only updates those payments.
+     */
+    private void onDayChanged(DueCalendar oldCalendar, DueCalendar newCalendar) {
+        if (searchPredicate != null || filteredList.getPredicate() == PREDICATE_SHOW_ALL_PAYMENTS) {
+            return;
+        }
+        LocalDate firstDue = min(oldCalendar.getToday(), newCalendar.getToday());
+        LocalDate lastDue = max(oldCalendar.getLastDay(), newCalendar.getLastDay());
+        List<Payment> movedPayments = new ArrayList<>();
+        for (List<Payment> paymentsOfDay : paymentsByDue.subMap(firstDue, true, lastDue, true).values()) {
+            for (Payment payment : paymentsOfDay) {
+                if (oldCalendar.scopesOf(payment.getDue()) != newCalendar.scopesOf(payment.getDue())) {
+                    movedPayments.add(payment);
+                }
+            }
+        }
+        for (Payment payment : movedPayments) {
+            int sourceIndex = indexInInternalList(payment);
+            if (sourceIndex >= 0) {
+                internalList.set(sourceIndex, payment);
+            }
+        }
+        logger.info(movedPayments.size() + " payments moved to another time scope");
+    }
+
+    private static LocalDate min(LocalDate first, LocalDate second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    private static LocalDate max(LocalDate first, LocalDate second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    /**
+     * Returns the index of the given payment in the internal list, or -1 if it is not there.
+     * Only the run of payments comparing equal to it is searched.
+     */
+    private int indexInInternalList(Payment payment) {
+        Comparator<Payment> comparator = sortingCriteria.comparator;
+        int low = lowerBound(payment);
+        for (int i = low; i < internalList.size() && comparator.compare(internalList.get(i), payment) == 0; i++) {
+            if (internalList.get(i) == payment) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index to insert a new payment at. A payment comparing equal to others goes after them when
+     * sorting by time, and before them when sorting by amount or priority, so that ties are listed as they were
+     * when the list was sorted ascending and then reversed.
+     */
+    private int insertionPoint(Payment payment) {
+        return sortingCriteria.isNewestFirst ? lowerBound(payment) : upperBound(payment);
+    }
+
+    /**
+     * Returns the index of the first payment in the internal list that is not sorted before the given payment.
+     */
+    private int lowerBound(Payment payment) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortingCriteria.comparator.compare(internalList.get(middle), payment) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first payment in the internal list that is sorted after the given payment.
+     */
+    private int upperBound(Payment payment) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortingCriteria.comparator.compare(internalList.get(middle), payment) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns whether the internal list stays sorted if the payment at {@code sourceIndex} is replaced by
+     * {@code payment}.
+     */
+    private boolean isInOrderAt(int sourceIndex, Payment payment) {
+        Comparator<Payment> comparator = sortingCriteria.comparator;
+        return (sourceIndex == 0 || comparator.compare(internalList.get(sourceIndex - 1), payment) <= 0)
+                && (sourceIndex == internalList.size() - 1
+                || comparator.compare(payment, internalList.get(sourceIndex + 1)) <= 0);
+    }
+
+    /**
+     * Sets the sorting criteria of the internal list, which is sorted again only if the criteria change.
      * The {@code sortingCriteria} must literally corresponds to an element of enum ignoring the case.
      * Updates the {@code sortingCriteriaIndicator}.
      *
@@ -177,12 +401,16 @@ public class PaymentList {
     public void setSortingCriteria(String sortingCriteria) throws DukeException {
         requireNonNull(sortingCriteria);
 
+        SortingCriteria newSortingCriteria;
         try {
-            this.sortingCriteria = SortingCriteria.valueOf(sortingCriteria.toUpperCase());
-            sortInternalList();
+            newSortingCriteria = SortingCriteria.valueOf(sortingCriteria.toUpperCase());
         } catch (IllegalArgumentException e) {
             throw new DukeException(String.format(DukeException.MESSAGE_SORT_CRITERIA_INVALID, sortingCriteria));
         }
+        if (newSortingCriteria != this.sortingCriteria) {
+            this.sortingCriteria = newSortingCriteria;
+            sortInternalList();
+        }
 
         // Updates the fetcher of Ui
         sortingCriteriaIndicator.setValue(this.sortingCriteria);
@@ -202,6 +430,7 @@ public class PaymentList {
                 || (predicate instanceof PaymentInMonthPredicate)
                 || (predicate.equals(PREDICATE_SHOW_ALL_PAYMENTS));
 
+        searchPredicate = null;
         filteredList.setPredicate(predicate);
 
         // Updates the fetcher of Ui
@@ -210,13 +439,14 @@ public class PaymentList {
 
     /**
      * Sets the search predicate to the filtered list by specifying the {@code keyword}.
+     * The payments containing the keyword are looked up in the full-text index.
      *
      * @param keyword the keyword to search
      */
     public void setSearchPredicate(String keyword) {
         requireNonNull(keyword);
 
-        SearchKeywordPredicate searchPredicate = new SearchKeywordPredicate(keyword);
+        searchPredicate = new SearchKeywordPredicate(keyword, textIndex);
         filteredList.setPredicate(searchPredicate);
         predicateIndicator.set(searchPredicate);
     }
@@ -230,6 +460,15 @@ public class PaymentList {
         return unmodifiableFilteredList;
     }
 
+    /**
+     * Returns the scheduler telling the current day for the time scopes of payments.
+     *
+     * @return the scheduler.
+     */
+    public PaymentDueScheduler getDueScheduler() {
+        return dueScheduler;
+    }
+
     /**
      * Returns the indicator of sorting criteria.
      * It helps Ui auto fetch the sorting criteria used in {@code PaymentList}.
@@ -262,26 +501,19 @@ public class PaymentList {
 
     /**
      * Sorts the internal list with the current {@code sortingCriteria}.
+     * The list is sorted in one pass, so that it fires a single permutation. When sorting by amount or priority,
+     * payments that compare equal end up in the reverse of their order before, as they did when the list was
+     * sorted ascending and then reversed.
      */
     private void sortInternalList() {
-        switch (sortingCriteria) {
-        case TIME:
-            internalList.sort(Comparator.comparing(Payment::getDue));
-            break;
-
-        case AMOUNT:
-            internalList.sort(Comparator.comparing(Payment::getAmount));
-            FXCollections.reverse(internalList); // payments with higher amounts will be prior.
-            break;
-
-        case PRIORITY:
-            internalList.sort(Comparator.comparing(Payment::getNumeratedPriority));
-            FXCollections.reverse(internalList); // payments with higher priority will be prior.
-            break;
-
-        default:
-            logger.warning("Unknown errors occur on sortingCriteria");
-            break;
+        if (!sortingCriteria.isNewestFirst) {
+            internalList.sort(sortingCriteria.comparator);
+            return;
+        }
+        Map<Payment, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
         }
+        internalList.sort(sortingCriteria.comparator.thenComparing(positions::get, Comparator.reverseOrder()));
     }
 }
@@ -1,26 +1,37 @@
 package duke.model.payment;
 
-import java.time.LocalDate;
 import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * Tests whether a {@code payment} is overdue.
+ * The bounds of the time scope are worked out once a day by a {@code PaymentDueScheduler}.
  */
 public class PaymentOverduePredicate implements Predicate<Payment> {
 
+    private final PaymentDueScheduler scheduler;
+
+    /**
+     * Constructs a predicate for the time scope as of today, which does not move on to later days.
+     */
     public PaymentOverduePredicate() {
+        this(new PaymentDueScheduler());
+    }
 
+    /**
+     * Constructs a predicate for the time scope as of the current day of {@code scheduler}.
+     *
+     * @param scheduler the scheduler telling the current day.
+     */
+    public PaymentOverduePredicate(PaymentDueScheduler scheduler) {
+        this.scheduler = requireNonNull(scheduler);
     }
 
     @Override
     public boolean test(Payment payment) {
         requireNonNull(payment);
 
-        LocalDate due = payment.getDue();
-        LocalDate now = LocalDate.now();
-
-        return due.isBefore(now);
+        return (scheduler.getCalendar().scopesOf(payment.getDue()) & DueCalendar.OVERDUE) != 0;
     }
 }
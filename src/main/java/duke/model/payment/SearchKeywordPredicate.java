@@ -1,5 +1,8 @@
 package duke.model.payment;
 
+import duke.model.TextIndex;
+
+import java.util.Set;
 import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
@@ -7,11 +10,25 @@ import static java.util.Objects.requireNonNull;
 /**
  * Tests whether a {@code Payment}'s description, receiver or tag contains the keyword given.
  * Ignores the letter case.
+ *
+ * A predicate made by a {@code PaymentList} looks the keyword up in the list's {@code TextIndex} once,
+ * and then only tests whether a payment was found. The list keeps the payments found up to date as
+ * payments are added and removed.
  */
 public class SearchKeywordPredicate implements Predicate<Payment> {
 
     private String keyword;
 
+    /**
+     * The index the payments were found in, or null if payments are checked one by one.
+     */
+    private final TextIndex<Payment> index;
+
+    /**
+     * The payments of the index containing the keyword.
+     */
+    private Set<Payment> matches;
+
     /**
      * Constructs an object of {@code SearchKeywordPredicate}
      * with the keyword set as the given {@code keyword}.
@@ -22,12 +39,55 @@ public class SearchKeywordPredicate implements Predicate<Payment> {
         requireNonNull(keyword);
 
         this.keyword = keyword;
+        this.index = null;
+    }
+
+    /**
+     * Constructs an object of {@code SearchKeywordPredicate}
+     * which finds the payments containing {@code keyword} in {@code index}.
+     *
+     * @param keyword the keyword used for searching
+     * @param index   the index of the payments to search
+     */
+    SearchKeywordPredicate(String keyword, TextIndex<Payment> index) {
+        requireNonNull(keyword);
+        requireNonNull(index);
+
+        this.keyword = keyword;
+        this.index = index;
+        this.matches = index.find(keyword);
+    }
+
+    /**
+     * Updates the payments found after {@code payment} is added to the index.
+     */
+    void onPaymentAdded(Payment payment) {
+        if (index.matches(payment, keyword)) {
+            matches.add(payment);
+        }
+    }
+
+    /**
+     * Updates the payments found after {@code payment} is removed from the index.
+     */
+    void onPaymentRemoved(Payment payment) {
+        matches.remove(payment);
+    }
+
+    /**
+     * Finds the payments again after the whole index is replaced.
+     */
+    void onPaymentsReset() {
+        matches = index.find(keyword);
     }
 
     @Override
     public boolean test(Payment payment) {
         requireNonNull(payment);
 
-        return payment.containsKeyword(keyword);
+        if (index == null) {
+            return payment.containsKeyword(keyword);
+        }
+        return matches.contains(payment);
     }
 }
@@ -0,0 +1,409 @@
+package duke.storage;
+
+import duke.commons.LogsCenter;
+import duke.exception.DukeException;
+import duke.model.Budget;
+import duke.model.BudgetView;
+import duke.model.ExpenseList;
+import duke.model.IncomeList;
+import duke.model.payment.PaymentList;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Wraps a {@code Storage} to write saves on a background thread, so that a slow disk does not hold up commands.
+ *
+ * <p>Saving only marks the kind of data as dirty. The writer thread then writes the latest state saved of
+ * every dirty kind, so that a burst of saves of the same kind costs one write. The writer takes what it writes
+ * from the model while holding the lock of the model, which commands must hold while they change it, so that
+ * it never writes a half-changed model. It releases the lock before writing to the disk, so that commands
+ * do not wait for the disk. Writes are done in the order they were taken from the model.
+ * {@code flush} writes everything still dirty on the calling thread. Loading is passed straight through.
+ */
+public class AsyncStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorage.class);
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    /**
+     * The kinds of data which are saved separately.
+     */
+    private enum Store {
+        EXPENSES, PLAN_ATTRIBUTES, INCOMES, BUDGET, BUDGET_VIEW, PAYMENTS
+    }
+
+    /**
+     * The counters of an {@code AsyncStorage} at one moment.
+     */
+    public static class Metrics {
+        private final int queueDepth;
+        private final long saves;
+        private final long coalescedSaves;
+        private final long writes;
+        private final long failedWrites;
+        private final long totalWriteNanos;
+        private final long maxWriteNanos;
+
+        private Metrics(int queueDepth, long saves, long coalescedSaves, long writes, long failedWrites,
+                        long totalWriteNanos, long maxWriteNanos) {
+            this.queueDepth = queueDepth;
+            this.saves = saves;
+            this.coalescedSaves = coalescedSaves;
+            this.writes = writes;
+            this.failedWrites = failedWrites;
+            this.totalWriteNanos = totalWriteNanos;
+            this.maxWriteNanos = maxWriteNanos;
+        }
+
+        /**
+         * Returns the number of kinds of data saved but not written yet.
+         */
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public long getSaves() {
+            return saves;
+        }
+
+        /**
+         * Returns the number of saves which did not need a write of their own, as an earlier save of the same
+         * kind of data was still waiting to be written.
+         */
+        public long getCoalescedSaves() {
+            return coalescedSaves;
+        }
+
+        public long getWrites() {
+            return writes;
+        }
+
+        public long getFailedWrites() {
+            return failedWrites;
+        }
+
+        public double getAverageWriteMillis() {
+            return writes == 0 ? 0 : (double) totalWriteNanos / writes / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        public double getMaxWriteMillis() {
+            return (double) maxWriteNanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("queue depth %d, %d saves, %d coalesced, %d writes, %d failed, "
+                            + "write latency %.2f ms average, %.2f ms max",
+                    queueDepth, saves, coalescedSaves, writes, failedWrites,
+                    getAverageWriteMillis(), getMaxWriteMillis());
+        }
+    }
+
+    /**
+     * A write taken from the model, with the state saved it was taken from.
+     */
+    private static class PreparedWrite {
+        private final Store store;
+        private final Object data;
+        private final StorageWrite write;
+
+        private PreparedWrite(Store store, Object data, StorageWrite write) {
+            this.store = store;
+            this.data = data;
+            this.write = write;
+        }
+    }
+
+    private final Storage storage;
+    private final Object modelLock;
+    /**
+     * The lock held while writing to the disk, taken after the model lock by threads holding both.
+     */
+    private final Object writeLock = new Object();
+    private final ExecutorService writer;
+
+    /**
+     * The latest state saved of every kind of data which is not written yet.
+     */
+    private final Map<Store, Object> dirty = new EnumMap<>(Store.class);
+    /**
+     * The kinds of data for which a write is waiting on the writer thread.
+     */
+    private final Set<Store> scheduled = EnumSet.noneOf(Store.class);
+    /**
+     * The writes taken from the model which are not done yet, from the first taken.
+     */
+    private final Deque<PreparedWrite> preparedWrites = new ArrayDeque<>();
+
+    private long saves;
+    private long coalescedSaves;
+    private long writes;
+    private long failedWrites;
+    private long totalWriteNanos;
+    private long maxWriteNanos;
+
+    /**
+     * Constructs an {@code AsyncStorage} writing to {@code storage}.
+     *
+     * @param storage   the storage to write to.
+     * @param modelLock the object commands synchronize on while they change the model.
+     */
+    public AsyncStorage(Storage storage, Object modelLock) {
+        this.storage = storage;
+        this.modelLock = modelLock;
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the counters of this storage.
+     *
+     * @return the metrics as they are now.
+     */
+    public synchronized Metrics getMetrics() {
+        return new Metrics(dirty.size() + preparedWrites.size(), saves, coalescedSaves, writes, failedWrites,
+                totalWriteNanos, maxWriteNanos);
+    }
+
+    /**
+     * Writes every kind of data still waiting to be written on the calling thread,
+     * then forces the wrapped storage to the disk.
+     *
+     * @throws DukeException if any of the data could not be written.
+     */
+    @Override
+    public void flush() throws DukeException {
+        DukeException failure = null;
+        synchronized (modelLock) {
+            synchronized (writeLock) {
+                try {
+                    writePrepared();
+                } catch (DukeException e) {
+                    // The state which failed is dirty again, and is written below.
+                    logger.fine("Background save failed before a flush: " + e.getMessage());
+                }
+                for (Store store : Store.values()) {
+                    try {
+                        prepare(store);
+                    } catch (DukeException e) {
+                        failure = e;
+                    }
+                }
+                try {
+                    writePrepared();
+                } catch (DukeException e) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        storage.flush();
+    }
+
+    /**
+     * Flushes this storage and stops the writer thread.
+     *
+     * @throws DukeException if any of the data could not be written.
+     */
+    public void close() throws DukeException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            logger.info("Storage closed: " + getMetrics());
+        }
+    }
+
+    private void save(Store store, Object data) {
+        synchronized (this) {
+            saves++;
+            if (dirty.put(store, data) != null) {
+                coalescedSaves++;
+            }
+            if (!scheduled.add(store)) {
+                return;
+            }
+        }
+        writer.execute(() -> {
+            try {
+                synchronized (modelLock) {
+                    synchronized (this) {
+                        scheduled.remove(store);
+                    }
+                    prepare(store);
+                }
+                synchronized (writeLock) {
+                    writePrepared();
+                }
+            } catch (DukeException e) {
+                logger.warning("Background save failed, retrying on the next save: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Takes the write of the latest state saved of a kind of data from the model if it is dirty.
+     * The caller must hold the model lock. A state which could not be taken stays dirty unless a newer state
+     * was saved meanwhile.
+     */
+    private void prepare(Store store) throws DukeException {
+        Object data;
+        synchronized (this) {
+            data = dirty.remove(store);
+        }
+        if (data == null) {
+            return;
+        }
+        StorageWrite write;
+        try {
+            write = prepareNow(store, data);
+        } catch (DukeException e) {
+            fail(store, data);
+            throw e;
+        }
+        synchronized (this) {
+            preparedWrites.add(new PreparedWrite(store, data, write));
+        }
+    }
+
+    /**
+     * Does the writes taken from the model, from the first taken. The caller must hold the write lock.
+     * A state which could not be written is dirty again unless a newer state was saved meanwhile.
+     *
+     * @throws DukeException the failure of the last write which failed, if any did.
+     */
+    private void writePrepared() throws DukeException {
+        DukeException failure = null;
+        while (true) {
+            PreparedWrite prepared;
+            synchronized (this) {
+                prepared = preparedWrites.poll();
+            }
+            if (prepared == null) {
+                break;
+            }
+            long startNanos = System.nanoTime();
+            try {
+                prepared.write.write();
+            } catch (DukeException e) {
+                fail(prepared.store, prepared.data);
+                failure = e;
+                continue;
+            }
+            long writeNanos = System.nanoTime() - startNanos;
+            synchronized (this) {
+                writes++;
+                totalWriteNanos += writeNanos;
+                maxWriteNanos = Math.max(maxWriteNanos, writeNanos);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private synchronized void fail(Store store, Object data) {
+        failedWrites++;
+        dirty.putIfAbsent(store, data);
+    }
+
+    @SuppressWarnings("unchecked")
+    private StorageWrite prepareNow(Store store, Object data) throws DukeException {
+        switch (store) {
+        case EXPENSES:
+            return storage.prepareSaveExpenseList((ExpenseList) data);
+        case PLAN_ATTRIBUTES:
+            return storage.prepareSavePlanAttributes((Map<String, String>) data);
+        case INCOMES:
+            return storage.prepareSaveIncomeList((IncomeList) data);
+        case BUDGET:
+            return storage.prepareSaveBudget((Budget) data);
+        case BUDGET_VIEW:
+            return storage.prepareSaveBudgetView((BudgetView) data);
+        default: // case PAYMENTS:
+            return storage.prepareSavePaymentList((PaymentList) data);
+        }
+    }
+
+    @Override
+    public void saveExpenseList(ExpenseList expenseList) {
+        save(Store.EXPENSES, expenseList);
+    }
+
+    @Override
+    public ExpenseList loadExpenseList() throws DukeException {
+        return storage.loadExpenseList();
+    }
+
+    @Override
+    public void savePlanAttributes(Map<String, String> attributes) {
+        save(Store.PLAN_ATTRIBUTES, attributes);
+    }
+
+    @Override
+    public Map<String, String> loadPlanAttributes() {
+        return storage.loadPlanAttributes();
+    }
+
+    @Override
+    public void saveIncomeList(IncomeList incomeList) {
+        save(Store.INCOMES, incomeList);
+    }
+
+    @Override
+    public IncomeList loadIncomeList() throws DukeException {
+        return storage.loadIncomeList();
+    }
+
+    @Override
+    public Budget loadBudget() throws IOException, DukeException {
+        return storage.loadBudget();
+    }
+
+    @Override
+    public void saveBudget(Budget budget) {
+        save(Store.BUDGET, budget);
+    }
+
+    @Override
+    public BudgetView loadBudgetView() throws IOException, DukeException {
+        return storage.loadBudgetView();
+    }
+
+    @Override
+    public void saveBudgetView(BudgetView budgetView) {
+        save(Store.BUDGET_VIEW, budgetView);
+    }
+
+    @Override
+    public Optional<PaymentList> loadPaymentList() throws DukeException {
+        return storage.loadPaymentList();
+    }
+
+    @Override
+    public void savePaymentList(PaymentList paymentList) {
+        save(Store.PAYMENTS, paymentList);
+    }
+}
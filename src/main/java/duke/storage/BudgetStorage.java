@@ -1,14 +1,15 @@
 package duke.storage;
 
+import duke.commons.FileUtil;
 import duke.exception.DukeException;
 import duke.logic.parser.Parser;
 import duke.model.Budget;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Scanner;
@@ -35,23 +36,35 @@ public class BudgetStorage {
      * @throws DukeException if unable to save the file successfully
      */
     public void saveBudget(Budget budget) throws DukeException {
-        try {
-            Map<String, BigDecimal> budgetCategory = budget.getBudgetCategory();
-            BUDGET_FILE.createNewFile();
-            try (FileWriter fileWriter = new FileWriter(BUDGET_FILE)) {
-                fileWriter.write(budget.getMonthlyBudgetString());
-                fileWriter.write(STORAGE_DELIMITER);
-                if (!budgetCategory.isEmpty()) {
-                    for (String category : budgetCategory.keySet()) {
-                        BigDecimal budgetBD = budgetCategory.get(category);
-                        fileWriter.write(category + " " + budgetBD);
-                        fileWriter.write(STORAGE_DELIMITER);
-                    }
-                }
+        prepareSaveBudget(budget).write();
+    }
+
+    /**
+     * Takes the content of the save file from the budget, and returns the write of it.
+     *
+     * @param budget the budget to save.
+     * @return the write, which does not read the budget.
+     */
+    public StorageWrite prepareSaveBudget(Budget budget) {
+        Map<String, BigDecimal> budgetCategory = budget.getBudgetCategory();
+        StringBuilder content = new StringBuilder();
+        content.append(budget.getMonthlyBudgetString());
+        content.append(STORAGE_DELIMITER);
+        if (!budgetCategory.isEmpty()) {
+            for (String category : budgetCategory.keySet()) {
+                BigDecimal budgetBD = budgetCategory.get(category);
+                content.append(category + " " + budgetBD);
+                content.append(STORAGE_DELIMITER);
             }
-        } catch (IOException e) {
-            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED, BUDGET_FILE.getPath()));
         }
+        return () -> {
+            try {
+                FileUtil.writeToFile(BUDGET_FILE.toPath(), content.toString(), Charset.defaultCharset());
+            } catch (IOException e) {
+                throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED,
+                        BUDGET_FILE.getPath()));
+            }
+        };
     }
 
     /**
@@ -6,8 +6,8 @@ import duke.exception.DukeException;
 import duke.model.BudgetView;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Scanner;
@@ -38,21 +38,33 @@ public class BudgetViewStorage {
      * @throws DukeException if unable to save the file successfully
      */
     public void saveBudgetView(BudgetView budgetView) throws DukeException {
-        try {
-            Map<Integer, String> budgetViewCategory = budgetView.getBudgetViewCategory();
-            BUDGETVIEW_FILE.createNewFile();
-            try (FileWriter fileWriter = new FileWriter(BUDGETVIEW_FILE)) {
-                if (!budgetViewCategory.isEmpty()) {
-                    for (Integer view : budgetViewCategory.keySet()) {
-                        String category = budgetViewCategory.get(view);
-                        fileWriter.write(view + " " + category);
-                        fileWriter.write(STORAGE_DELIMITER);
-                    }
-                }
+        prepareSaveBudgetView(budgetView).write();
+    }
+
+    /**
+     * Takes the content of the save file from the budget view, and returns the write of it.
+     *
+     * @param budgetView the budget view to save.
+     * @return the write, which does not read the budget view.
+     */
+    public StorageWrite prepareSaveBudgetView(BudgetView budgetView) {
+        Map<Integer, String> budgetViewCategory = budgetView.getBudgetViewCategory();
+        StringBuilder content = new StringBuilder();
+        if (!budgetViewCategory.isEmpty()) {
+            for (Integer view : budgetViewCategory.keySet()) {
+                String category = budgetViewCategory.get(view);
+                content.append(view + " " + category);
+                content.append(STORAGE_DELIMITER);
             }
-        } catch (IOException e) {
-            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED, BUDGETVIEW_FILE.getPath()));
         }
+        return () -> {
+            try {
+                FileUtil.writeToFile(BUDGETVIEW_FILE.toPath(), content.toString(), Charset.defaultCharset());
+            } catch (IOException e) {
+                throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED,
+                        BUDGETVIEW_FILE.getPath()));
+            }
+        };
     }
 
     /**
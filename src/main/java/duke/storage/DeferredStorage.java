@@ -0,0 +1,138 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Budget;
+import duke.model.BudgetView;
+import duke.model.ExpenseList;
+import duke.model.IncomeList;
+import duke.model.payment.PaymentList;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Wraps a {@code Storage} to hold back saves until {@code flush} is called, so that a batch of commands
+ * writes each kind of data once no matter how many commands saved it.
+ * Only the latest state saved of each kind is kept; loading is passed straight through.
+ */
+public class DeferredStorage implements Storage {
+
+    private final Storage storage;
+
+    // The latest state saved of each kind since the last flush, or null if it was not saved.
+    private ExpenseList expenseList;
+    private Map<String, String> planAttributes;
+    private IncomeList incomeList;
+    private Budget budget;
+    private BudgetView budgetView;
+    private PaymentList paymentList;
+
+    public DeferredStorage(Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Writes every kind of data saved since the last flush to the wrapped storage.
+     *
+     * @throws DukeException if any of the data could not be saved.
+     */
+    @Override
+    public void flush() throws DukeException {
+        if (expenseList != null) {
+            storage.saveExpenseList(expenseList);
+        }
+        if (incomeList != null) {
+            storage.saveIncomeList(incomeList);
+        }
+        if (budget != null) {
+            storage.saveBudget(budget);
+        }
+        if (budgetView != null) {
+            storage.saveBudgetView(budgetView);
+        }
+        if (planAttributes != null) {
+            storage.savePlanAttributes(planAttributes);
+        }
+        if (paymentList != null) {
+            try {
+                storage.savePaymentList(paymentList);
+            } catch (IOException e) {
+                throw new DukeException(DukeException.MESSAGE_PAYMENT_SAVE_FAILED);
+            }
+        }
+        discard();
+    }
+
+    /**
+     * Forgets everything saved since the last flush.
+     */
+    public void discard() {
+        expenseList = null;
+        planAttributes = null;
+        incomeList = null;
+        budget = null;
+        budgetView = null;
+        paymentList = null;
+    }
+
+    @Override
+    public void saveExpenseList(ExpenseList expenseList) {
+        this.expenseList = expenseList;
+    }
+
+    @Override
+    public ExpenseList loadExpenseList() throws DukeException {
+        return storage.loadExpenseList();
+    }
+
+    @Override
+    public void savePlanAttributes(Map<String, String> attributes) {
+        this.planAttributes = attributes;
+    }
+
+    @Override
+    public Map<String, String> loadPlanAttributes() {
+        return storage.loadPlanAttributes();
+    }
+
+    @Override
+    public void saveIncomeList(IncomeList incomeList) {
+        this.incomeList = incomeList;
+    }
+
+    @Override
+    public IncomeList loadIncomeList() throws DukeException {
+        return storage.loadIncomeList();
+    }
+
+    @Override
+    public Budget loadBudget() throws IOException, DukeException {
+        return storage.loadBudget();
+    }
+
+    @Override
+    public void saveBudget(Budget budget) {
+        this.budget = budget;
+    }
+
+    @Override
+    public BudgetView loadBudgetView() throws IOException, DukeException {
+        return storage.loadBudgetView();
+    }
+
+    @Override
+    public void saveBudgetView(BudgetView budgetView) {
+        this.budgetView = budgetView;
+    }
+
+    @Override
+    public Optional<PaymentList> loadPaymentList() throws DukeException {
+        return storage.loadPaymentList();
+    }
+
+    @Override
+    public void savePaymentList(PaymentList paymentList) {
+        this.paymentList = paymentList;
+    }
+}
@@ -0,0 +1,233 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Expense;
+import duke.model.Money;
+import duke.model.Recurrence;
+import duke.model.TagDictionary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads and writes the binary snapshot of the expense list, which stores every field as a column.
+ *
+ * <p>The file starts with a header of four ints: a magic number, the format version, the number of
+ * expenses and the number of distinct sets of tags. The tag dictionary follows as length-prefixed UTF-8
+ * strings, each holding the tags of a set separated by spaces.
+ * Then come the fixed-width columns, one entry per expense: the time in minutes since the epoch (long),
+ * the amount in cents (long), flag bits (byte), the index of its tags in the dictionary (int), the rule of
+ * its recurrence (int, holding the interval above the two bits of the unit, or 0 if it does not recur), the last
+ * day it recurs on in epoch days (long, or {@code Long.MIN_VALUE} if there is none) and the offset of the
+ * description in the heap (int, with one extra entry marking the end of the heap).
+ * The description heap holds the UTF-8 bytes of all descriptions back to back.
+ * Files of version 1 have no recurrence columns, and their recurring expenses recur every month.
+ *
+ * <p>Times are local date-times counted as if they were in UTC, so that they do not depend on the time zone.
+ */
+class ExpenseColumnFile {
+    static final int MAGIC = 0x44504558; // "DPEX"
+    static final int VERSION = 2;
+    static final int FIRST_VERSION = 1;
+
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+    private static final int FLAG_TENTATIVE = 1;
+    private static final int FLAG_RECURRING = 1 << 1;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int UNIT_BITS = 2;
+    private static final long NO_END = Long.MIN_VALUE;
+
+    /**
+     * Writes the expenses to a file and forces it to the disk.
+     *
+     * @param file     the file to write.
+     * @param expenses the expenses to write.
+     * @throws IOException if the file could not be written.
+     */
+    static void write(Path file, List<Expense> expenses) throws IOException {
+        int count = expenses.size();
+        int[] tagIndices = new int[TagDictionary.setCount()];
+        Arrays.fill(tagIndices, -1);
+        List<byte[]> tagBytes = new ArrayList<>();
+        byte[][] descriptions = new byte[count][];
+        int dictionaryBytes = 0;
+        long heapBytes = 0;
+        for (int i = 0; i < count; i++) {
+            Expense expense = expenses.get(i);
+            if (tagIndices[expense.getTagSetId()] < 0) {
+                byte[] bytes = expense.getTag().getBytes(StandardCharsets.UTF_8);
+                tagIndices[expense.getTagSetId()] = tagBytes.size();
+                tagBytes.add(bytes);
+                dictionaryBytes += Integer.BYTES + bytes.length;
+            }
+            descriptions[i] = expense.getDescription().getBytes(StandardCharsets.UTF_8);
+            heapBytes += descriptions[i].length;
+        }
+        if (heapBytes > Integer.MAX_VALUE) {
+            throw new IOException("Expense descriptions are too long to be stored");
+        }
+
+        long size = HEADER_BYTES + dictionaryBytes
+                + (long) count * (Long.BYTES + Long.BYTES + Byte.BYTES + Integer.BYTES + Integer.BYTES + Long.BYTES)
+                + (long) (count + 1) * Integer.BYTES + heapBytes;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Too many expenses to be stored");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(tagBytes.size());
+        for (byte[] bytes : tagBytes) {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+        for (Expense expense : expenses) {
+            buffer.putLong(toEpochMinute(expense.getTime()));
+        }
+        for (Expense expense : expenses) {
+            buffer.putLong(expense.getMoney().getCents());
+        }
+        for (Expense expense : expenses) {
+            buffer.put((byte) ((expense.isTentative() ? FLAG_TENTATIVE : 0)
+                    | (expense.isRecurring() ? FLAG_RECURRING : 0)));
+        }
+        for (Expense expense : expenses) {
+            buffer.putInt(tagIndices[expense.getTagSetId()]);
+        }
+        for (Expense expense : expenses) {
+            Recurrence recurrence = expense.getRecurrence();
+            buffer.putInt(recurrence == null ? 0
+                    : recurrence.getInterval() << UNIT_BITS | recurrence.getUnit().ordinal());
+        }
+        for (Expense expense : expenses) {
+            Recurrence recurrence = expense.getRecurrence();
+            buffer.putLong(recurrence == null || recurrence.getEnd() == null
+                    ? NO_END : recurrence.getEnd().toEpochDay());
+        }
+        int offset = 0;
+        for (byte[] description : descriptions) {
+            buffer.putInt(offset);
+            offset += description.length;
+        }
+        buffer.putInt(offset);
+        for (byte[] description : descriptions) {
+            buffer.put(description);
+        }
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Reads the expenses from a file by mapping it into memory.
+     *
+     * @param file the file to read.
+     * @return the expenses, in the order they were written.
+     * @throws IOException if the file could not be read, or is not an expense file of a known version.
+     */
+    static List<Expense> read(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            return read(buffer);
+        } catch (RuntimeException | DukeException e) {
+            throw new IOException("Expense file " + file + " is corrupted: " + e.getMessage(), e);
+        }
+    }
+
+    private static List<Expense> read(ByteBuffer buffer) throws IOException, DukeException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not an expense file");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION && version != FIRST_VERSION) {
+            throw new IOException("Unknown expense file version " + version);
+        }
+        int count = buffer.getInt();
+        int[] tagSetIds = new int[buffer.getInt()];
+        for (int i = 0; i < tagSetIds.length; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            tagSetIds[i] = TagDictionary.setIdOf(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        int timeColumn = buffer.position();
+        int amountColumn = timeColumn + count * Long.BYTES;
+        int flagColumn = amountColumn + count * Long.BYTES;
+        int tagColumn = flagColumn + count * Byte.BYTES;
+        int recurrenceColumn = tagColumn + count * Integer.BYTES;
+        int endColumn = recurrenceColumn + (version == FIRST_VERSION ? 0 : count * Integer.BYTES);
+        int offsetColumn = endColumn + (version == FIRST_VERSION ? 0 : count * Long.BYTES);
+        int heapStart = offsetColumn + (count + 1) * Integer.BYTES;
+        byte[] heap = new byte[buffer.getInt(offsetColumn + count * Integer.BYTES)];
+        buffer.position(heapStart);
+        buffer.get(heap);
+
+        // Expenses are mostly made on the same days at the same times, so the dates and times are shared.
+        LocalTime[] timesOfDay = new LocalTime[MINUTES_PER_DAY];
+        LocalDate date = null;
+        long dateEpochDay = 0;
+        List<Expense> expenses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long epochMinute = buffer.getLong(timeColumn + i * Long.BYTES);
+            long epochDay = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+            int minuteOfDay = Math.floorMod(epochMinute, MINUTES_PER_DAY);
+            if (date == null || dateEpochDay != epochDay) {
+                date = LocalDate.ofEpochDay(epochDay);
+                dateEpochDay = epochDay;
+            }
+            if (timesOfDay[minuteOfDay] == null) {
+                timesOfDay[minuteOfDay] = LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+            }
+            int flags = buffer.get(flagColumn + i);
+            int descriptionStart = buffer.getInt(offsetColumn + i * Integer.BYTES);
+            int descriptionEnd = buffer.getInt(offsetColumn + (i + 1) * Integer.BYTES);
+            Recurrence recurrence = null;
+            if (version != FIRST_VERSION) {
+                recurrence = readRecurrence(buffer.getInt(recurrenceColumn + i * Integer.BYTES),
+                        buffer.getLong(endColumn + i * Long.BYTES));
+            }
+            expenses.add(new Expense.Builder()
+                    .setTime(LocalDateTime.of(date, timesOfDay[minuteOfDay]))
+                    .setAmount(Money.ofCents(buffer.getLong(amountColumn + i * Long.BYTES)))
+                    .setTentative((flags & FLAG_TENTATIVE) != 0)
+                    .setRecurrence(recurrence)
+                    .setRecurring((flags & FLAG_RECURRING) != 0)
+                    .setTagSetId(tagSetIds[buffer.getInt(tagColumn + i * Integer.BYTES)])
+                    .setDescription(new String(heap, descriptionStart, descriptionEnd - descriptionStart,
+                            StandardCharsets.UTF_8))
+                    .build());
+        }
+        return expenses;
+    }
+
+    private static Recurrence readRecurrence(int rule, long endDay) throws DukeException {
+        if (rule == 0) {
+            return null;
+        }
+        Recurrence recurrence = Recurrence.every(Recurrence.Unit.values()[rule & ((1 << UNIT_BITS) - 1)],
+                rule >>> UNIT_BITS);
+        return endDay == NO_END ? recurrence : recurrence.until(LocalDate.ofEpochDay(endDay));
+    }
+
+    private static long toEpochMinute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+}
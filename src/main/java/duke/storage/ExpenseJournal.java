@@ -0,0 +1,223 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Expense;
+import duke.model.ItemChange;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An append-only journal of changes made to the expense list since its last snapshot.
+ * Every change is appended as one record; records are forced to the disk in batches, so that a burst of
+ * commands costs one fsync instead of one per command.
+ */
+class ExpenseJournal {
+    private static final String RECORD_DELIMITER = "\n\n";
+    private static final String OPERATION_PREFIX = "op:";
+    private static final String OPERATION_SEPARATOR = "\n";
+
+    private final Path file;
+    private final int syncBatchSize;
+    private final long syncIntervalMillis;
+
+    private FileChannel channel;
+    private int unsyncedRecords;
+    private long lastSyncMillis;
+
+    /**
+     * Constructs a journal backed by the given file.
+     *
+     * @param file               the journal file.
+     * @param syncBatchSize      the number of records after which the journal is forced to the disk.
+     * @param syncIntervalMillis the time after which pending records are forced to the disk on the next append.
+     */
+    ExpenseJournal(Path file, int syncBatchSize, long syncIntervalMillis) {
+        this.file = file;
+        this.syncBatchSize = syncBatchSize;
+        this.syncIntervalMillis = syncIntervalMillis;
+    }
+
+    /**
+     * Appends the changes to the journal, forcing them to the disk once enough records have accumulated.
+     *
+     * @param changes the changes to append, in the order they were made.
+     * @throws IOException if the journal could not be written to.
+     */
+    void append(List<ItemChange> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        StringBuilder records = new StringBuilder();
+        for (ItemChange change : changes) {
+            records.append(OPERATION_PREFIX).append(change.getType().name().toLowerCase());
+            if (change.getType() != ItemChange.Type.CLEAR) {
+                records.append(OPERATION_SEPARATOR).append(change.getStorageString());
+            }
+            records.append(RECORD_DELIMITER);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+        FileChannel openChannel = open();
+        while (buffer.hasRemaining()) {
+            openChannel.write(buffer);
+        }
+        unsyncedRecords += changes.size();
+        if (unsyncedRecords >= syncBatchSize || System.currentTimeMillis() - lastSyncMillis >= syncIntervalMillis) {
+            sync();
+        }
+    }
+
+    /**
+     * Forces all appended records to the disk.
+     *
+     * @throws IOException if the journal could not be forced to the disk.
+     */
+    void sync() throws IOException {
+        if (channel != null && unsyncedRecords > 0) {
+            channel.force(false);
+        }
+        unsyncedRecords = 0;
+        lastSyncMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the size of the journal in bytes.
+     *
+     * @return the size of the journal file.
+     * @throws IOException if the size could not be read.
+     */
+    long size() throws IOException {
+        if (channel != null) {
+            return channel.size();
+        }
+        return Files.exists(file) ? Files.size(file) : 0;
+    }
+
+    /**
+     * Forces pending records to the disk and closes the journal file, so that it can be moved.
+     * The journal reopens itself on the next append.
+     *
+     * @throws IOException if the journal could not be closed.
+     */
+    void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        sync();
+        channel.close();
+        channel = null;
+    }
+
+    private FileChannel open() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            lastSyncMillis = System.currentTimeMillis();
+        }
+        return channel;
+    }
+
+    /**
+     * Reads the complete records of a journal file. A record cut short by a crash, which can only be
+     * the last one, is dropped.
+     *
+     * @param journalFile the journal file to read.
+     * @return the records of the journal, in the order they were appended.
+     * @throws IOException if the file could not be read.
+     */
+    static List<String> readRecords(Path journalFile) throws IOException {
+        List<String> records = new ArrayList<>();
+        if (!Files.exists(journalFile)) {
+            return records;
+        }
+        String content = new String(Files.readAllBytes(journalFile), StandardCharsets.UTF_8);
+        int start = 0;
+        int end = content.indexOf(RECORD_DELIMITER);
+        while (end >= 0) {
+            records.add(content.substring(start, end));
+            start = end + RECORD_DELIMITER.length();
+            end = content.indexOf(RECORD_DELIMITER, start);
+        }
+        return records;
+    }
+
+    /**
+     * Returns the change a journal record was appended for.
+     *
+     * @param record the journal record.
+     * @return the change, with an empty storage string for {@code CLEAR}.
+     * @throws IllegalArgumentException if the record names no known change.
+     */
+    static ItemChange parseRecord(String record) {
+        int separator = record.indexOf(OPERATION_SEPARATOR);
+        String operation = (separator < 0 ? record : record.substring(0, separator))
+                .substring(OPERATION_PREFIX.length());
+        String storageString = separator < 0 ? "" : record.substring(separator + 1);
+        return new ItemChange(ItemChange.Type.valueOf(operation.toUpperCase()), storageString);
+    }
+
+    /**
+     * Replays journal records over the expenses of a snapshot.
+     * Removals take out one expense with the same storage string, since such expenses cannot be told apart.
+     * The storage strings of the snapshot are only worked out once a removal needs them.
+     *
+     * @param snapshot the expenses of the snapshot.
+     * @param records  the journal records, in the order they were appended.
+     * @return the expenses after all changes were applied.
+     * @throws DukeException if an added expense could not be parsed.
+     */
+    static List<Expense> replay(List<Expense> snapshot, List<String> records) throws DukeException {
+        List<Expense> items = new ArrayList<>(snapshot);
+        Map<String, Deque<Integer>> positions = null;
+
+        for (String record : records) {
+            ItemChange change = parseRecord(record);
+            String storageString = change.getStorageString();
+            switch (change.getType()) {
+            case ADD:
+                if (positions != null) {
+                    positions.computeIfAbsent(storageString, s -> new ArrayDeque<>()).add(items.size());
+                }
+                items.add(StorageRecordReader.parseExpense(storageString));
+                break;
+            case REMOVE:
+                if (positions == null) {
+                    positions = indexPositions(items);
+                }
+                Deque<Integer> samePositions = positions.get(storageString);
+                if (samePositions != null && !samePositions.isEmpty()) {
+                    items.set(samePositions.pollLast(), null);
+                }
+                break;
+            default: // case CLEAR:
+                items.clear();
+                positions = null;
+                break;
+            }
+        }
+        items.removeIf(Objects::isNull);
+        return items;
+    }
+
+    private static Map<String, Deque<Integer>> indexPositions(List<Expense> items) {
+        Map<String, Deque<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) != null) {
+                positions.computeIfAbsent(items.get(i).toStorageString(), s -> new ArrayDeque<>()).add(i);
+            }
+        }
+        return positions;
+    }
+}
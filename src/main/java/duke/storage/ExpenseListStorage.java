@@ -5,7 +5,19 @@ import duke.model.ExpenseList;
 
 public interface ExpenseListStorage {
 
-    public void saveExpenseList(ExpenseList expenseList) throws DukeException;
+    public default void saveExpenseList(ExpenseList expenseList) throws DukeException {
+        prepareSaveExpenseList(expenseList).write();
+    }
+
+    /**
+     * Takes what saving the expense list needs from it, and returns the write of it.
+     *
+     * @param expenseList the expense list to save.
+     * @return the write, which does not read the expense list.
+     */
+    public StorageWrite prepareSaveExpenseList(ExpenseList expenseList);
 
     public ExpenseList loadExpenseList() throws DukeException;
+
+    public void flush() throws DukeException;
 }
@@ -1,58 +1,699 @@
 package duke.storage;
 
+import duke.commons.LogsCenter;
 import duke.exception.DukeException;
 import duke.model.Expense;
+import duke.model.ExpenseArchive;
 import duke.model.ExpenseList;
+import duke.model.ItemChange;
+import duke.model.Money;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
 
+/**
+ * Stores the expense list in the {@code expenses} directory as one binary partition per month
+ * ({@code 2019-11.bin}, see {@link ExpenseColumnFile}), a manifest of the number and totals of the expenses
+ * in every partition (see {@link ExpenseManifest}) and an append-only journal ({@code journal}) of the
+ * changes made since the partitions were written. Saving appends only the changes made by the last command.
+ * Once the journal grows past a threshold, the partitions it changed are written again on a background thread.
+ *
+ * <p>Loading reads the journal and the partition of recurring expenses only. The loaded list asks for the
+ * partitions of other months through an {@link ExpenseArchive} once its view scope reaches them, and adds up
+ * the ones it has not asked for from the manifest.
+ *
+ * <p>While a compaction runs, the frozen journal is kept as {@code journal.compacting} and the new partitions
+ * and manifest are written next to the old ones with a {@code .next} suffix. Deleting the frozen journal
+ * commits the compaction, so that loading after a crash at any point replays every change exactly once.
+ *
+ * <p>Older versions kept the whole list in one snapshot, {@code expenses.bin} or the text {@code expenses.txt},
+ * with its journal {@code expenses.journal}. Such a snapshot is read once, together with its journal,
+ * and replaced by partitions.
+ */
 public class ExpenseListStorageManager implements ExpenseListStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(ExpenseListStorageManager.class);
+
     private static final File DEFAULT_USER_DIRECTORY = new File("data" + File.separator + "duke");
-    private static final File EXPENSES_FILE = new File(DEFAULT_USER_DIRECTORY, "expenses.txt");
+    private static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+    private static final int SYNC_BATCH_SIZE = 32;
+    private static final long SYNC_INTERVAL_MILLIS = 1000;
+    private static final String PARTITION_DIRECTORY = "expenses";
+    private static final String PARTITION_SUFFIX = ".bin";
+    private static final String NEXT_SUFFIX = ".next";
 
+    private final Path partitionDirectory;
+    private final Path manifestFile;
+    private final Path journalFile;
+    private final Path compactingJournalFile;
+    private final Path legacySnapshotFile;
+    private final Path legacyNextSnapshotFile;
+    private final Path legacyTextSnapshotFile;
+    private final Path legacyTextNextSnapshotFile;
+    private final Path legacyJournalFile;
+    private final Path legacyCompactingJournalFile;
+    private final long compactionThreshold;
+    private final ExpenseJournal journal;
+    private final ExecutorService compactor;
 
+    private Future<?> compaction;
+    /**
+     * The number of writes taken from the list which are not done yet.
+     */
+    private int pendingWrites;
+    /**
+     * Whether the next save must write every loaded partition, as changes were lost from the journal by a
+     * failed save or from the partitions by a failed compaction.
+     */
+    private boolean needsRewrite;
 
-    private static String STORAGE_DELIMITER = "\n\n";
+    /**
+     * The list loaded from this storage, which the partitions not loaded yet belong to.
+     */
+    private ExpenseList loadedList;
+    /**
+     * The manifest of the partitions as they are written. Only replaced, by the running compaction if any.
+     */
+    private volatile ExpenseManifest manifest = new ExpenseManifest();
+    /**
+     * The number and totals of the expenses in every partition not loaded yet, including its journal records.
+     * The totals are read by the list without waiting for a write to be done.
+     */
+    private final Map<String, ExpenseManifest.Entry> unloadedPartitions = new ConcurrentSkipListMap<>();
+    /**
+     * The journal records of partitions not loaded yet which are not written into the partitions yet.
+     */
+    private final Map<String, List<String>> unfoldedRecords = new HashMap<>();
+    /**
+     * The loaded partitions changed since they were last written.
+     */
+    private final Set<String> dirtyPartitions = new HashSet<>();
+    /**
+     * The partitions whose file could not be read. They stay out of the loaded list and are never written,
+     * so that their file is left as it is; their journal records and the expenses added to them since are
+     * kept in the journal instead, which is not compacted meanwhile.
+     */
+    private final Set<String> unreadablePartitions = new HashSet<>();
 
     public ExpenseListStorageManager() {
-        DEFAULT_USER_DIRECTORY.mkdirs();
+        this(DEFAULT_USER_DIRECTORY, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a storage manager keeping its files in the given directory.
+     *
+     * @param userDirectory       the directory to keep the expense files in.
+     * @param compactionThreshold the size in bytes of the journal past which it is folded into the partitions.
+     */
+    ExpenseListStorageManager(File userDirectory, long compactionThreshold) {
+        File directory = new File(userDirectory, PARTITION_DIRECTORY);
+        directory.mkdirs();
+        partitionDirectory = directory.toPath();
+        manifestFile = partitionDirectory.resolve("manifest");
+        journalFile = partitionDirectory.resolve("journal");
+        compactingJournalFile = partitionDirectory.resolve("journal.compacting");
+        legacySnapshotFile = new File(userDirectory, "expenses.bin").toPath();
+        legacyNextSnapshotFile = new File(userDirectory, "expenses.bin.next").toPath();
+        legacyTextSnapshotFile = new File(userDirectory, "expenses.txt").toPath();
+        legacyTextNextSnapshotFile = new File(userDirectory, "expenses.txt.next").toPath();
+        legacyJournalFile = new File(userDirectory, "expenses.journal").toPath();
+        legacyCompactingJournalFile = new File(userDirectory, "expenses.journal.compacting").toPath();
+        this.compactionThreshold = compactionThreshold;
+        journal = new ExpenseJournal(journalFile, SYNC_BATCH_SIZE, SYNC_INTERVAL_MILLIS);
+        compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "expense-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
+    /**
+     * Takes the changes made to the expense list since it was last saved, and returns the write of them.
+     * A list that was not loaded from this storage has no recorded history, and is written out in full,
+     * as is a list that was cleared, since clearing changes every partition. The expenses of the list are
+     * only copied when they are to be written out, here or by a compaction.
+     *
+     * <p>Partitions are not loaded into the list until the write is done, so that the expenses taken from
+     * the list and the partitions left out of it still match when they are written.
+     *
+     * @param expenseList the expense list to save.
+     * @return the write, which does not read the expense list.
+     */
     @Override
-    public void saveExpenseList(ExpenseList expenseList) throws DukeException {
-        try {
-            EXPENSES_FILE.createNewFile();
-            try (FileWriter fileWriter = new FileWriter(EXPENSES_FILE)) {
-                for (Expense expense : expenseList.getInternalList()) {
-                    fileWriter.write(expense.toStorageString());
-                    fileWriter.write(STORAGE_DELIMITER);
+    public synchronized StorageWrite prepareSaveExpenseList(ExpenseList expenseList) {
+        List<ItemChange> changes = expenseList.isTrackingChanges() ? expenseList.takeChanges() : List.of();
+        boolean isRewriting = needsRewrite || !expenseList.isTrackingChanges()
+                || changes.stream().anyMatch(change -> change.getType() == ItemChange.Type.CLEAR);
+        List<Expense> expenses = isRewriting || isJournalFull()
+                ? new ArrayList<>(expenseList.getInternalList())
+                : null;
+        StorageWrite write;
+        if (isRewriting) {
+            boolean isReplacingAll = expenseList != loadedList;
+            // The list starts its history now; the next saves rewrite it all again until this write is done.
+            needsRewrite = true;
+            expenseList.startTrackingChanges();
+            write = () -> rewrite(expenses, isReplacingAll ? expenseList : null);
+        } else {
+            write = () -> append(changes, expenses);
+        }
+        pendingWrites++;
+        return () -> {
+            try {
+                write.write();
+            } finally {
+                synchronized (this) {
+                    pendingWrites--;
+                    notifyAll();
                 }
             }
+        };
+    }
+
+    /**
+     * Appends changes to the journal, and starts a compaction if the journal has grown past its threshold
+     * and the expenses of the list were taken for it.
+     */
+    private synchronized void append(List<ItemChange> changes, List<Expense> expenses) throws DukeException {
+        try {
+            if (compaction != null && compaction.isDone()) {
+                awaitCompaction();
+            }
+            needsRewrite = true;
+            for (ItemChange change : changes) {
+                dirtyPartitions.add(ExpenseManifest.partitionOf(
+                        StorageRecordReader.parseExpense(change.getStorageString())));
+            }
+            journal.append(changes);
+            needsRewrite = false;
+            if (expenses != null && journal.size() >= compactionThreshold && !isCompacting()
+                    && unreadablePartitions.isEmpty()) {
+                startCompaction(expenses);
+            }
         } catch (IOException e) {
-            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED, EXPENSES_FILE.getPath()));
+            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED, partitionDirectory));
         }
     }
 
+    /**
+     * Loads the expense list, with the expenses of the partitions it does not need yet left in an archive.
+     *
+     * @return the expense list.
+     */
     @Override
-    public ExpenseList loadExpenseList() {
+    public synchronized ExpenseList loadExpenseList() {
         List<Expense> internalList = new ArrayList<Expense>();
+        boolean isMigrating = false;
+        unloadedPartitions.clear();
+        unfoldedRecords.clear();
+        dirtyPartitions.clear();
+        unreadablePartitions.clear();
+        try {
+            awaitCompaction();
+            isMigrating = !Files.exists(manifestFile) && hasLegacyStore();
+            internalList = isMigrating ? readLegacyStore() : readPartitions();
+        } catch (IOException | DukeException | IllegalArgumentException e) {
+            logger.warning("Expense list could not be loaded completely: " + e.getMessage());
+            isMigrating = false;
+        }
+        ExpenseList expenseList = new ExpenseList(internalList, new Archive());
+        expenseList.startTrackingChanges();
+        loadedList = expenseList;
+        if (isMigrating) {
+            migrate(expenseList);
+        }
+        return expenseList;
+    }
+
+    /**
+     * Replaces the single snapshot and its journal with partitions of the loaded list.
+     * The old files are only deleted once the manifest is written, which is preferred when both exist.
+     */
+    private void migrate(ExpenseList expenseList) {
+        try {
+            rewrite(new ArrayList<>(expenseList.getInternalList()), null);
+            deleteLegacyStore();
+            logger.info("Migrated " + expenseList.internalSize() + " expenses to " + partitionDirectory);
+        } catch (IOException | DukeException e) {
+            logger.warning("Expense list could not be migrated: " + e.getMessage());
+            needsRewrite = true;
+        }
+    }
+
+    /**
+     * Forces every change saved so far to the disk.
+     *
+     * @throws DukeException if the journal could not be forced to the disk.
+     */
+    @Override
+    public synchronized void flush() throws DukeException {
+        try {
+            journal.sync();
+        } catch (IOException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED, journalFile));
+        }
+    }
+
+    /**
+     * Waits for a running compaction, if any, to finish.
+     */
+    synchronized void awaitCompaction() {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Expense journal compaction failed: " + e.getCause().getMessage());
+            needsRewrite = true;
+        }
+        compaction = null;
+    }
+
+    /**
+     * Returns whether the journal has grown past its threshold, or false if its size cannot be told,
+     * in which case appending to it fails too.
+     */
+    private boolean isJournalFull() {
+        try {
+            return journal.size() >= compactionThreshold;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean isCompacting() {
+        return compaction != null && !compaction.isDone();
+    }
+
+    /**
+     * Freezes the current journal and writes the partitions it changed in the background.
+     * The content of the partitions is taken now, as the list may change while they are written.
+     */
+    private void startCompaction(List<Expense> expenses) throws IOException {
+        Map<String, List<Expense>> contents = new HashMap<>();
+        for (String partition : dirtyPartitions) {
+            contents.put(partition, new ArrayList<>());
+        }
+        dirtyPartitions.clear();
+        for (Expense expense : expenses) {
+            List<Expense> content = contents.get(ExpenseManifest.partitionOf(expense));
+            if (content != null) {
+                content.add(expense);
+            }
+        }
+        Map<String, List<String>> foldedRecords = new HashMap<>(unfoldedRecords);
+        freezeJournal();
+        logger.info("Compacting expense journal into " + contents.size() + " partitions");
+        compaction = compactor.submit(() -> {
+            writePartitions(contents, foldedRecords, false);
+            return null;
+        });
+    }
+
+    /**
+     * Moves the current journal aside, so that new changes go to a fresh journal.
+     * A frozen journal left behind by an earlier crash already holds older changes, so the current
+     * journal is appended to it instead.
+     */
+    private void freezeJournal() throws IOException {
+        journal.close();
+        if (!Files.exists(journalFile)) {
+            Files.createFile(journalFile);
+        }
+        if (Files.exists(compactingJournalFile)) {
+            Files.write(compactingJournalFile, Files.readAllBytes(journalFile), StandardOpenOption.APPEND);
+            Files.delete(journalFile);
+        } else {
+            Files.move(journalFile, compactingJournalFile, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Writes the whole list and discards the journals. Partitions not loaded yet keep their content,
+     * unless the list was not loaded from this storage, in which case it replaces every partition.
+     * The journal is frozen before the partitions are written, so that a crash part way through
+     * either keeps the old partitions with all their changes or installs the new ones without them.
+     *
+     * @param expenses    the expenses of the list.
+     * @param replacement the list, if it was not loaded from this storage, or null.
+     */
+    private synchronized void rewrite(List<Expense> expenses, ExpenseList replacement) throws DukeException {
         try {
-            EXPENSES_FILE.createNewFile();
-            try (Scanner fileReader = new Scanner(EXPENSES_FILE).useDelimiter(STORAGE_DELIMITER)) {
-                while (fileReader.hasNext()) {
-                    internalList.add(ExpenseList.itemFromStorageString(fileReader.next()));
+            rewritePartitions(expenses, replacement);
+        } catch (IOException e) {
+            needsRewrite = true;
+            throw new DukeException(String.format(DukeException.MESSAGE_SAVE_FILE_FAILED, partitionDirectory));
+        } catch (DukeException e) {
+            needsRewrite = true;
+            throw e;
+        }
+    }
+
+    private void rewritePartitions(List<Expense> expenses, ExpenseList replacement)
+            throws IOException, DukeException {
+        awaitCompaction();
+        freezeJournal();
+        boolean isReplacingAll = replacement != null;
+        Map<String, List<Expense>> contents = new HashMap<>();
+        Map<String, List<String>> foldedRecords = new HashMap<>();
+        List<ItemChange> keptChanges = new ArrayList<>();
+        if (!isReplacingAll) {
+            for (String partition : manifest.getPartitions()) {
+                if (!unloadedPartitions.containsKey(partition)) {
+                    contents.put(partition, new ArrayList<>());
                 }
             }
-        } catch (IOException | DukeException e) {
-            return new ExpenseList(internalList);
+            foldedRecords.putAll(unfoldedRecords);
+            for (String partition : unreadablePartitions) {
+                for (String record : foldedRecords.getOrDefault(partition, List.of())) {
+                    keptChanges.add(ExpenseJournal.parseRecord(record));
+                }
+            }
+            foldedRecords.keySet().removeAll(unreadablePartitions);
+        }
+        for (Expense expense : expenses) {
+            String partition = ExpenseManifest.partitionOf(expense);
+            if (!isReplacingAll && unreadablePartitions.contains(partition)) {
+                keptChanges.add(new ItemChange(ItemChange.Type.ADD, expense.toStorageString()));
+                continue;
+            }
+            contents.computeIfAbsent(partition, p -> new ArrayList<>()).add(expense);
+        }
+        writePartitions(contents, foldedRecords, isReplacingAll);
+        // The journal holding the changes to unreadable partitions is gone, so they are written to the new one.
+        journal.append(keptChanges);
+        if (isReplacingAll) {
+            loadedList = replacement;
+            unloadedPartitions.clear();
+            unfoldedRecords.clear();
+            unreadablePartitions.clear();
+        }
+        dirtyPartitions.clear();
+        needsRewrite = false;
+    }
+
+    /**
+     * Writes new versions of some partitions and of the manifest, then commits them by deleting the frozen
+     * journal and moves them into place.
+     *
+     * @param contents       the whole content of every loaded partition to write. Empty partitions are deleted.
+     * @param foldedRecords  the journal records of partitions not loaded, to replay into their files.
+     * @param isReplacingAll whether every partition not in {@code contents} is deleted.
+     */
+    private void writePartitions(Map<String, List<Expense>> contents, Map<String, List<String>> foldedRecords,
+                                 boolean isReplacingAll) throws IOException, DukeException {
+        deleteNextFiles();
+        ExpenseManifest nextManifest = isReplacingAll ? new ExpenseManifest() : manifest.copy();
+        Map<String, List<Expense>> partitions = new HashMap<>(contents);
+        for (Map.Entry<String, List<String>> records : foldedRecords.entrySet()) {
+            partitions.put(records.getKey(),
+                    ExpenseJournal.replay(readPartition(records.getKey()), records.getValue()));
+        }
+        for (Map.Entry<String, List<Expense>> partition : partitions.entrySet()) {
+            if (!partition.getValue().isEmpty()) {
+                ExpenseColumnFile.write(nextFileOf(partitionFileOf(partition.getKey())), partition.getValue());
+            }
+            nextManifest.put(partition.getKey(), ExpenseManifest.Entry.of(partition.getValue()));
+        }
+        nextManifest.write(nextFileOf(manifestFile));
+        Files.delete(compactingJournalFile);
+        installNextFiles();
+        manifest = nextManifest;
+        deleteUnlistedPartitions();
+        unfoldedRecords.keySet().removeAll(new HashSet<>(foldedRecords.keySet()));
+    }
+
+    /**
+     * Reads the manifest and the journal, and loads the partition of recurring expenses.
+     * The other partitions are left for the archive, with their journal records set aside,
+     * unless the journal holds a clear, which needs every partition to replay.
+     *
+     * @return the expenses loaded.
+     */
+    private List<Expense> readPartitions() throws IOException, DukeException {
+        recoverCompaction();
+        deleteLegacyStore();
+        List<String> records = ExpenseJournal.readRecords(compactingJournalFile);
+        records.addAll(ExpenseJournal.readRecords(journalFile));
+        for (String partition : manifest.getPartitions()) {
+            unloadedPartitions.put(partition, manifest.get(partition));
+        }
+        for (String record : records) {
+            if (ExpenseJournal.parseRecord(record).getType() == ItemChange.Type.CLEAR) {
+                return readAllPartitions(records);
+            }
+        }
+        for (String record : records) {
+            ItemChange change = ExpenseJournal.parseRecord(record);
+            Expense expense = StorageRecordReader.parseExpense(change.getStorageString());
+            String partition = ExpenseManifest.partitionOf(expense);
+            ExpenseManifest.Entry entry = unloadedPartitions.getOrDefault(partition, ExpenseManifest.Entry.EMPTY);
+            unloadedPartitions.put(partition,
+                    change.getType() == ItemChange.Type.ADD ? entry.plus(expense) : entry.minus(expense));
+            unfoldedRecords.computeIfAbsent(partition, p -> new ArrayList<>()).add(record);
+        }
+        if (!unloadedPartitions.containsKey(ExpenseManifest.RECURRING_PARTITION)) {
+            return new ArrayList<>();
+        }
+        return loadPartition(ExpenseManifest.RECURRING_PARTITION);
+    }
+
+    /**
+     * Loads every partition and replays the journal over all of them. The partitions are written again by
+     * the next save.
+     */
+    private List<Expense> readAllPartitions(List<String> records) throws IOException, DukeException {
+        List<Expense> expenses = new ArrayList<>();
+        for (String partition : manifest.getPartitions()) {
+            expenses.addAll(readPartition(partition));
+        }
+        unloadedPartitions.clear();
+        needsRewrite = true;
+        return ExpenseJournal.replay(expenses, records);
+    }
+
+    /**
+     * Takes a partition out of the partitions not loaded yet, and returns its expenses with its journal
+     * records replayed. A partition which cannot be read is left out of the loaded list and of every write.
+     */
+    private List<Expense> loadPartition(String partition) throws IOException, DukeException {
+        List<Expense> expenses;
+        try {
+            expenses = readPartition(partition);
+            List<String> records = unfoldedRecords.get(partition);
+            if (records != null) {
+                expenses = ExpenseJournal.replay(expenses, records);
+            }
+        } catch (IOException | DukeException | IllegalArgumentException e) {
+            unreadablePartitions.add(partition);
+            throw e;
+        }
+        unloadedPartitions.remove(partition);
+        if (unfoldedRecords.remove(partition) != null) {
+            dirtyPartitions.add(partition);
+        }
+        return expenses;
+    }
+
+    private List<Expense> readPartition(String partition) throws IOException {
+        if (!manifest.getPartitions().contains(partition)) {
+            return new ArrayList<>();
+        }
+        return ExpenseColumnFile.read(partitionFileOf(partition));
+    }
+
+    private Path partitionFileOf(String partition) {
+        return partitionDirectory.resolve(partition + PARTITION_SUFFIX);
+    }
+
+    private static Path nextFileOf(Path file) {
+        return file.resolveSibling(file.getFileName() + NEXT_SUFFIX);
+    }
+
+    /**
+     * Finishes or rolls back a compaction interrupted by a crash, then reads the manifest.
+     * New partitions only count once their frozen journal is gone.
+     */
+    private void recoverCompaction() throws IOException {
+        if (Files.exists(compactingJournalFile)) {
+            deleteNextFiles();
+        } else {
+            installNextFiles();
+        }
+        manifest = ExpenseManifest.read(manifestFile);
+        deleteUnlistedPartitions();
+    }
+
+    private List<Path> listFiles(String glob) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(partitionDirectory, glob)) {
+            stream.forEach(files::add);
+        }
+        return files;
+    }
+
+    private void deleteNextFiles() throws IOException {
+        for (Path nextFile : listFiles("*" + NEXT_SUFFIX)) {
+            Files.delete(nextFile);
+        }
+    }
+
+    private void installNextFiles() throws IOException {
+        for (Path nextFile : listFiles("*" + NEXT_SUFFIX)) {
+            String name = nextFile.getFileName().toString();
+            Files.move(nextFile, nextFile.resolveSibling(name.substring(0, name.length() - NEXT_SUFFIX.length())),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Deletes the partitions which were emptied, and so left out of the manifest.
+     */
+    private void deleteUnlistedPartitions() throws IOException {
+        for (Path partitionFile : listFiles("*" + PARTITION_SUFFIX)) {
+            String name = partitionFile.getFileName().toString();
+            if (!manifest.getPartitions().contains(name.substring(0, name.length() - PARTITION_SUFFIX.length()))) {
+                Files.delete(partitionFile);
+            }
+        }
+    }
+
+    private boolean hasLegacyStore() {
+        return Files.exists(legacySnapshotFile) || Files.exists(legacyTextSnapshotFile)
+                || Files.exists(legacyJournalFile) || Files.exists(legacyCompactingJournalFile);
+    }
+
+    private void deleteLegacyStore() throws IOException {
+        for (Path file : List.of(legacySnapshotFile, legacyNextSnapshotFile, legacyTextSnapshotFile,
+                legacyTextNextSnapshotFile, legacyJournalFile, legacyCompactingJournalFile)) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Reads the single snapshot of older versions, preferring the binary one, and replays its journals.
+     */
+    private List<Expense> readLegacyStore() throws IOException, DukeException {
+        recoverLegacyCompaction(legacyNextSnapshotFile, legacySnapshotFile);
+        recoverLegacyCompaction(legacyTextNextSnapshotFile, legacyTextSnapshotFile);
+        List<String> records = ExpenseJournal.readRecords(legacyCompactingJournalFile);
+        records.addAll(ExpenseJournal.readRecords(legacyJournalFile));
+        List<Expense> snapshot = Files.exists(legacySnapshotFile)
+                ? ExpenseColumnFile.read(legacySnapshotFile)
+                : readLegacyTextSnapshot();
+        return ExpenseJournal.replay(snapshot, records);
+    }
+
+    private void recoverLegacyCompaction(Path nextFile, Path file) throws IOException {
+        if (!Files.exists(nextFile)) {
+            return;
+        }
+        if (Files.exists(legacyCompactingJournalFile)) {
+            Files.delete(nextFile);
+        } else {
+            Files.move(nextFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private List<Expense> readLegacyTextSnapshot() throws IOException, DukeException {
+        List<Expense> snapshot = new ArrayList<>();
+        if (!Files.exists(legacyTextSnapshotFile)) {
+            return snapshot;
+        }
+        try (StorageRecordReader reader = StorageRecordReader.open(legacyTextSnapshotFile, StandardCharsets.UTF_8)) {
+            while (reader.nextRecord()) {
+                snapshot.add(reader.readExpense());
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * The partitions of the loaded list which it has not asked for yet.
+     */
+    private class Archive implements ExpenseArchive {
+        @Override
+        public int getCount() {
+            return unloadedPartitions.values().stream().mapToInt(ExpenseManifest.Entry::getCount).sum();
+        }
+
+        @Override
+        public Money getTotal() {
+            return Money.ofCents(unloadedPartitions.values().stream().mapToLong(ExpenseManifest.Entry::getTotal)
+                    .reduce(0, Math::addExact));
+        }
+
+        @Override
+        public Money getTentativeTotal() {
+            return Money.ofCents(unloadedPartitions.values().stream()
+                    .mapToLong(ExpenseManifest.Entry::getTentativeTotal)
+                    .reduce(0, Math::addExact));
+        }
+
+        /**
+         * Loads the partitions of every month from the one of {@code startDay} to the one of {@code endDay}.
+         * A partition which cannot be read is logged and left unloaded, and is not asked for again.
+         * Waits for the writes taken from the list to be done first.
+         */
+        @Override
+        public List<Expense> load(long startDay, long endDay) {
+            synchronized (ExpenseListStorageManager.this) {
+                while (pendingWrites > 0) {
+                    try {
+                        ExpenseListStorageManager.this.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return new ArrayList<>();
+                    }
+                }
+                return loadPartitions(startDay, endDay);
+            }
+        }
+
+        private List<Expense> loadPartitions(long startDay, long endDay) {
+            YearMonth firstMonth = YearMonth.from(LocalDate.ofEpochDay(startDay));
+            YearMonth lastMonth = YearMonth.from(LocalDate.ofEpochDay(endDay));
+            List<Expense> expenses = new ArrayList<>();
+            awaitCompaction();
+            for (String partition : new ArrayList<>(unloadedPartitions.keySet())) {
+                if (partition.equals(ExpenseManifest.RECURRING_PARTITION)
+                        || unreadablePartitions.contains(partition)) {
+                    continue;
+                }
+                YearMonth month = ExpenseManifest.monthOf(partition);
+                if (month.isBefore(firstMonth) || month.isAfter(lastMonth)) {
+                    continue;
+                }
+                try {
+                    expenses.addAll(loadPartition(partition));
+                } catch (IOException | DukeException | IllegalArgumentException e) {
+                    logger.warning("Expense partition " + partition + " could not be loaded: " + e.getMessage());
+                }
+            }
+            return expenses;
         }
-        return new ExpenseList(internalList);
     }
 }
@@ -0,0 +1,204 @@
+package duke.storage;
+
+import duke.commons.FileUtil;
+import duke.model.Expense;
+import duke.model.Money;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The number and the totals of the expenses in every partition of the expense store, so that partitions
+ * which are not loaded can still be counted and added up.
+ *
+ * <p>Expenses are partitioned by the month they were made in, which names the partition ({@code 2019-11}).
+ * Recurring expenses belong to no particular month and are kept in a partition of their own.
+ * The manifest is stored as one line per partition: its name, the number of expenses, the total of the
+ * confirmed expenses and the total of the tentative expenses, separated by spaces. Totals are kept in cents
+ * and written as decimals.
+ */
+class ExpenseManifest {
+    static final String RECURRING_PARTITION = "recurring";
+
+    private static final String FIELD_SEPARATOR = " ";
+    private static final int FIELD_COUNT = 4;
+
+    /**
+     * The number and the totals of the expenses in one partition.
+     */
+    static class Entry {
+        static final Entry EMPTY = new Entry(0, 0, 0);
+
+        private final int count;
+        private final long total;
+        private final long tentativeTotal;
+
+        /**
+         * Constructs an entry.
+         *
+         * @param count          the number of expenses.
+         * @param total          the total of the confirmed expenses in cents.
+         * @param tentativeTotal the total of the tentative expenses in cents.
+         */
+        Entry(int count, long total, long tentativeTotal) {
+            this.count = count;
+            this.total = total;
+            this.tentativeTotal = tentativeTotal;
+        }
+
+        /**
+         * Returns the entry of a partition holding the given expenses.
+         *
+         * @param expenses the expenses of the partition.
+         * @return the entry of the partition.
+         */
+        static Entry of(List<Expense> expenses) {
+            Entry entry = EMPTY;
+            for (Expense expense : expenses) {
+                entry = entry.plus(expense);
+            }
+            return entry;
+        }
+
+        Entry plus(Expense expense) {
+            return change(1, expense.isTentative(), expense.getMoney().getCents());
+        }
+
+        Entry minus(Expense expense) {
+            return change(-1, expense.isTentative(), Math.negateExact(expense.getMoney().getCents()));
+        }
+
+        private Entry change(int countChange, boolean isTentative, long amount) {
+            return isTentative
+                    ? new Entry(count + countChange, total, Math.addExact(tentativeTotal, amount))
+                    : new Entry(count + countChange, Math.addExact(total, amount), tentativeTotal);
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        long getTotal() {
+            return total;
+        }
+
+        long getTentativeTotal() {
+            return tentativeTotal;
+        }
+    }
+
+    private final Map<String, Entry> entries;
+
+    ExpenseManifest() {
+        entries = new TreeMap<>();
+    }
+
+    private ExpenseManifest(Map<String, Entry> entries) {
+        this.entries = new TreeMap<>(entries);
+    }
+
+    /**
+     * Returns the name of the partition an expense belongs to.
+     *
+     * @param expense the expense.
+     * @return the name of its partition.
+     */
+    static String partitionOf(Expense expense) {
+        return expense.isRecurring() ? RECURRING_PARTITION : YearMonth.from(expense.getTime()).toString();
+    }
+
+    /**
+     * Returns the month a partition holds the expenses of.
+     *
+     * @param partition the name of a partition other than the recurring one.
+     * @return the month of the partition.
+     */
+    static YearMonth monthOf(String partition) {
+        return YearMonth.parse(partition);
+    }
+
+    /**
+     * Reads a manifest file.
+     *
+     * @param file the file to read.
+     * @return the manifest, which is empty if the file does not exist.
+     * @throws IOException if the file could not be read or is not a manifest.
+     */
+    static ExpenseManifest read(Path file) throws IOException {
+        ExpenseManifest manifest = new ExpenseManifest();
+        if (!Files.exists(file)) {
+            return manifest;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] fields = line.split(FIELD_SEPARATOR);
+            if (fields.length != FIELD_COUNT) {
+                throw new IOException("Invalid line in " + file + ": " + line);
+            }
+            try {
+                if (!fields[0].equals(RECURRING_PARTITION)) {
+                    monthOf(fields[0]);
+                }
+                manifest.entries.put(fields[0], new Entry(Integer.parseInt(fields[1]),
+                        Money.parse(fields[2]).getCents(), Money.parse(fields[3]).getCents()));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IOException("Invalid line in " + file + ": " + line);
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Writes the manifest to a file and forces it to the disk.
+     *
+     * @param file the file to write.
+     * @throws IOException if the file could not be written.
+     */
+    void write(Path file) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            content.append(entry.getKey())
+                    .append(FIELD_SEPARATOR).append(entry.getValue().count)
+                    .append(FIELD_SEPARATOR).append(Money.ofCents(entry.getValue().total))
+                    .append(FIELD_SEPARATOR).append(Money.ofCents(entry.getValue().tentativeTotal))
+                    .append('\n');
+        }
+        FileUtil.writeToFile(file, content.toString(), StandardCharsets.UTF_8);
+    }
+
+    ExpenseManifest copy() {
+        return new ExpenseManifest(entries);
+    }
+
+    Set<String> getPartitions() {
+        return entries.keySet();
+    }
+
+    Entry get(String partition) {
+        return entries.getOrDefault(partition, Entry.EMPTY);
+    }
+
+    /**
+     * Sets the entry of a partition. An empty partition is left out of the manifest.
+     *
+     * @param partition the name of the partition.
+     * @param entry     the entry of the partition.
+     */
+    void put(String partition, Entry entry) {
+        if (entry.count == 0) {
+            entries.remove(partition);
+        } else {
+            entries.put(partition, entry);
+        }
+    }
+}
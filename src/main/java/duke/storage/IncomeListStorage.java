@@ -5,7 +5,17 @@ import duke.model.IncomeList;
 
 public interface IncomeListStorage {
 
-    public void saveIncomeList(IncomeList incomeList) throws DukeException;
+    public default void saveIncomeList(IncomeList incomeList) throws DukeException {
+        prepareSaveIncomeList(incomeList).write();
+    }
+
+    /**
+     * Takes what saving the income list needs from it, and returns the write of it.
+     *
+     * @param incomeList the income list to save.
+     * @return the write, which does not read the income list.
+     */
+    public StorageWrite prepareSaveIncomeList(IncomeList incomeList);
 
     public IncomeList loadIncomeList() throws DukeException;
 }
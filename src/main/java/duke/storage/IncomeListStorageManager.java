@@ -7,11 +7,10 @@ import duke.model.Income;
 import duke.model.IncomeList;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 import java.util.logging.Logger;
 
 import static java.util.Objects.requireNonNull;
@@ -39,24 +38,26 @@ public class IncomeListStorageManager implements IncomeListStorage {
     }
 
     /**
-     * Saves and stores the incomeList to income.txt by overwriting income.txt.
+     * Returns the write of the incomeList to income.txt, which overwrites income.txt.
      *
-     * @param incomeList the updated incomeList right before termination of Duke++
-     * @throws DukeException if I/O error is encountered
+     * @param incomeList the updated incomeList
+     * @return the write, which throws DukeException if I/O error is encountered
      */
     @Override
-    public void saveIncomeList(IncomeList incomeList) throws DukeException {
-        try {
-            try (FileWriter fileWriter = new FileWriter(INCOME_FILE)) {
-                for (Income income : incomeList.getInternalList()) {
-                    fileWriter.write(income.toStorageString());
-                    fileWriter.write(STORAGE_DELIMITER);
-                }
-            }
-        } catch (IOException e) {
-            throw new DukeException(String.format(
-                    DukeException.MESSAGE_SAVE_FILE_FAILED, INCOME_FILE.getPath()));
+    public StorageWrite prepareSaveIncomeList(IncomeList incomeList) {
+        StringBuilder content = new StringBuilder();
+        for (Income income : incomeList.getInternalList()) {
+            content.append(income.toStorageString());
+            content.append(STORAGE_DELIMITER);
         }
+        return () -> {
+            try {
+                FileUtil.writeToFile(INCOME_FILE.toPath(), content.toString(), Charset.defaultCharset());
+            } catch (IOException e) {
+                throw new DukeException(String.format(
+                        DukeException.MESSAGE_SAVE_FILE_FAILED, INCOME_FILE.getPath()));
+            }
+        };
     }
 
     /**
@@ -70,9 +71,10 @@ public class IncomeListStorageManager implements IncomeListStorage {
     public IncomeList loadIncomeList() throws DukeException {
         List<Income> internalList = new ArrayList<Income>();
         try {
-            try (Scanner fileReader = new Scanner(INCOME_FILE).useDelimiter(STORAGE_DELIMITER)) {
-                while (fileReader.hasNext()) {
-                    internalList.add(IncomeList.itemFromStorageString(fileReader.next()));
+            try (StorageRecordReader reader = StorageRecordReader.open(INCOME_FILE.toPath(),
+                    Charset.defaultCharset())) {
+                while (reader.nextRecord()) {
+                    internalList.add(reader.readIncome());
                 }
             }
             requireNonNull(internalList);
@@ -6,7 +6,17 @@ import java.util.Map;
 
 public interface PlanAttributesStorage {
 
-    public void savePlanAttributes(Map<String, String> attributes) throws DukeException;
+    public default void savePlanAttributes(Map<String, String> attributes) throws DukeException {
+        prepareSavePlanAttributes(attributes).write();
+    }
+
+    /**
+     * Takes what saving the attributes needs from them, and returns the write of them.
+     *
+     * @param attributes the attributes to save.
+     * @return the write, which does not read the attributes.
+     */
+    public StorageWrite prepareSavePlanAttributes(Map<String, String> attributes);
 
     public Map<String, String> loadAttributes();
 }
@@ -1,11 +1,12 @@
 package duke.storage;
 
+import duke.commons.FileUtil;
 import duke.commons.LogsCenter;
 import duke.exception.DukeException;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Scanner;
@@ -25,21 +26,21 @@ public class PlanAttributesStorageManager implements PlanAttributesStorage {
     }
 
     @Override
-    public void savePlanAttributes(Map<String, String> attributes) throws DukeException {
-        try {
-            PLAN_ATTRIBUTES_FILE.createNewFile();
-            try (FileWriter fileWriter = new FileWriter(PLAN_ATTRIBUTES_FILE)) {
-                for (String key : attributes.keySet()) {
-                    String value = attributes.get(key);
-                    fileWriter.write(key + " " + value);
-                    fileWriter.write(STORAGE_DELIMITER);
-                }
-            }
-        } catch (IOException e) {
-            throw new DukeException(String.format(DukeException
-                    .MESSAGE_SAVE_FILE_FAILED, PLAN_ATTRIBUTES_FILE.getPath()));
+    public StorageWrite prepareSavePlanAttributes(Map<String, String> attributes) {
+        StringBuilder content = new StringBuilder();
+        for (String key : attributes.keySet()) {
+            String value = attributes.get(key);
+            content.append(key + " " + value);
+            content.append(STORAGE_DELIMITER);
         }
-
+        return () -> {
+            try {
+                FileUtil.writeToFile(PLAN_ATTRIBUTES_FILE.toPath(), content.toString(), Charset.defaultCharset());
+            } catch (IOException e) {
+                throw new DukeException(String.format(DukeException
+                        .MESSAGE_SAVE_FILE_FAILED, PLAN_ATTRIBUTES_FILE.getPath()));
+            }
+        };
     }
 
     @Override
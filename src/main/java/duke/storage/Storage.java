@@ -14,6 +14,10 @@ import java.util.Optional;
 
 /**
  * API of the Storage component.
+ *
+ * <p>Every kind of data can also be saved in two steps: {@code prepareSave} methods take what saving needs
+ * from the model while its lock is held, and return a {@link StorageWrite} which is run once the lock is
+ * released. By default, the data is saved at once and there is nothing left to write.
  */
 public interface Storage {
 
@@ -53,4 +57,52 @@ public interface Storage {
      */
     void savePaymentList(PaymentList paymentList) throws IOException;
 
+    default StorageWrite prepareSaveExpenseList(ExpenseList expenseList) throws DukeException {
+        saveExpenseList(expenseList);
+        return StorageWrite.NONE;
+    }
+
+    default StorageWrite prepareSavePlanAttributes(Map<String, String> attributes) throws DukeException {
+        savePlanAttributes(attributes);
+        return StorageWrite.NONE;
+    }
+
+    default StorageWrite prepareSaveIncomeList(IncomeList incomeList) throws DukeException {
+        saveIncomeList(incomeList);
+        return StorageWrite.NONE;
+    }
+
+    default StorageWrite prepareSaveBudget(Budget budget) throws DukeException {
+        saveBudget(budget);
+        return StorageWrite.NONE;
+    }
+
+    default StorageWrite prepareSaveBudgetView(BudgetView budgetView) throws DukeException {
+        saveBudgetView(budgetView);
+        return StorageWrite.NONE;
+    }
+
+    /**
+     * Takes what saving paymentList needs from it, and returns the write of it.
+     *
+     * @param paymentList The paymentList to be saved in storage.
+     * @return the write, which does not read paymentList.
+     * @throws DukeException If the paymentList could not be saved at once.
+     */
+    default StorageWrite prepareSavePaymentList(PaymentList paymentList) throws DukeException {
+        try {
+            savePaymentList(paymentList);
+        } catch (IOException e) {
+            throw new DukeException(DukeException.MESSAGE_PAYMENT_SAVE_FAILED);
+        }
+        return StorageWrite.NONE;
+    }
+
+    /**
+     * Makes sure everything saved so far is written to the disk.
+     *
+     * @throws DukeException If some of the data could not be written.
+     */
+    void flush() throws DukeException;
+
 }
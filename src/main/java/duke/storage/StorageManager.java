@@ -114,4 +114,39 @@ public class StorageManager implements Storage {
     public void savePaymentList(PaymentList paymentList) throws IOException {
         paymentListStorage.savePaymentList(paymentList);
     }
+
+    @Override
+    public StorageWrite prepareSaveExpenseList(ExpenseList expenseList) {
+        return expenseListStorage.prepareSaveExpenseList(expenseList);
+    }
+
+    @Override
+    public StorageWrite prepareSavePlanAttributes(Map<String, String> attributes) {
+        return planAttributesStorage.prepareSavePlanAttributes(attributes);
+    }
+
+    @Override
+    public StorageWrite prepareSaveIncomeList(IncomeList incomeList) {
+        return incomeListStorage.prepareSaveIncomeList(incomeList);
+    }
+
+    @Override
+    public StorageWrite prepareSaveBudget(Budget budget) {
+        return budgetStorage.prepareSaveBudget(budget);
+    }
+
+    @Override
+    public StorageWrite prepareSaveBudgetView(BudgetView budgetView) {
+        return budgetViewStorage.prepareSaveBudgetView(budgetView);
+    }
+
+    @Override
+    public StorageWrite prepareSavePaymentList(PaymentList paymentList) {
+        return paymentListStorage.prepareSavePaymentList(paymentList);
+    }
+
+    @Override
+    public void flush() throws DukeException {
+        expenseListStorage.flush();
+    }
 }
@@ -0,0 +1,443 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.logic.parser.Parser;
+import duke.model.Expense;
+import duke.model.Income;
+import duke.model.Money;
+import duke.model.Recurrence;
+import duke.model.TagDictionary;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Reads items from the text storage format, in which every item is a record of {@code name:value} lines
+ * and records are separated by an empty line.
+ *
+ * <p>The text is read in a single pass through a reusable buffer of characters, and the values are handed
+ * to the item builders as they are found. Apart from the items themselves, nothing is allocated per field:
+ * amounts, times and flags are parsed straight from the buffer, and tags are looked up in the
+ * {@code TagDictionary} once per distinct set of tags.
+ * Values in an unusual form are handed to the same parsers the items use, so that every file written by
+ * {@code toStorageString} reads back exactly as it would through the item's storage string constructor.
+ */
+class StorageRecordReader implements Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int MAX_FAST_DIGITS = 16;
+    private static final String TIME_PATTERN = "00:00 00/00/0000";
+
+    private static final int EXPENSE_TAG = 1;
+    private static final int EXPENSE_AMOUNT = 1 << 1;
+    private static final int EXPENSE_DESCRIPTION = 1 << 2;
+    private static final int EXPENSE_TIME = 1 << 3;
+    private static final int EXPENSE_TENTATIVE = 1 << 4;
+    private static final int EXPENSE_RECURRING = 1 << 5;
+    private static final int EXPENSE_RECURRENCE = 1 << 6;
+
+    private final Reader source;
+    private final String sourceName;
+    private char[] buffer;
+    private int limit;
+    private boolean isEndOfSource;
+
+    /**
+     * The position in the buffer where the next record starts.
+     */
+    private int next;
+    private int recordEnd;
+    private int fieldStart;
+    private int keyStart;
+    private int keyEnd;
+    private int valueStart;
+    private int valueEnd;
+
+    private String[] tags = new String[8];
+    private int[] tagSetIds = new int[8];
+    private int tagCount;
+
+    /**
+     * Constructs a reader of records.
+     *
+     * @param source     the text to read, which is closed with this reader.
+     * @param sourceName the name of the text, used in error messages.
+     * @param bufferSize the initial size of the buffer, which grows to fit the longest record.
+     */
+    StorageRecordReader(Reader source, String sourceName, int bufferSize) {
+        this.source = source;
+        this.sourceName = sourceName;
+        buffer = new char[bufferSize];
+    }
+
+    /**
+     * Opens a file for reading records.
+     *
+     * @param file    the file to read.
+     * @param charset the charset the file was written in.
+     * @return the reader of the file.
+     * @throws IOException if the file could not be opened.
+     */
+    static StorageRecordReader open(Path file, Charset charset) throws IOException {
+        return new StorageRecordReader(Files.newBufferedReader(file, charset), file.toString(), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Parses an expense from its storage string.
+     *
+     * @param storageString the storage string of the expense.
+     * @return the expense.
+     * @throws DukeException if the storage string does not describe a valid expense.
+     */
+    static Expense parseExpense(String storageString) throws DukeException {
+        try (StorageRecordReader reader = new StorageRecordReader(new StringReader(storageString),
+                "journal", storageString.length() + 1)) {
+            if (!reader.nextRecord()) {
+                return new Expense.Builder().build();
+            }
+            return reader.readExpense();
+        } catch (IOException e) {
+            throw new DukeException(String.format(DukeException.MESSAGE_LOAD_FILE_FAILED, "journal"));
+        }
+    }
+
+    /**
+     * Moves to the next record. Empty records are skipped.
+     *
+     * @return true if there is a next record, or false if the end of the text was reached.
+     * @throws IOException if the text could not be read.
+     */
+    boolean nextRecord() throws IOException {
+        int searchFrom = next;
+        while (true) {
+            int delimiter = indexOfDelimiter(searchFrom);
+            if (delimiter == next) {
+                next += 2;
+                searchFrom = next;
+                continue;
+            }
+            if (delimiter >= 0) {
+                startRecord(delimiter, delimiter + 2);
+                return true;
+            }
+            if (isEndOfSource) {
+                if (next >= limit) {
+                    return false;
+                }
+                startRecord(limit, limit);
+                return true;
+            }
+            int searched = limit - next;
+            fill();
+            searchFrom = next + Math.max(0, searched - 1);
+        }
+    }
+
+    /**
+     * Reads the current record as an expense.
+     *
+     * @return the expense.
+     * @throws DukeException if the record does not describe a valid expense.
+     */
+    Expense readExpense() throws DukeException {
+        Expense.Builder builder = new Expense.Builder();
+        int seen = 0;
+        while (nextField()) {
+            int field = expenseField();
+            if ((seen & field) != 0) {
+                throw new DukeException(String.format(DukeException.MESSAGE_LOAD_FILE_FAILED, sourceName));
+            }
+            seen |= field;
+            switch (field) {
+            case EXPENSE_TAG:
+                builder.setTagSetId(valueTagSetId());
+                break;
+            case EXPENSE_AMOUNT:
+                builder.setAmount(valueAmount(DukeException.MESSAGE_EXPENSE_AMOUNT_INVALID));
+                break;
+            case EXPENSE_DESCRIPTION:
+                builder.setDescription(valueString());
+                break;
+            case EXPENSE_TIME:
+                builder.setTime(valueTime());
+                break;
+            case EXPENSE_TENTATIVE:
+                builder.setTentative(valueBoolean());
+                break;
+            case EXPENSE_RECURRING:
+                // A recurrence read already says more than the flag, as it does in the storage string.
+                if ((seen & EXPENSE_RECURRENCE) == 0) {
+                    builder.setRecurring(valueBoolean());
+                }
+                break;
+            case EXPENSE_RECURRENCE:
+                builder.setRecurrence(Recurrence.parse(valueString()));
+                break;
+            default:
+                break;
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads the current record as an income. An income must have an amount and a description.
+     *
+     * @return the income.
+     * @throws DukeException if the record does not describe a valid income.
+     */
+    Income readIncome() throws DukeException {
+        Income.Builder builder = new Income.Builder();
+        boolean hasAmount = false;
+        boolean hasDescription = false;
+        boolean hasTag = false;
+        while (nextField()) {
+            if (isKey("amount") && !hasAmount) {
+                builder.setAmount(valueAmount(DukeException.MESSAGE_INCOME_AMOUNT_INVALID));
+                hasAmount = true;
+            } else if (isKey("description") && !hasDescription) {
+                builder.setDescription(valueString());
+                hasDescription = true;
+            } else if (isKey("tag") && !hasTag) {
+                builder.setTagSetId(valueTagSetId());
+                hasTag = true;
+            } else if (isKey("amount") || isKey("description") || isKey("tag")) {
+                throw new DukeException(String.format(DukeException.MESSAGE_LOAD_FILE_FAILED, sourceName));
+            }
+        }
+        if (!hasAmount || !hasDescription) {
+            throw new DukeException(String.format(DukeException.MESSAGE_LOAD_FILE_FAILED, sourceName));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    private int expenseField() {
+        if (isKey("tag")) {
+            return EXPENSE_TAG;
+        } else if (isKey("amount")) {
+            return EXPENSE_AMOUNT;
+        } else if (isKey("description")) {
+            return EXPENSE_DESCRIPTION;
+        } else if (isKey("time")) {
+            return EXPENSE_TIME;
+        } else if (isKey("isTentative")) {
+            return EXPENSE_TENTATIVE;
+        } else if (isKey("isRecurring")) {
+            return EXPENSE_RECURRING;
+        } else if (isKey("recurrence")) {
+            return EXPENSE_RECURRENCE;
+        } else {
+            return 0;
+        }
+    }
+
+    private void startRecord(int end, int nextRecord) {
+        fieldStart = next;
+        recordEnd = end;
+        next = nextRecord;
+    }
+
+    /**
+     * Moves to the next non-empty line of the current record.
+     */
+    private boolean nextField() {
+        while (fieldStart < recordEnd && buffer[fieldStart] == '\n') {
+            fieldStart++;
+        }
+        if (fieldStart >= recordEnd) {
+            return false;
+        }
+        int lineEnd = fieldStart;
+        while (lineEnd < recordEnd && buffer[lineEnd] != '\n') {
+            lineEnd++;
+        }
+        keyStart = fieldStart;
+        keyEnd = fieldStart;
+        while (keyEnd < lineEnd && buffer[keyEnd] != ':') {
+            keyEnd++;
+        }
+        valueStart = keyEnd < lineEnd ? keyEnd + 1 : lineEnd;
+        valueEnd = lineEnd;
+        fieldStart = lineEnd;
+        return true;
+    }
+
+    private boolean isKey(String key) {
+        if (keyEnd - keyStart != key.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (buffer[keyStart + i] != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String valueString() {
+        return new String(buffer, valueStart, valueEnd - valueStart);
+    }
+
+    /**
+     * Returns the value as the id of a set of tags, remembering the ids of the tags already read.
+     */
+    private int valueTagSetId() {
+        int length = valueEnd - valueStart;
+        for (int i = 0; i < tagCount; i++) {
+            String tag = tags[i];
+            if (tag.length() == length && regionEquals(tag)) {
+                return tagSetIds[i];
+            }
+        }
+        String tag = valueString();
+        if (tagCount == tags.length) {
+            tags = Arrays.copyOf(tags, tagCount * 2);
+            tagSetIds = Arrays.copyOf(tagSetIds, tagCount * 2);
+        }
+        tags[tagCount] = tag;
+        tagSetIds[tagCount] = TagDictionary.setIdOf(tag);
+        return tagSetIds[tagCount++];
+    }
+
+    private boolean regionEquals(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (buffer[valueStart + i] != string.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value as {@code Money}, the way {@code Money.parse} would.
+     * Plain decimals of up to 16 digits are parsed from the buffer; anything else is left to {@code Money}.
+     */
+    private Money valueAmount(String invalidMessage) throws DukeException {
+        int position = valueStart;
+        boolean isNegative = false;
+        if (position < valueEnd && (buffer[position] == '-' || buffer[position] == '+')) {
+            isNegative = buffer[position] == '-';
+            position++;
+        }
+        long cents = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; position < valueEnd; position++) {
+            char c = buffer[position];
+            if (c >= '0' && c <= '9') {
+                cents = cents * 10 + (c - '0');
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                break;
+            }
+        }
+        if (position == valueEnd && digits > 0 && digits <= MAX_FAST_DIGITS && scale <= 2) {
+            for (int i = Math.max(scale, 0); i < 2; i++) {
+                cents *= 10;
+            }
+            return Money.ofCents(isNegative ? -cents : cents);
+        }
+        String value = valueString();
+        try {
+            return Money.parse(value);
+        } catch (NumberFormatException e) {
+            throw new DukeException(String.format(invalidMessage, value));
+        }
+    }
+
+    /**
+     * Returns the value as a time in the format of {@code Parser.formatTime}.
+     * Times that are not plainly in that format are left to {@code Parser.parseTime}.
+     */
+    private LocalDateTime valueTime() throws DukeException {
+        if (valueEnd - valueStart == TIME_PATTERN.length() && isTimePattern()) {
+            int year = valueNumber(12, 4);
+            if (year > 0) {
+                try {
+                    return LocalDateTime.of(year, valueNumber(9, 2), valueNumber(6, 2),
+                            valueNumber(0, 2), valueNumber(3, 2));
+                } catch (DateTimeException e) {
+                    // Left to the parser, which resolves or rejects the fields the way it always has.
+                }
+            }
+        }
+        return Parser.parseTime(valueString());
+    }
+
+    private boolean isTimePattern() {
+        for (int i = 0; i < TIME_PATTERN.length(); i++) {
+            char c = buffer[valueStart + i];
+            boolean isMatch = TIME_PATTERN.charAt(i) == '0' ? c >= '0' && c <= '9' : c == TIME_PATTERN.charAt(i);
+            if (!isMatch) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int valueNumber(int offset, int length) {
+        int number = 0;
+        for (int i = valueStart + offset; i < valueStart + offset + length; i++) {
+            number = number * 10 + (buffer[i] - '0');
+        }
+        return number;
+    }
+
+    /**
+     * Returns the value as a boolean, the way {@code Boolean.parseBoolean} would.
+     */
+    private boolean valueBoolean() {
+        return valueEnd - valueStart == 4
+                && Character.toLowerCase(buffer[valueStart]) == 't'
+                && Character.toLowerCase(buffer[valueStart + 1]) == 'r'
+                && Character.toLowerCase(buffer[valueStart + 2]) == 'u'
+                && Character.toLowerCase(buffer[valueStart + 3]) == 'e';
+    }
+
+    private int indexOfDelimiter(int from) {
+        for (int i = from; i + 1 < limit; i++) {
+            if (buffer[i] == '\n' && buffer[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Moves the unread characters to the start of the buffer and reads more after them,
+     * growing the buffer if it is full.
+     */
+    private void fill() throws IOException {
+        int unread = limit - next;
+        if (next > 0) {
+            System.arraycopy(buffer, next, buffer, 0, unread);
+        } else if (unread == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        next = 0;
+        limit = unread;
+        int read = source.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            isEndOfSource = true;
+        } else {
+            limit += read;
+        }
+    }
+}
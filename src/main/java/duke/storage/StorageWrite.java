@@ -0,0 +1,23 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+
+/**
+ * A write of data already taken from the model, which does not read the model any more,
+ * so that it can be run without holding the lock of the model.
+ */
+@FunctionalInterface
+public interface StorageWrite {
+
+    /**
+     * A write with nothing left to write.
+     */
+    StorageWrite NONE = () -> { };
+
+    /**
+     * Writes the data to the disk.
+     *
+     * @throws DukeException if the data could not be written.
+     */
+    void write() throws DukeException;
+}
@@ -1,25 +1,39 @@
 package duke.storage.payment;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import duke.exception.DukeException;
 import duke.model.payment.Payment;
 
-import java.time.format.DateTimeFormatter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * Jackson-friendly version of Payment.
+ * The due date, amount and priority are kept typed, and written as the strings Payment has always been stored as.
  */
 public class JsonAdaptedPayment {
 
+    static final String DUE_PATTERN = "dd/MM/yyyy";
+
     private String description;
     private String receiver;
-    private String due;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DUE_PATTERN)
+    private LocalDate due;
     private String remark;
-    private String amount;
-    private String priority;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private BigDecimal amount;
+    @JsonSerialize(using = ToStringSerializer.class)
+    @JsonDeserialize(using = PriorityDeserializer.class)
+    private Payment.Priority priority;
 
     /**
      * Constructs a {@code JsonAdaptedPayment} with the given payment details.
@@ -27,10 +41,10 @@ public class JsonAdaptedPayment {
     @JsonCreator
     public JsonAdaptedPayment(@JsonProperty("description") String description,
                               @JsonProperty("receiver") String receiver,
-                              @JsonProperty("due") String due,
+                              @JsonProperty("due") @JsonFormat(pattern = DUE_PATTERN) LocalDate due,
                               @JsonProperty("remark") String remark,
-                              @JsonProperty("amount") String amount,
-                              @JsonProperty("priority") String priority) {
+                              @JsonProperty("amount") BigDecimal amount,
+                              @JsonProperty("priority") Payment.Priority priority) {
 
         this.description = description;
         this.receiver = receiver;
@@ -48,10 +62,10 @@ public class JsonAdaptedPayment {
 
         description = source.getDescription();
         receiver = source.getReceiver();
-        due = source.getDue().format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        due = source.getDue();
         remark = source.getTag();
-        amount = source.getAmount().toString();
-        priority = source.getPriority().toString();
+        amount = source.getAmount();
+        priority = source.getPriority();
     }
 
     /**
@@ -95,4 +109,21 @@ public class JsonAdaptedPayment {
         return paymentBuilder.build();
     }
 
+    /**
+     * Reads a priority from its display name, ignoring case like {@code Payment.Builder#setPriority}.
+     */
+    private static class PriorityDeserializer extends FromStringDeserializer<Payment.Priority> {
+
+        private static final long serialVersionUID = 1L;
+
+        protected PriorityDeserializer() {
+            super(Payment.Priority.class);
+        }
+
+        @Override
+        protected Payment.Priority _deserialize(String value, DeserializationContext ctxt) {
+            return Payment.Priority.valueOf(value.toUpperCase());
+        }
+    }
+
 }
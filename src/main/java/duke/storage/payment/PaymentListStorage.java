@@ -1,6 +1,7 @@
 package duke.storage.payment;
 
 import duke.model.payment.PaymentList;
+import duke.storage.StorageWrite;
 
 import java.io.IOException;
 import java.util.Optional;
@@ -27,4 +28,12 @@ public interface PaymentListStorage {
      */
     void savePaymentList(PaymentList paymentList) throws IOException;
 
+    /**
+     * Takes what saving the given PaymentList needs from it, and returns the write of it.
+     *
+     * @param paymentList cannot be null.
+     * @return the write, which does not read the PaymentList.
+     */
+    StorageWrite prepareSavePaymentList(PaymentList paymentList);
+
 }
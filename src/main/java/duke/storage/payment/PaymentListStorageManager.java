@@ -2,20 +2,37 @@ package duke.storage.payment;
 
 import static java.util.Objects.requireNonNull;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import duke.commons.FileUtil;
 import duke.commons.JsonUtil;
 import duke.commons.LogsCenter;
 import duke.exception.DukeException;
+import duke.model.payment.Payment;
 import duke.model.payment.PaymentList;
+import duke.storage.StorageWrite;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 /**
  * A class to access PaymentList data stored as a json file on the hard disk.
+ * The file is streamed a payment at a time in both directions,
+ * so that neither the whole document nor a copy of every payment is held in memory at once.
  */
 public class PaymentListStorageManager implements PaymentListStorage {
 
@@ -23,7 +40,15 @@ public class PaymentListStorageManager implements PaymentListStorage {
 
     private static final File DEFAULT_USER_DIRECTORY = new File("data" + File.separator + "duke");
     private static final File PAYMENTS_FILE = new File(DEFAULT_USER_DIRECTORY, "payments.txt");
-    private static final Path filePath = PAYMENTS_FILE.toPath();
+    private static final String PAYMENTS_FIELD = "payments";
+    private static final int STREAM_BUFFER_SIZE = 1 << 16;
+
+    private static final ObjectReader PAYMENT_READER = JsonUtil.readerFor(JsonAdaptedPayment.class);
+    // Every payment is written to the same generator, which is flushed once at the end.
+    private static final ObjectWriter PAYMENT_WRITER = JsonUtil.writerFor(JsonAdaptedPayment.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private final Path filePath;
 
     /**
      * Creates a {@code PaymentListStorageManager}.
@@ -33,43 +58,102 @@ public class PaymentListStorageManager implements PaymentListStorage {
      * @throws IOException if errors occur when creating the file.
      */
     public PaymentListStorageManager() throws IOException {
+        this(PAYMENTS_FILE.toPath());
+    }
+
+    /**
+     * Creates a {@code PaymentListStorageManager} storing the PaymentList data in {@code filePath}.
+     * If the file is not found, it will create a new file at the location.
+     *
+     * @throws IOException if errors occur when creating the file.
+     */
+    PaymentListStorageManager(Path filePath) throws IOException {
+        this.filePath = filePath;
         FileUtil.createIfMissing(filePath);
         logger.info("PaymentList.txt has been located.");
     }
 
     @Override
     public Optional<PaymentList> readPaymentList() {
-
-        // Returns a new empty paymentList if the file is blank.
-        if (PAYMENTS_FILE.length() == 0) {
-            return Optional.of(new PaymentList());
-        }
-
-        Optional<JsonSerializablePaymentList> jsonPaymentList;
         try {
-            jsonPaymentList = JsonUtil.readJsonFile(filePath, JsonSerializablePaymentList.class);
+            // Returns a new empty paymentList if the file is blank.
+            if (Files.size(filePath) == 0) {
+                return Optional.of(new PaymentList());
+            }
+            return Optional.of(new PaymentList(readPayments()));
+        } catch (IOException e) {
+            logger.warning("Json file has format errors! " + e.getMessage());
         } catch (DukeException e) {
-            logger.warning("Json file has format errors!");
-            return Optional.of(new PaymentList()); // Returns an empty paymentList as alternative.
+            logger.warning("Illegal values found in " + filePath + ": " + e.getMessage());
         }
+        return Optional.of(new PaymentList()); // Returns an empty paymentList as alternative.
+    }
 
-        if (jsonPaymentList.isEmpty()) {
-            return Optional.of(new PaymentList()); // Returns an empty paymentList as alternative.
+    /**
+     * Reads the payments in the {@code payments} array of the file, skipping any other field.
+     */
+    private List<Payment> readPayments() throws IOException, DukeException {
+        List<Payment> payments = new ArrayList<>();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), STREAM_BUFFER_SIZE);
+             JsonParser parser = PAYMENT_READER.getFactory().createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                JsonToken value = parser.nextToken();
+                if (!PAYMENTS_FIELD.equals(parser.getCurrentName())) {
+                    parser.skipChildren();
+                    continue;
+                }
+                expect(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedPayment payment = PAYMENT_READER.readValue(parser);
+                    payments.add(payment.toModelType());
+                }
+            }
         }
+        return payments;
+    }
 
-        try {
-            return Optional.of(jsonPaymentList.get().toModelType());
-        } catch (DukeException e) {
-            logger.warning("Illegal values found in " + filePath + ": " + e.getMessage());
-            return Optional.of(new PaymentList()); // Returns an empty paymentList as alternative.
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual + " at "
+                    + parser.getCurrentLocation());
         }
-
     }
 
     @Override
     public void savePaymentList(PaymentList paymentList) throws IOException {
         requireNonNull(paymentList);
-        JsonUtil.saveJsonFile(new JsonSerializablePaymentList(paymentList), filePath);
+        FileUtil.writeToFile(filePath, out -> writePayments(paymentList.getInternalList(), out));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Payments are not changed once built, so only the list of them is copied.
+     */
+    @Override
+    public StorageWrite prepareSavePaymentList(PaymentList paymentList) {
+        requireNonNull(paymentList);
+        List<Payment> payments = new ArrayList<>(paymentList.getInternalList());
+        return () -> {
+            try {
+                FileUtil.writeToFile(filePath, out -> writePayments(payments, out));
+            } catch (IOException e) {
+                throw new DukeException(DukeException.MESSAGE_PAYMENT_SAVE_FAILED);
+            }
+        };
+    }
+
+    private static void writePayments(List<Payment> payments, OutputStream out) throws IOException {
+        JsonGenerator generator = PAYMENT_WRITER.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.useDefaultPrettyPrinter();
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PAYMENTS_FIELD);
+        for (Payment payment : payments) {
+            PAYMENT_WRITER.writeValue(generator, new JsonAdaptedPayment(payment));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
     }
 
 }
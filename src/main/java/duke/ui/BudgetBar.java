@@ -24,6 +24,8 @@ public class BudgetBar extends UiPart<Region> {
     private static final String FXML_FILE_NAME = "BudgetBar.fxml";
     public Logic logic;
     private Map<Integer,ProgressBar> budgetBars = new HashMap<>();
+    private Map<Integer,Text> categoryTexts = new HashMap<>();
+    private Map<Integer,Text> remainingTexts = new HashMap<>();
 
     @FXML
     GridPane gridPane;
@@ -58,74 +60,78 @@ public class BudgetBar extends UiPart<Region> {
         gridPane.setGridLinesVisible(true);
         gridPane.setSnapToPixel(true);
 
+        VBox[] vboxes = {vbox1, vbox2, vbox3, vbox4, vbox5, vbox6};
         for (int viewPane = 1; viewPane <= 6; viewPane++) {
             ProgressBar bar = new ProgressBar();
-            Text category = new Text();
-            Text remaining = new Text();
-
-            remaining.setStyle("-fx-font-size: 16px;");
-            category.setStyle("-fx-font-size: 25px;");
-
             bar.setPrefWidth(250);
             bar.setPrefHeight(30);
-            bar.setProgress(percentage(viewPane,logic));
-            budgetBars.put(viewPane,bar);
-
-            if (percentage(viewPane,logic) > 0.9) {
-                bar.setStyle("-fx-accent: red;");
-            } else if (percentage(viewPane,logic) > 0.65) {
-                bar.setStyle("-fx-accent: orange;");
-            } else if (percentage(viewPane,logic) > 0.40) {
-                bar.setStyle("-fx-accent: yellow");
-            } else {
-                bar.setStyle("-fx-accent: green");
-            }
+            final Text category = new Text();
+            final Text remaining = new Text();
+            budgetBars.put(viewPane, bar);
+            categoryTexts.put(viewPane, category);
+            remainingTexts.put(viewPane, remaining);
+
+            vboxes[viewPane - 1].getChildren().addAll(category, bar, remaining);
+            vboxes[viewPane - 1].setSpacing(10);
+        }
+        refresh();
+    }
 
-            if (percentage(viewPane,logic) < 1) {
-                if (remainder(viewPane,logic).compareTo(BigDecimal.ZERO) == 0) {
-                    remaining.setText("     No budget set.");
-                } else {
-                    remaining.setText("     Remaining budget: $" + remainder(viewPane, logic));
-                }
-            } else if (percentage(viewPane,logic) == 1) {
-                remaining.setText("     Budget of " + logic.getBudgetTag(
-                        logic.getBudgetViewCategory().get(viewPane)) + " reached!");
-            } else {
-                remaining.setText("     Exceeded budget by $" + remainder(viewPane,logic).negate() + "!");
-            }
+    /**
+     * Updates every budget view with the current budgets and expenses.
+     */
+    public void refresh() {
+        for (int viewPane = 1; viewPane <= 6; viewPane++) {
+            refreshViewPane(viewPane);
+        }
+    }
 
-            if (!logic.getBudgetViewCategory().containsKey(viewPane)) {
-                bar.setVisible(false);
-                remaining.setVisible(false);
-                category.setText("Type \"viewBudget " + viewPane
-                        + " /tag #category\" to add a budget view in this pane.");
-                category.setWrappingWidth(140);
-                category.setStyle("-fx-font-size: 12px;");
-                category.setTextAlignment(TextAlignment.CENTER);
-            } else {
-                String tag = logic.getBudgetViewCategory().get(viewPane);
-                category.setText(tag.toUpperCase());
-            }
+    private void refreshViewPane(int viewPane) {
+        ProgressBar bar = budgetBars.get(viewPane);
+        Text category = categoryTexts.get(viewPane);
+        Text remaining = remainingTexts.get(viewPane);
+        double percent = percentage(viewPane, logic);
+
+        remaining.setStyle("-fx-font-size: 16px;");
+        category.setStyle("-fx-font-size: 25px;");
+        bar.setProgress(percent);
+
+        if (percent > 0.9) {
+            bar.setStyle("-fx-accent: red;");
+        } else if (percent > 0.65) {
+            bar.setStyle("-fx-accent: orange;");
+        } else if (percent > 0.40) {
+            bar.setStyle("-fx-accent: yellow");
+        } else {
+            bar.setStyle("-fx-accent: green");
+        }
 
-            if (viewPane == 1) {
-                vbox1.getChildren().addAll(category, bar, remaining);
-                vbox1.setSpacing(10);
-            } else if (viewPane == 2) {
-                vbox2.getChildren().addAll(category, bar, remaining);
-                vbox2.setSpacing(10);
-            } else if (viewPane == 3) {
-                vbox3.getChildren().addAll(category, bar, remaining);
-                vbox3.setSpacing(10);
-            } else if (viewPane == 4) {
-                vbox4.getChildren().addAll(category, bar, remaining);
-                vbox4.setSpacing(10);
-            } else if (viewPane == 5) {
-                vbox5.getChildren().addAll(category, bar, remaining);
-                vbox5.setSpacing(10);
+        if (percent < 1) {
+            if (remainder(viewPane,logic).compareTo(BigDecimal.ZERO) == 0) {
+                remaining.setText("     No budget set.");
             } else {
-                vbox6.getChildren().addAll(category, bar, remaining);
-                vbox6.setSpacing(10);
+                remaining.setText("     Remaining budget: $" + remainder(viewPane, logic));
             }
+        } else if (percent == 1) {
+            remaining.setText("     Budget of " + logic.getBudgetTag(
+                    logic.getBudgetViewCategory().get(viewPane)) + " reached!");
+        } else {
+            remaining.setText("     Exceeded budget by $" + remainder(viewPane,logic).negate() + "!");
+        }
+
+        boolean hasView = logic.getBudgetViewCategory().containsKey(viewPane);
+        bar.setVisible(hasView);
+        remaining.setVisible(hasView);
+        if (!hasView) {
+            category.setText("Type \"viewBudget " + viewPane
+                    + " /tag #category\" to add a budget view in this pane.");
+            category.setWrappingWidth(140);
+            category.setStyle("-fx-font-size: 12px;");
+            category.setTextAlignment(TextAlignment.CENTER);
+        } else {
+            String tag = logic.getBudgetViewCategory().get(viewPane);
+            category.setText(tag.toUpperCase());
+            category.setWrappingWidth(0);
         }
     }
 
@@ -44,6 +44,10 @@ public class BudgetPane extends UiPart<AnchorPane>  {
 
     public Logic logic;
 
+    private ProgressBar overallBudget = new ProgressBar();
+    private Text remainingText = new Text();
+    private BudgetBar budgetBar;
+
     /**
      * Constructor for BudgetPane.
      *
@@ -69,17 +73,43 @@ public class BudgetPane extends UiPart<AnchorPane>  {
 
         this.logic = logic;
 
-        Text text = new Text();
-        ProgressBar overallBudget = new ProgressBar();
+        overallBudget.setLayoutX(150);
+        overallBudget.setPrefWidth(500);
+        overallBudget.setPrefHeight(30);
+        remainingText.setStyle("-fx-font-size: 20px;");
+        remainingText.setLayoutX(300);
+        remainingText.setLayoutY(60);
+        paneView.getChildren().clear();
+        paneView.getChildren().add(overallBudget);
+        paneView.getChildren().add(remainingText);
+
+        budgetBar = new BudgetBar(logic);
+        paneBudgetView.getChildren().clear();
+        paneBudgetView.getChildren().add(budgetBar.getRoot());
+        refreshOverallBudget();
+
+        budgetListView.setItems(logic.getBudgetObservableList());
+        totalIncomeLabel.textProperty().bindBidirectional(totalIncome);
+    }
+
+    /**
+     * Updates the budget bars after the expenses or budgets have changed.
+     * The income list is bound to the model and updates itself.
+     */
+    public void refresh() {
+        refreshOverallBudget();
+        budgetBar.refresh();
+    }
+
+    private void refreshOverallBudget() {
         double percent = logic.getTotalAmount().doubleValue() / logic.getMonthlyBudget().doubleValue();
         overallBudget.setProgress(percent);
         BigDecimal remaining = logic.getRemaining(logic.getTotalAmount());
         if ((remaining.compareTo(BigDecimal.ZERO) < 0)) {
-            text.setText("Remaining: -$" + remaining.negate());
+            remainingText.setText("Remaining: -$" + remaining.negate());
         } else {
-            text.setText("Remaining: $" + remaining);
+            remainingText.setText("Remaining: $" + remaining);
         }
-        text.setStyle("-fx-font-size: 20px;");
         if (percent > 0.9) {
             overallBudget.setStyle("-fx-accent: red;");
         } else if (percent > 0.65) {
@@ -89,20 +119,6 @@ public class BudgetPane extends UiPart<AnchorPane>  {
         } else {
             overallBudget.setStyle("-fx-accent: green");
         }
-        overallBudget.setLayoutX(150);
-        overallBudget.setPrefWidth(500);
-        overallBudget.setPrefHeight(30);
-        text.setLayoutX(300);
-        text.setLayoutY(60);
-        paneView.getChildren().clear();
-        paneView.getChildren().add(overallBudget);
-        paneView.getChildren().add(text);
-
-        paneBudgetView.getChildren().clear();
-        paneBudgetView.getChildren().add(new BudgetBar(logic).getRoot());
-
-        budgetListView.setItems(logic.getBudgetObservableList());
-        totalIncomeLabel.textProperty().bindBidirectional(totalIncome);
     }
 
     /**
@@ -110,6 +126,8 @@ public class BudgetPane extends UiPart<AnchorPane>  {
      * using a {@code IncomeList}.
      */
     class IncomeListViewCell extends ListCell<Income> {
+        private IncomeCard incomeCard;
+
         @Override
         protected void updateItem(Income income, boolean empty) {
             super.updateItem(income, empty);
@@ -117,8 +135,13 @@ public class BudgetPane extends UiPart<AnchorPane>  {
                 setGraphic(null);
                 setText(null);
             } else {
-                int index = incomeListView.getItems().indexOf(income) + 1;
-                setGraphic(new IncomeCard(income, index).getRoot());
+                int index = getIndex() + 1;
+                if (incomeCard == null) {
+                    incomeCard = new IncomeCard(income, index);
+                } else {
+                    incomeCard.bind(income, index);
+                }
+                setGraphic(incomeCard.getRoot());
             }
         }
     }
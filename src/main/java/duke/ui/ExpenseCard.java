@@ -6,11 +6,12 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
 
 
 public class ExpenseCard extends UiPart<Region> {
     private static final String FXML_FILE_NAME = "ExpenseCard.fxml";
-    public final Expense expense;
+    public Expense expense;
 
     @FXML
     private Label description;
@@ -23,6 +24,8 @@ public class ExpenseCard extends UiPart<Region> {
     @FXML
     private VBox expenseContainer;
 
+    private final Paint defaultTextFill;
+
     /**
      * Constructor of controller for ExpenseCard.fxml.
      * @param expense The Expense object we wish to display
@@ -30,21 +33,30 @@ public class ExpenseCard extends UiPart<Region> {
      */
     public ExpenseCard(Expense expense, int index) {
         super(FXML_FILE_NAME, null);
+        defaultTextFill = description.getTextFill();
+        bind(expense, index);
+    }
+
+    /**
+     * Shows another Expense in this card, so that a list cell can reuse its card instead of building a new one.
+     * @param expense The Expense object we wish to display
+     * @param index the int index of the current Expense in list of Expenses we are displaying
+     */
+    public void bind(Expense expense, int index) {
         this.expense = expense;
         description.setText(index + ". " + expense.getDescription());
         amount.setText("$" + expense.getAmount().toString());
         tag.setText("Tag: " + expense.getTag());
         date.setText(expense.getTimeString());
+        Paint textFill = defaultTextFill;
         if (expense.isRecurring()) {
-            description.setTextFill(Color.GREEN);
-            amount.setTextFill(Color.GREEN);
-            tag.setTextFill(Color.GREEN);
-            date.setTextFill(Color.GREEN);
+            textFill = Color.GREEN;
         } else if (expense.isTentative()) {
-            description.setTextFill(Color.GRAY);
-            amount.setTextFill(Color.GRAY);
-            tag.setTextFill(Color.GRAY);
-            date.setTextFill(Color.GRAY);
+            textFill = Color.GRAY;
         }
+        description.setTextFill(textFill);
+        amount.setTextFill(textFill);
+        tag.setTextFill(textFill);
+        date.setTextFill(textFill);
     }
 }
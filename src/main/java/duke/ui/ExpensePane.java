@@ -3,6 +3,7 @@ package duke.ui;
 import duke.commons.LogsCenter;
 import duke.logic.Logic;
 import duke.model.Expense;
+import duke.model.TagDictionary;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,6 +15,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Pane;
 
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -75,7 +77,7 @@ public class ExpensePane extends UiPart<AnchorPane> {
         totalLabel.textProperty().bindBidirectional(totalExpense);
 
         this.logic = logic;
-        PieChart pieChartSample = new PieChart();
+        pieChartSample = new PieChart();
         pieChartSample.setData(getData());
         paneView.getChildren().clear();
         pieChartSample.setTitle("Expenditure");
@@ -83,6 +85,14 @@ public class ExpensePane extends UiPart<AnchorPane> {
         logger.info("Pie chart is set.");
     }
 
+    /**
+     * Updates the pie chart after the expenses shown have changed.
+     * The list and labels are bound to the model and update themselves.
+     */
+    public void refresh() {
+        pieChartSample.setData(getData());
+    }
+
     /**
      * Retrieves the amounts for each specific tag.
      *
@@ -103,20 +113,26 @@ public class ExpensePane extends UiPart<AnchorPane> {
      * Retrieves all tags as shown in external list and stores in a set {@code tags}.
      */
     private void getTags() {
-        tags = new HashSet<>();
+        BitSet tagIds = new BitSet(TagDictionary.size());
         for (Expense expense : logic.getExternalExpenseList()) {
-            if (!expense.getTag().isEmpty()) {
-                tags.add(expense.getTag());
+            for (int tagId : TagDictionary.tagIdsOf(expense.getTagSetId())) {
+                tagIds.set(tagId);
             }
         }
+        tags = new HashSet<>();
+        for (int tagId = tagIds.nextSetBit(0); tagId >= 0; tagId = tagIds.nextSetBit(tagId + 1)) {
+            tags.add(TagDictionary.tagOf(tagId));
+        }
     }
 
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code PlanBot.PlanDialog}
-     * using a {@code PlanBot.PlanDialog}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Expense}
+     * using a {@code ExpenseCard}, numbered by the position of the cell.
      */
     class ExpenseListViewCell extends ListCell<Expense> {
+        private ExpenseCard expenseCard;
+
         @Override
         protected void updateItem(Expense expense, boolean empty) {
             super.updateItem(expense, empty);
@@ -124,8 +140,13 @@ public class ExpensePane extends UiPart<AnchorPane> {
                 setGraphic(null);
                 setText(null);
             } else {
-                int index = expenseListView.getItems().indexOf(expense) + 1;
-                setGraphic(new ExpenseCard(expense, index).getRoot());
+                int index = getIndex() + 1;
+                if (expenseCard == null) {
+                    expenseCard = new ExpenseCard(expense, index);
+                } else {
+                    expenseCard.bind(expense, index);
+                }
+                setGraphic(expenseCard.getRoot());
             }
         }
     }
@@ -9,7 +9,7 @@ import javafx.scene.layout.VBox;
 
 public class IncomeCard extends UiPart<Region> {
     private static final String FXML_FILE_NAME = "IncomeCard.fxml";
-    public final Income income;
+    public Income income;
 
     @FXML
     private Label description;
@@ -26,6 +26,16 @@ public class IncomeCard extends UiPart<Region> {
      */
     public IncomeCard(Income income, int index) {
         super(FXML_FILE_NAME, null);
+        bind(income, index);
+    }
+
+    /**
+     * Shows another income in this card, so that a list cell can reuse its card instead of building a new one.
+     *
+     * @param income income from incomeList
+     * @param index the specific number of income in the list
+     */
+    public void bind(Income income, int index) {
         this.income = income;
         description.setText(index + ". " + income.getDescription());
         amount.setText("$" + income.getAmount().toString());
@@ -15,6 +15,7 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 
+import java.util.Set;
 import java.util.logging.Logger;
 
 public class MainWindow extends UiPart<Stage> {
@@ -85,6 +86,10 @@ public class MainWindow extends UiPart<Stage> {
         });
     }
 
+    /**
+     * Builds every pane once. The panes are bound to the observable lists of the model,
+     * and are only refreshed afterwards for the data that is not observable.
+     */
     private void fillInnerPart() {
         expensePane = new ExpensePane(logic.getExternalExpenseList(),
                 logic,
@@ -93,7 +98,7 @@ public class MainWindow extends UiPart<Stage> {
                 logic.getSortCriteriaString(),
                 logic.getViewCriteriaString());
         logger.info("The filled externalList length " + logic.getExternalExpenseList().size());
-        trendingPane = new TrendingPane();
+        trendingPane = new TrendingPane(logic);
         logger.info("trendingPane is constructed.");
         planPane = new PlanPane(logic.getDialogObservableList());
         logger.info("planPane is constructed." + logic.getDialogObservableList().size());
@@ -103,14 +108,6 @@ public class MainWindow extends UiPart<Stage> {
                 logic.getPaymentPredicate());
         logger.info("Budget plane is constructed.");
 
-
-        expensePane.getRoot().setVisible(false);
-        planPane.getRoot().setVisible(false);
-        trendingPane.getRoot().setVisible(false);
-        paymentPane.getRoot().setVisible(false);
-        budgetPane.getRoot().setVisible(false);
-
-
         paneStack.getChildren().clear();
         paneStack.getChildren().add(expensePane.getRoot());
         paneStack.getChildren().add(planPane.getRoot());
@@ -118,28 +115,23 @@ public class MainWindow extends UiPart<Stage> {
         paneStack.getChildren().add(paymentPane.getRoot());
         paneStack.getChildren().add(budgetPane.getRoot());
 
+        showPane(displayedPane);
+    }
 
-        // this part should be unnecessary
-        switch (displayedPane) {
-        case TRENDING:
-            trendingPane.getRoot().setVisible(true);
-            break;
-
-        case PLAN:
-            planPane.getRoot().setVisible(true);
-            break;
-
-        case BUDGET:
-            budgetPane.getRoot().setVisible(true);
-            break;
-
-        case PAYMENT:
-            paymentPane.getRoot().setVisible(true);
-            break;
-
-        default: //Expense pane
-            expensePane.getRoot().setVisible(true);
-
+    /**
+     * Refreshes the parts of the panes which are not bound to the model and show data changed by a command.
+     *
+     * @param changedPanes the panes showing changed data.
+     */
+    private void refreshPanes(Set<CommandResult.DisplayedPane> changedPanes) {
+        if (changedPanes.contains(CommandResult.DisplayedPane.EXPENSE)) {
+            expensePane.refresh();
+            if (trendingPane.getRoot().isVisible()) {
+                trendingPane.refresh();
+            }
+        }
+        if (changedPanes.contains(CommandResult.DisplayedPane.BUDGET)) {
+            budgetPane.refresh();
         }
     }
 
@@ -156,8 +148,8 @@ public class MainWindow extends UiPart<Stage> {
                 commandResult = logic.execute(inputString);
             }
             console.setText(commandResult.getConsoleInfo());
-            fillInnerPart();
-            showPane(commandResult);
+            refreshPanes(commandResult.getChangedPanes());
+            showPane(commandResult.getDisplayedPane());
 
             if (commandResult.isExit()) {
                 Platform.exit();
@@ -190,8 +182,8 @@ public class MainWindow extends UiPart<Stage> {
     }
 
 
-    private void showPane(CommandResult commandResult) {
-        displayedPane = commandResult.getDisplayedPane();
+    private void showPane(CommandResult.DisplayedPane displayedPane) {
+        this.displayedPane = displayedPane;
         switch (displayedPane) {
         case EXPENSE:
             showExpensePane();
@@ -232,6 +224,7 @@ public class MainWindow extends UiPart<Stage> {
         trendingPane.getRoot().setVisible(true);
         paymentPane.getRoot().setVisible(false);
         budgetPane.getRoot().setVisible(false);
+        trendingPane.refresh();
     }
 
 
@@ -20,7 +20,7 @@ public class PaymentBox extends UiPart<AnchorPane> {
 
     private static final String PRIORITY_PREFIX = "Priority.";
 
-    private final Payment payment;
+    private Payment payment;
 
     @FXML
     private Label indexLabel;
@@ -54,6 +54,15 @@ public class PaymentBox extends UiPart<AnchorPane> {
      */
     public PaymentBox(Payment payment, int displayedIndex) {
         super(FXML_FILE_NAME, null);
+        bind(payment, displayedIndex);
+    }
+
+    /**
+     * Shows another payment in this box, so that a list cell can reuse its box instead of building a new one.
+     * @param payment Payment
+     * @param displayedIndex Index
+     */
+    public void bind(Payment payment, int displayedIndex) {
         this.payment = payment;
 
         indexLabel.setText(displayedIndex + ". ");
@@ -81,9 +90,7 @@ public class PaymentBox extends UiPart<AnchorPane> {
         priorityLabel.setBackground(new Background(backgroundFill));
         priorityLabel.setText(PRIORITY_PREFIX + priority.toString());
         tagLabel.setText(payment.getTag());
-        if (payment.getDue().isBefore(LocalDate.now())) {
-            overdueLabel.setVisible(true);
-        }
+        overdueLabel.setVisible(payment.getDue().isBefore(LocalDate.now()));
     }
 
 
@@ -92,6 +92,8 @@ public class PaymentPane extends UiPart<AnchorPane> {
      * Custom {@code ListCell} that displays the graphics of a {@code Payment} using a {@code PaymentBox}.
      */
     class PaymentListViewCell extends ListCell<Payment> {
+        private PaymentBox paymentBox;
+
         @Override
         protected void updateItem(Payment payment, boolean empty) {
             super.updateItem(payment, empty);
@@ -100,7 +102,12 @@ public class PaymentPane extends UiPart<AnchorPane> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PaymentBox(payment, getIndex() + 1).getRoot());
+                if (paymentBox == null) {
+                    paymentBox = new PaymentBox(payment, getIndex() + 1);
+                } else {
+                    paymentBox.bind(payment, getIndex() + 1);
+                }
+                setGraphic(paymentBox.getRoot());
             }
         }
     }
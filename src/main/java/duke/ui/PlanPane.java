@@ -3,6 +3,7 @@ package duke.ui;
 import duke.commons.LogsCenter;
 import duke.model.PlanBot;
 import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -31,6 +32,8 @@ public class PlanPane extends UiPart<BorderPane> {
         logger.info("DialogList set");
         dialogListView.setCellFactory(planDialogListView -> new PlanDialogListViewCell());
         Platform.runLater(() -> dialogListView.scrollTo(dialogObservableList.size() - 1));
+        dialogObservableList.addListener((ListChangeListener<PlanBot.PlanDialog>) change ->
+                dialogListView.scrollTo(change.getList().size() - 1));
     }
 
 
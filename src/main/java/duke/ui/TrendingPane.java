@@ -1,13 +1,126 @@
 package duke.ui;
 
+import duke.commons.LogsCenter;
+import duke.logic.Logic;
+import duke.model.ExpenseList;
+import duke.model.ExpenseTrend;
+import javafx.fxml.FXML;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.Tab;
+import javafx.scene.control.TabPane;
 import javafx.scene.layout.AnchorPane;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Shows how much has been spent in each of the last days, weeks, months and years, overall and for the tags
+ * spent the most on. Only the chart of the selected tab is drawn, when the pane is shown or the expenses change.
+ */
 public class TrendingPane extends UiPart<AnchorPane> {
 
+    private static final Logger logger = LogsCenter.getLogger(TrendingPane.class);
+
     private static final String FXML_FILE_NAME = "TrendingPane.fxml";
 
-    public TrendingPane() {
+    private static final int DAY_COUNT = 31;
+    private static final int WEEK_COUNT = 52;
+    private static final int MONTH_COUNT = 60;
+    private static final int YEAR_COUNT = 5;
+    private static final int MAX_TAGS = 5;
+
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("dd/MM");
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MMM yy");
+    private static final DateTimeFormatter YEAR_FORMATTER = DateTimeFormatter.ofPattern("yyyy");
+
+    @FXML
+    private TabPane unitTabs;
+
+    @FXML
+    private Tab dayTab;
+
+    @FXML
+    private Tab weekTab;
+
+    @FXML
+    private Tab monthTab;
+
+    @FXML
+    private Tab yearTab;
+
+    @FXML
+    private LineChart<String, Number> dayChart;
+
+    @FXML
+    private LineChart<String, Number> weekChart;
+
+    @FXML
+    private LineChart<String, Number> monthChart;
+
+    @FXML
+    private LineChart<String, Number> yearChart;
+
+    private final Logic logic;
+
+    /**
+     * Constructor for TrendingPane, the controller class for TrendingPane.fxml.
+     * Nothing is drawn until the pane is refreshed.
+     *
+     * @param logic the Logic Object of Duke
+     */
+    public TrendingPane(Logic logic) {
         super(FXML_FILE_NAME, null);
+        this.logic = logic;
+        unitTabs.getSelectionModel().selectedItemProperty().addListener((observable, oldTab, newTab) -> {
+            if (getRoot().isVisible()) {
+                refresh();
+            }
+        });
     }
 
+    /**
+     * Draws the chart of the selected tab from the totals of the expenses.
+     */
+    public void refresh() {
+        Tab tab = unitTabs.getSelectionModel().getSelectedItem();
+        if (tab == dayTab) {
+            draw(dayChart, logic.getExpenseTrend(ExpenseList.ViewScopeName.DAY, DAY_COUNT, MAX_TAGS), DAY_FORMATTER);
+        } else if (tab == weekTab) {
+            draw(weekChart, logic.getExpenseTrend(ExpenseList.ViewScopeName.WEEK, WEEK_COUNT, MAX_TAGS),
+                    DAY_FORMATTER);
+        } else if (tab == monthTab) {
+            draw(monthChart, logic.getExpenseTrend(ExpenseList.ViewScopeName.MONTH, MONTH_COUNT, MAX_TAGS),
+                    MONTH_FORMATTER);
+        } else {
+            draw(yearChart, logic.getExpenseTrend(ExpenseList.ViewScopeName.YEAR, YEAR_COUNT, MAX_TAGS),
+                    YEAR_FORMATTER);
+        }
+    }
+
+    private void draw(LineChart<String, Number> chart, ExpenseTrend trend, DateTimeFormatter formatter) {
+        List<LocalDate> periodStarts = trend.getPeriodStarts();
+        String[] labels = new String[periodStarts.size()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = periodStarts.get(i).format(formatter);
+        }
+        chart.getData().clear();
+        chart.getData().add(toSeries("Total", labels, trend.getTotals()));
+        for (Map.Entry<String, long[]> tagTotals : trend.getTagTotals().entrySet()) {
+            chart.getData().add(toSeries(tagTotals.getKey(), labels, tagTotals.getValue()));
+        }
+        logger.info("Trend by " + trend.getUnit() + " is drawn for " + trend.getTagTotals().size() + " tags.");
+    }
+
+    private static XYChart.Series<String, Number> toSeries(String name, String[] labels, long[] totals) {
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        series.setName(name);
+        for (int i = 0; i < labels.length; i++) {
+            series.getData().add(new XYChart.Data<>(labels[i], totals[i] / 100.0));
+        }
+        return series;
+    }
 }
@@ -5,14 +5,25 @@ import static java.util.Objects.requireNonNull;
 import duke.Main;
 import javafx.fxml.FXMLLoader;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    /**
+     * The content of every FXML file loaded so far, so that parts built many times, such as list cards,
+     * read their FXML file only once. They are keyed by the external form of the URL, as comparing URLs may look
+     * their hosts up.
+     */
+    private static final Map<String, byte[]> fxmlTemplates = new ConcurrentHashMap<>();
+
     private FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -50,12 +61,28 @@ public abstract class UiPart<T> {
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
         try {
-            fxmlLoader.load();
+            fxmlLoader.load(new ByteArrayInputStream(getFxmlTemplate(location)));
         } catch (IOException e) {
             throw new AssertionError(e);
         }
     }
 
+    /**
+     * Returns the content of a FXML document, reading it only on its first use.
+     * @param location Location of the FXML document.
+     */
+    private static byte[] getFxmlTemplate(URL location) throws IOException {
+        String key = location.toExternalForm();
+        byte[] template = fxmlTemplates.get(key);
+        if (template == null) {
+            try (InputStream inputStream = location.openStream()) {
+                template = inputStream.readAllBytes();
+            }
+            fxmlTemplates.put(key, template);
+        }
+        return template;
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
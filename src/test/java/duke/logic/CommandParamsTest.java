@@ -66,6 +66,29 @@ public class CommandParamsTest {
         }
     }
 
+    @Test
+    public void testAbbreviations() throws DukeException {
+        CommandParams testParams = new CommandParams("addE 5 /d lunch /ta FOOD");
+        assertEquals("addExpense", testParams.getCommand().getName());
+        assertEquals("5", testParams.getMainParam());
+        assertEquals("lunch", testParams.getParam("description"));
+        assertEquals("FOOD", testParams.getParam("tag"));
+
+        try {
+            new CommandParams("add 5");
+            fail();
+        } catch (DukeException e) {
+            assertEquals(DukeException.MESSAGE_COMMAND_NAME_UNKNOWN, e.getMessage());
+        }
+
+        try {
+            new CommandParams("addExpense 5 /t FOOD");
+            fail();
+        } catch (DukeException e) {
+            assertEquals(String.format(DukeException.MESSAGE_COMMAND_PARAM_UNKNOWN, "t"), e.getMessage());
+        }
+    }
+
     /*
     @Test
     public void testAbbreviationFunctionality() throws DukeException {
@@ -0,0 +1,25 @@
+package duke.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CommandResultTest {
+
+    @Test
+    public void testDisplayedPaneIsChanged() {
+        CommandResult result = new CommandResult("done", CommandResult.DisplayedPane.PAYMENT);
+        assertEquals(EnumSet.of(CommandResult.DisplayedPane.PAYMENT), result.getChangedPanes());
+    }
+
+    @Test
+    public void testOtherChangedPanes() {
+        CommandResult result = new CommandResult("done", CommandResult.DisplayedPane.EXPENSE,
+                CommandResult.DisplayedPane.BUDGET);
+        assertEquals(CommandResult.DisplayedPane.EXPENSE, result.getDisplayedPane());
+        assertEquals(EnumSet.of(CommandResult.DisplayedPane.EXPENSE, CommandResult.DisplayedPane.BUDGET),
+                result.getChangedPanes());
+    }
+}
@@ -0,0 +1,150 @@
+package duke.logic;
+
+import duke.exception.DukeException;
+import duke.model.Budget;
+import duke.model.BudgetView;
+import duke.model.DukePP;
+import duke.model.ExpenseList;
+import duke.model.IncomeList;
+import duke.model.Model;
+import duke.model.payment.PaymentList;
+import duke.storage.Storage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogicManagerTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * A storage keeping nothing, which counts how often the expense list is saved.
+     */
+    private static class CountingStorage implements Storage {
+        private int expenseListSaves;
+
+        @Override
+        public void saveExpenseList(ExpenseList expenseList) {
+            expenseListSaves++;
+        }
+
+        @Override
+        public ExpenseList loadExpenseList() {
+            return new ExpenseList(new ArrayList<>());
+        }
+
+        @Override
+        public void savePlanAttributes(Map<String, String> attributes) {
+        }
+
+        @Override
+        public Map<String, String> loadPlanAttributes() {
+            return new HashMap<>();
+        }
+
+        @Override
+        public void saveIncomeList(IncomeList incomeList) {
+        }
+
+        @Override
+        public IncomeList loadIncomeList() {
+            return new IncomeList(new ArrayList<>());
+        }
+
+        @Override
+        public Budget loadBudget() {
+            return new Budget(BigDecimal.ZERO, new HashMap<>());
+        }
+
+        @Override
+        public void saveBudget(Budget budget) {
+        }
+
+        @Override
+        public BudgetView loadBudgetView() {
+            return new BudgetView(new HashMap<>());
+        }
+
+        @Override
+        public void saveBudgetView(BudgetView budgetView) {
+        }
+
+        @Override
+        public Optional<PaymentList> loadPaymentList() {
+            return Optional.of(new PaymentList());
+        }
+
+        @Override
+        public void savePaymentList(PaymentList paymentList) {
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+
+    private Path writeBatch(String... lines) throws IOException {
+        Path file = directory.resolve("batch.txt");
+        Files.write(file, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static Model buildModel(Storage storage) throws DukeException, IOException {
+        return new DukePP(storage.loadExpenseList(), storage.loadPlanAttributes(), storage.loadIncomeList(),
+                storage.loadBudget(), storage.loadBudgetView(), storage.loadPaymentList());
+    }
+
+    @Test
+    public void testBatchSavesOnce() throws DukeException, IOException {
+        CountingStorage storage = new CountingStorage();
+        Model model = buildModel(storage);
+        Logic logic = new LogicManager(model, storage);
+
+        logic.executeBatch(writeBatch("addExpense 1 /description one", "", "# comment",
+                "addExpense 2 /description two", "addExpense 3 /description three"));
+        assertEquals(3, model.getExpenseList().internalSize());
+        assertEquals(1, storage.expenseListSaves);
+
+        // the batch is undone as a whole
+        logic.execute("undo");
+        assertEquals(0, model.getExpenseList().internalSize());
+    }
+
+    @Test
+    public void testBatchRolledBack() throws DukeException, IOException {
+        CountingStorage storage = new CountingStorage();
+        Model model = buildModel(storage);
+        Logic logic = new LogicManager(model, storage);
+        logic.execute("addExpense 5");
+
+        DukeException exception = assertThrows(DukeException.class, () -> logic.executeBatch(
+                writeBatch("addExpense 1", "deleteExpense 1", "addExpense notAnAmount", "addExpense 2")));
+        assertTrue(exception.getMessage().startsWith("Line 3 failed"));
+        assertEquals(1, model.getExpenseList().internalSize());
+        assertEquals(1, storage.expenseListSaves);
+        assertThrows(DukeException.class, () -> logic.executeBatch(writeBatch("undo")));
+    }
+
+    @Test
+    public void testViewReportsScope() throws DukeException, IOException {
+        CountingStorage storage = new CountingStorage();
+        Logic logic = new LogicManager(buildModel(storage), storage);
+
+        assertEquals("Changed view scope of expenses to week /previous 2!",
+                logic.execute("viewExpense week /previous 2").getConsoleInfo());
+        assertEquals("Changed view scope of expenses to all!", logic.execute("viewExpense all").getConsoleInfo());
+    }
+}
@@ -16,6 +16,7 @@ public class AutoCompleterTest {
     private static final String PREFIX_ADD_FIRST_OPTION = "addExpense";
     private static final String PREFIX_ADD_SECOND_OPTION = "addPayment";
     private static final String PREFIX_ADD_THIRD_OPTION = "addBudget";
+    private static final String PREFIX_ADD_FOURTH_OPTION = "addIncome";
 
     private static final String PARAMETER_TO_COMPLETE = "addExpense /ti";
     private static final String PARAMETER_COMPLETED = "addExpense /time";
@@ -61,8 +62,12 @@ public class AutoCompleterTest {
         autoCompleter.receiveText(PREFIX_ADD_SECOND_OPTION);
         assertEquals(PREFIX_ADD_THIRD_OPTION, autoCompleter.getFullComplement());
 
-        // Iterates from "addBudget" to "addExpense".
+        // Iterates from "addBudget" to "addIncome".
         autoCompleter.receiveText(PREFIX_ADD_THIRD_OPTION);
+        assertEquals(PREFIX_ADD_FOURTH_OPTION, autoCompleter.getFullComplement());
+
+        // Iterates from "addIncome" to "addExpense".
+        autoCompleter.receiveText(PREFIX_ADD_FOURTH_OPTION);
         assertEquals(PREFIX_ADD_FIRST_OPTION, autoCompleter.getFullComplement());
 
         // Completes the parameter name "/ti" to "/time".
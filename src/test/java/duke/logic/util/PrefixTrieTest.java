@@ -0,0 +1,54 @@
+package duke.logic.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrefixTrieTest {
+
+    private static PrefixTrie<Integer> buildTrie() {
+        Map<String, Integer> entries = new LinkedHashMap<>();
+        entries.put("viewExpense", 1);
+        entries.put("addExpense", 2);
+        entries.put("addPayment", 3);
+        entries.put("add", 4);
+        return new PrefixTrie<>(entries);
+    }
+
+    @Test
+    public void testFindUnique() {
+        PrefixTrie<Integer> trie = buildTrie();
+        assertEquals(1, trie.findUnique("v"));
+        assertEquals(2, trie.findUnique("addE"));
+        assertEquals(3, trie.findUnique("addPayment"));
+        assertEquals(3, trie.findUnique("addP 10 /d x", 0, 4));
+        assertNull(trie.findUnique("add"));
+        assertNull(trie.findUnique(""));
+        assertNull(trie.findUnique("addExpenses"));
+        assertNull(trie.findUnique("x"));
+    }
+
+    @Test
+    public void testExactKeys() {
+        PrefixTrie<Integer> trie = buildTrie();
+        assertEquals(4, trie.get("add"));
+        assertNull(trie.get("addE"));
+        assertTrue(trie.contains("viewExpense"));
+        assertFalse(trie.contains("view"));
+    }
+
+    @Test
+    public void testKeysStartingWithKeepOrder() {
+        PrefixTrie<Integer> trie = buildTrie();
+        assertEquals(Arrays.asList("addExpense", "addPayment", "add"), trie.keysStartingWith("add"));
+        assertEquals(Arrays.asList("viewExpense", "addExpense", "addPayment", "add"), trie.keysStartingWith(""));
+        assertTrue(trie.keysStartingWith("b").isEmpty());
+    }
+}
@@ -0,0 +1,81 @@
+package duke.model;
+
+import duke.exception.DukeException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExpenseFilterTest {
+
+    @Test
+    public void testCriteria() throws DukeException {
+        ExpenseFilter filter = new ExpenseFilter.Builder()
+                .setDescription(" Rice ")
+                .setTag("FOOD  LUNCH")
+                .setMinAmount("5")
+                .setMaxAmount("20.5")
+                .setFrom("01/11/2019")
+                .setTo("30/11/2019")
+                .setTentative(true)
+                .build();
+        assertEquals("Rice /tag FOOD LUNCH /min 5.00 /max 20.50 /from 01/11/2019 /to 30/11/2019 /tentative",
+                filter.toString());
+        assertEquals("", ExpenseFilter.NONE.toString());
+        assertTrue(ExpenseFilter.NONE.isEmpty());
+        assertFalse(filter.isEmpty());
+    }
+
+    @Test
+    public void testMatches() throws DukeException {
+        ExpenseFilter filter = new ExpenseFilter.Builder()
+                .setDescription("rice")
+                .setTag("FOOD")
+                .setMinAmount("5")
+                .setMaxAmount("20")
+                .setFrom("01/11/2019")
+                .setTo("30/11/2019")
+                .build();
+        Expense.Builder builder = new Expense.Builder()
+                .setDescription("Chicken Rice")
+                .setTag("LUNCH FOOD")
+                .setAmount("20")
+                .setTime(LocalDateTime.of(2019, 11, 30, 23, 59));
+        assertTrue(filter.test(builder.build()));
+        assertFalse(filter.test(builder.setAmount("20.01").build()));
+        assertFalse(filter.test(builder.setAmount("5").setTag("SEAFOOD").build()));
+        assertFalse(filter.test(builder.setTag("FOOD").setDescription("Noodles").build()));
+        assertFalse(filter.test(builder.setDescription("rice").setTime(LocalDateTime.of(2019, 12, 1, 0, 0)).build()));
+        assertFalse(filter.test(builder.setRecurring(true).build()));
+        assertTrue(filter.test(builder.setTime(LocalDateTime.of(2019, 10, 15, 12, 0)).build()));
+        assertTrue(ExpenseFilter.NONE.test(builder.build()));
+    }
+
+    @Test
+    public void testUnknownTagMatchesNothing() throws DukeException {
+        Expense expense = new Expense.Builder().setTag("FILTERFOOD").setAmount("3").build();
+        assertTrue(new ExpenseFilter.Builder().setTag("FILTERFOOD").build().test(expense));
+        int tagCount = TagDictionary.size();
+        int setCount = TagDictionary.setCount();
+        ExpenseFilter filter = new ExpenseFilter.Builder().setTag("FILTERFOOD FILTERFOOOD").build();
+        assertEquals(tagCount, TagDictionary.size());
+        assertEquals(setCount, TagDictionary.setCount());
+        assertFalse(filter.isEmpty());
+        assertFalse(filter.test(expense));
+
+        ExpenseFilter laterFilter = new ExpenseFilter.Builder().setTag("FILTERDRINKS").build();
+        assertEquals(tagCount, TagDictionary.size());
+        assertTrue(laterFilter.test(new Expense.Builder().setTag("FILTERDRINKS").setAmount("3").build()));
+    }
+
+    @Test
+    public void testInvalidCriteria() {
+        assertThrows(DukeException.class, () -> new ExpenseFilter.Builder().setMinAmount("five"));
+        assertThrows(DukeException.class, () -> new ExpenseFilter.Builder().setMaxAmount("1.001"));
+        assertThrows(DukeException.class, () -> new ExpenseFilter.Builder().setFrom("2019-11-01"));
+    }
+}
@@ -1,15 +1,25 @@
 package duke.model;
 
 import duke.exception.DukeException;
+import javafx.collections.ListChangeListener;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class ExpenseListTest {
@@ -17,6 +27,7 @@ public class ExpenseListTest {
     File userDirectory;
 
     private static final String STORAGE_DELIMITER = "\n\n";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
 
     @Test
@@ -30,6 +41,30 @@ public class ExpenseListTest {
         assertEquals(testExpenseList.internalSize(), 0);
     }
 
+    @Test
+    public void testEditGroup() throws DukeException {
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
+        testExpenseList.startTrackingChanges();
+        testExpenseList.add(new Expense.Builder().setAmount("1").build());
+
+        testExpenseList.startEditGroup();
+        testExpenseList.add(new Expense.Builder().setAmount("2").build());
+        testExpenseList.remove(1);
+        testExpenseList.rollbackEditGroup();
+        assertEquals(1, testExpenseList.internalSize());
+        assertEquals(1, testExpenseList.takeChanges().size());
+
+        testExpenseList.startEditGroup();
+        testExpenseList.add(new Expense.Builder().setAmount("2").build());
+        testExpenseList.add(new Expense.Builder().setAmount("3").build());
+        testExpenseList.commitEditGroup();
+        assertEquals(3, testExpenseList.internalSize());
+        assertEquals(1, testExpenseList.undo(1));
+        assertEquals(1, testExpenseList.internalSize());
+        assertEquals(1, testExpenseList.redo(1));
+        assertEquals(3, testExpenseList.internalSize());
+    }
+
     @Test
     public void testInvalidBasicOperations() throws DukeException {
         ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
@@ -49,7 +84,7 @@ public class ExpenseListTest {
             assertEquals(String.format(DukeException.MESSAGE_NO_ITEM_AT_INDEX, "expense", 2), e.getMessage());
         }
     }
-    /*TODO:This test is Currently broken due to regressions, please fix.
+
     @Test
     public void testUndoRedo() throws DukeException {
         ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
@@ -68,7 +103,35 @@ public class ExpenseListTest {
         assertEquals(testExpenseList.redo(2), 2);
     }
 
-     */
+    @Test
+    public void testUndoRedoReplaceAndClear() throws DukeException {
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
+        Expense testExpense = new Expense.Builder().setAmount("1").setTentative(true).build();
+        Expense confirmedExpense = new Expense.Builder(testExpense).setTentative(false).build();
+        testExpenseList.add(testExpense);
+        testExpenseList.set(1, confirmedExpense);
+        testExpenseList.clear();
+        assertEquals(testExpenseList.internalSize(), 0);
+        assertEquals(testExpenseList.undo(1), 1);
+        assertEquals(testExpenseList.get(1), confirmedExpense);
+        assertEquals(testExpenseList.undo(1), 1);
+        assertEquals(testExpenseList.get(1), testExpense);
+        assertEquals(testExpenseList.redo(5), 2);
+        assertEquals(testExpenseList.internalSize(), 0);
+        testExpenseList.add(testExpense);
+        assertEquals(testExpenseList.redo(1), 0);
+    }
+
+    @Test
+    public void testUndoHistoryBounded() {
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
+        for (int i = 0; i < 150; i++) {
+            testExpenseList.add(new Expense.Builder().build());
+        }
+        assertEquals(testExpenseList.undo(150), 100);
+        assertEquals(testExpenseList.internalSize(), 50);
+    }
+
     @Test
     public void testGetTotalAmount() throws DukeException {
         ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
@@ -84,4 +147,235 @@ public class ExpenseListTest {
         testExpenseList.add(testExpenseFive);
         assertEquals(testExpenseList.getTotalAmount(), new BigDecimal("49.63"));
     }
+
+    @Test
+    public void testIncrementalExternalList() throws DukeException {
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
+        testExpenseList.setSortCriteria("amount");
+        Expense small = new Expense.Builder().setAmount("1").build();
+        Expense large = new Expense.Builder().setAmount("3").build();
+        testExpenseList.add(small);
+        testExpenseList.add(large);
+        final Expense middle = new Expense.Builder().setAmount("2").build();
+        final Expense tentative = new Expense.Builder().setAmount("2").setTentative(true).build();
+
+        List<ListChangeListener.Change<? extends Expense>> changes = new ArrayList<>();
+        testExpenseList.getExternalList().addListener((ListChangeListener<Expense>) changes::add);
+        testExpenseList.add(middle);
+        testExpenseList.add(tentative);
+        assertEquals(List.of(large, middle, tentative, small), testExpenseList.getExternalList());
+        assertEquals("Total: $6.00", testExpenseList.getTotalString().get());
+
+        testExpenseList.remove(2);
+        assertEquals(List.of(large, tentative, small), testExpenseList.getExternalList());
+        assertEquals("Total: $4.00", testExpenseList.getTotalString().get());
+        assertEquals(3, changes.size());
+        for (ListChangeListener.Change<? extends Expense> change : changes) {
+            change.next();
+            assertEquals(1, change.getAddedSize() + change.getRemovedSize());
+        }
+    }
+
+    @Test
+    public void testViewScopeExcludesAddedExpense() throws DukeException {
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
+        testExpenseList.setViewScope("day", 0);
+        Expense today = new Expense.Builder().build();
+        Expense lastYear = new Expense.Builder().setTime(LocalDateTime.now().minusYears(1)).build();
+        testExpenseList.add(today);
+        testExpenseList.add(lastYear);
+        assertEquals(List.of(today), testExpenseList.getExternalList());
+        assertEquals(2, testExpenseList.internalSize());
+        testExpenseList.setViewScope("year", 1);
+        assertEquals(List.of(lastYear), testExpenseList.getExternalList());
+    }
+
+    @Test
+    public void testViewScopeRanges() throws DukeException {
+        LocalDateTime now = LocalDateTime.now();
+        Expense thisMonth = new Expense.Builder().setTime(now.withDayOfMonth(1)).build();
+        Expense lastMonth = new Expense.Builder().setTime(now.withDayOfMonth(1).minusDays(1)).build();
+        Expense recurring = new Expense.Builder().setTime(now.minusYears(3)).setRecurring(true).build();
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>(List.of(thisMonth, lastMonth, recurring)));
+
+        testExpenseList.setViewScope("month", 0);
+        assertEquals(List.of(thisMonth, recurring), testExpenseList.getExternalList());
+        testExpenseList.setViewScope("month", 1);
+        assertEquals(List.of(lastMonth, recurring), testExpenseList.getExternalList());
+        testExpenseList.remove(1);
+        testExpenseList.setViewScope("week", 3 * 53);
+        assertEquals(List.of(), testExpenseList.getExternalList());
+
+        testExpenseList.setViewScope("all", 0);
+        assertEquals(List.of(thisMonth, recurring), testExpenseList.getExternalList());
+    }
+
+    @Test
+    public void testRecurringTotals() throws DukeException {
+        LocalDate firstOfMonth = LocalDate.now().withDayOfMonth(1);
+        Expense daily = new Expense.Builder().setAmount("1").setTag("COFFEE")
+                .setTime(firstOfMonth.minusYears(2).atTime(8, 0)).setRecurrence(Recurrence.parse("day")).build();
+        Expense everyOtherMonth = new Expense.Builder().setAmount("30").setTag("PHONE")
+                .setTime(firstOfMonth.minusMonths(2).atTime(9, 0)).setRecurrence(Recurrence.parse("2 months")).build();
+        Expense ended = new Expense.Builder().setAmount("10").setTime(firstOfMonth.minusMonths(6).atTime(9, 0))
+                .setRecurrence(Recurrence.MONTHLY.until(firstOfMonth.minusDays(1))).build();
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>(List.of(daily, everyOtherMonth, ended)));
+
+        testExpenseList.setViewScope("month", 0);
+        assertEquals(new HashSet<>(List.of(daily, everyOtherMonth)), new HashSet<>(testExpenseList.getExternalList()));
+        BigDecimal dailyTotal = new BigDecimal(firstOfMonth.lengthOfMonth()).setScale(2);
+        assertEquals(dailyTotal.add(new BigDecimal("30")), testExpenseList.getTotalExternalAmount());
+        assertEquals(dailyTotal, testExpenseList.getTagAmount("COFFEE"));
+
+        testExpenseList.setViewScope("month", 1);
+        assertEquals(new HashSet<>(List.of(daily, ended)), new HashSet<>(testExpenseList.getExternalList()));
+        testExpenseList.setViewScope("day", 0);
+        assertTrue(testExpenseList.getExternalList().contains(daily));
+        assertFalse(testExpenseList.getExternalList().contains(ended));
+
+        testExpenseList.setViewScope("month", 0);
+        testExpenseList.add(new Expense.Builder().setAmount("5").setTag("COFFEE")
+                .setTime(firstOfMonth.atTime(10, 0)).setRecurrence(Recurrence.parse("week")).build());
+        long weeks = (firstOfMonth.lengthOfMonth() + 6) / 7;
+        assertEquals(dailyTotal.add(new BigDecimal(5 * weeks)), testExpenseList.getTagAmount("COFFEE"));
+        testExpenseList.remove(testExpenseList.getExternalList().indexOf(daily) + 1);
+        assertEquals(new BigDecimal(5 * weeks + 30).setScale(2), testExpenseList.getTotalExternalAmount());
+    }
+
+    @Test
+    public void testTrend() throws DukeException {
+        LocalDate firstOfMonth = LocalDate.now().withDayOfMonth(1);
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>(List.of(
+                new Expense.Builder().setAmount("3").setTag("TRENDFOOD").setTime(firstOfMonth.atTime(9, 0)).build(),
+                new Expense.Builder().setAmount("7").setTag("TRENDTAXI")
+                        .setTime(firstOfMonth.minusMonths(1).atTime(9, 0)).build(),
+                new Expense.Builder().setAmount("1").setTag("TRENDFOOD")
+                        .setTime(firstOfMonth.minusYears(2).atTime(9, 0))
+                        .setRecurrence(Recurrence.parse("day")).build(),
+                new Expense.Builder().setAmount("50").setTentative(true).setTime(firstOfMonth.atTime(9, 0)).build())));
+
+        ExpenseTrend trend = testExpenseList.getTrend(ExpenseList.ViewScopeName.MONTH, 3, 1);
+        assertEquals(List.of(firstOfMonth.minusMonths(2), firstOfMonth.minusMonths(1), firstOfMonth),
+                trend.getPeriodStarts());
+        long[] daily = new long[3];
+        for (int i = 0; i < 3; i++) {
+            daily[i] = 100L * firstOfMonth.minusMonths(2 - i).lengthOfMonth();
+        }
+        daily[2] = 100L * LocalDate.now().getDayOfMonth();
+        assertEquals(List.of("TRENDFOOD"), new ArrayList<>(trend.getTagTotals().keySet()));
+        assertEquals(daily[0], trend.getTotals()[0]);
+        assertEquals(daily[1] + 700, trend.getTotals()[1]);
+        assertEquals(daily[2] + 300, trend.getTotals()[2]);
+        assertEquals(daily[2] + 300, trend.getTagTotals().get("TRENDFOOD")[2]);
+
+        trend = testExpenseList.getTrend(ExpenseList.ViewScopeName.YEAR, 5, 5);
+        assertEquals(5, trend.getTotals().length);
+        assertEquals(firstOfMonth.withDayOfYear(1), trend.getPeriodStarts().get(4));
+    }
+
+    @Test
+    public void testTagAmountCache() throws DukeException {
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
+        testExpenseList.add(new Expense.Builder().setAmount("1.50").setTag("FOOD").build());
+        testExpenseList.add(new Expense.Builder().setAmount("2").setTag("DRINKS").build());
+        testExpenseList.add(new Expense.Builder().setAmount("4").setTag("FOOD").setTentative(true).build());
+        assertEquals(new BigDecimal("1.50"), testExpenseList.getTagAmount("FOOD"));
+        assertEquals(new BigDecimal("1.50"), testExpenseList.getTagAmount("FOOD"));
+        assertEquals(1, testExpenseList.getTagAmountHitCount());
+        assertEquals(1, testExpenseList.getTagAmountMissCount());
+
+        Expense addedExpense = new Expense.Builder().setAmount("3").setTag("SEAFOOD FOOD").build();
+        testExpenseList.add(addedExpense);
+        assertEquals(new BigDecimal("4.50"), testExpenseList.getTagAmount("FOOD"));
+        testExpenseList.remove(testExpenseList.getExternalList().indexOf(addedExpense) + 1);
+        assertEquals(new BigDecimal("1.50"), testExpenseList.getTagAmount("FOOD"));
+        assertEquals(3, testExpenseList.getTagAmountHitCount());
+        assertEquals(new BigDecimal("3.50"), testExpenseList.getTotalAmount());
+        assertEquals(new BigDecimal("4.00"), testExpenseList.getTentativeAmount());
+    }
+
+    @Test
+    public void testFindByTags() throws DukeException {
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
+        Expense lunch = new Expense.Builder().setTag("FOOD").build();
+        Expense dinner = new Expense.Builder().setTag("FOOD DRINKS").build();
+        Expense lastYear = new Expense.Builder().setTag("FOOD").setTime(LocalDateTime.now().minusYears(1)).build();
+        testExpenseList.add(new Expense.Builder().setTag("SEAFOOD").build());
+        testExpenseList.add(lunch);
+        testExpenseList.add(dinner);
+        testExpenseList.add(lastYear);
+        assertEquals(Arrays.asList(lunch, dinner, lastYear), testExpenseList.findByTags("FOOD", ""));
+        assertEquals(Arrays.asList(lunch, lastYear), testExpenseList.findByTags("FOOD", "DRINKS"));
+
+        testExpenseList.setViewScope("month", 0);
+        assertEquals(Collections.singletonList(lunch), testExpenseList.findByTags("FOOD", "DRINKS"));
+        testExpenseList.remove(testExpenseList.getExternalList().indexOf(lunch) + 1);
+        assertEquals(Collections.singletonList(dinner), testExpenseList.findByTags("DRINKS FOOD", ""));
+        assertEquals(Collections.emptyList(), testExpenseList.findByTags("FOOD", "DRINKS"));
+    }
+
+    @Test
+    public void testFilter() throws DukeException {
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
+        Expense cheapLunch = new Expense.Builder().setAmount("4").setTag("FOOD")
+                .setDescription("Chicken rice").build();
+        Expense lunch = new Expense.Builder().setAmount("8").setTag("FOOD").setDescription("Fish soup").build();
+        Expense dinner = new Expense.Builder().setAmount("15").setTag("FOOD").setDescription("Steak")
+                .setTime(LocalDateTime.now().minusYears(1)).build();
+        Expense taxi = new Expense.Builder().setAmount("12").setTag("TRANSPORT").build();
+        testExpenseList.add(cheapLunch);
+        testExpenseList.add(lunch);
+        testExpenseList.add(dinner);
+        testExpenseList.add(taxi);
+
+        testExpenseList.setFilter(new ExpenseFilter.Builder().setTag("FOOD").setMinAmount("5").build());
+        assertEquals(Arrays.asList(lunch, dinner), new ArrayList<>(testExpenseList.getExternalList()));
+        assertEquals(new BigDecimal("23.00"), testExpenseList.getTotalExternalAmount());
+
+        testExpenseList.setFilter(new ExpenseFilter.Builder().setMinAmount("10").setMaxAmount("12.00").build());
+        assertEquals(Collections.singletonList(taxi), new ArrayList<>(testExpenseList.getExternalList()));
+
+        testExpenseList.setFilter(new ExpenseFilter.Builder()
+                .setFrom(LocalDateTime.now().minusYears(1).minusDays(1).format(DATE_FORMATTER))
+                .setTo(LocalDateTime.now().minusMonths(1).format(DATE_FORMATTER)).build());
+        assertEquals(Collections.singletonList(dinner), new ArrayList<>(testExpenseList.getExternalList()));
+
+        testExpenseList.setFilterCriteria("RICE");
+        assertEquals(Collections.singletonList(cheapLunch), new ArrayList<>(testExpenseList.getExternalList()));
+
+        ExpenseFilter filter = new ExpenseFilter.Builder().setTag("FOOD").setMaxAmount("10").build();
+        testExpenseList.setFilter(filter);
+        testExpenseList.setViewScope("month", 0);
+        assertEquals(new HashSet<>(Arrays.asList(cheapLunch, lunch)), new HashSet<>(testExpenseList.getExternalList()));
+        Expense snack = new Expense.Builder().setAmount("2").setTag("FOOD").build();
+        testExpenseList.add(snack);
+        testExpenseList.add(new Expense.Builder().setAmount("20").setTag("FOOD").build());
+        assertSame(filter, testExpenseList.getFilter());
+        assertEquals(new HashSet<>(Arrays.asList(snack, cheapLunch, lunch)),
+                new HashSet<>(testExpenseList.getExternalList()));
+        assertEquals("Filter: /tag FOOD /max 10.00", testExpenseList.getFilterString().get());
+    }
+
+    @Test
+    public void testSearch() throws DukeException {
+        ExpenseList testExpenseList = new ExpenseList(new ArrayList<>());
+        Expense rice = new Expense.Builder().setDescription("Chicken Rice").setTag("FOOD").build();
+        Expense taxi = new Expense.Builder().setDescription("Taxi home").setTag("TRANSPORT").build();
+        testExpenseList.add(rice);
+        testExpenseList.add(taxi);
+
+        testExpenseList.search("food");
+        assertEquals(Collections.singletonList(rice), new ArrayList<>(testExpenseList.getExternalList()));
+        testExpenseList.search("PORT");
+        assertEquals(Collections.singletonList(taxi), new ArrayList<>(testExpenseList.getExternalList()));
+
+        Expense bus = new Expense.Builder().setDescription("Bus").setTag("TRANSPORT").build();
+        testExpenseList.add(bus);
+        testExpenseList.add(new Expense.Builder().setDescription("Coffee").build());
+        assertEquals(new HashSet<>(Arrays.asList(taxi, bus)), new HashSet<>(testExpenseList.getExternalList()));
+        assertEquals("Filter: /keyword PORT", testExpenseList.getFilterString().get());
+
+        testExpenseList.setFilterCriteria("rice");
+        assertEquals(Collections.singletonList(rice), new ArrayList<>(testExpenseList.getExternalList()));
+    }
 }
@@ -0,0 +1,117 @@
+package duke.model;
+
+import duke.exception.DukeException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExpenseRollupTest {
+    private static final LocalDate START = LocalDate.of(2020, 6, 15);
+    private static final String[] TAGS = {"ROLLUPFOOD", "ROLLUPTAXI", "ROLLUPFOOD ROLLUPTAXI", ""};
+
+    @Test
+    public void testTotalsMatchExpenses() throws DukeException {
+        Random random = new Random(25);
+        ExpenseRollup rollup = new ExpenseRollup();
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            // Days are spread over five years on both sides of the first expense, so the rollup grows both ways.
+            Expense.Builder builder = new Expense.Builder().setAmount(random.nextInt(10000) + "")
+                    .setTag(TAGS[random.nextInt(TAGS.length)])
+                    .setTime(START.plusDays(random.nextInt(1800) - 900).atTime(12, 0))
+                    .setTentative(random.nextInt(10) == 0);
+            if (random.nextInt(8) == 0) {
+                builder.setRecurrence(Recurrence.every(Recurrence.Unit.values()[random.nextInt(4)],
+                        random.nextInt(3) + 1));
+            }
+            Expense expense = builder.build();
+            expenses.add(expense);
+            rollup.add(expense);
+            if (random.nextInt(4) == 0) {
+                Expense removed = expenses.remove(random.nextInt(expenses.size()));
+                rollup.remove(removed);
+            }
+        }
+        assertTotals(rollup, expenses, random);
+
+        rollup.cover(START.minusYears(10).toEpochDay(), START.plusYears(10).toEpochDay());
+        assertTotals(rollup, expenses, random);
+
+        rollup.reset(expenses);
+        rollup.cover(START.minusYears(3).toEpochDay(), START.plusYears(3).toEpochDay());
+        assertTotals(rollup, expenses, random);
+    }
+
+    @Test
+    public void testRecurringGrowsWithCover() throws DukeException {
+        ExpenseRollup rollup = new ExpenseRollup();
+        Expense weekly = new Expense.Builder().setAmount("2.50").setTag("ROLLUPFOOD").setTime(START.atTime(9, 0))
+                .setRecurrence(Recurrence.parse("week")).build();
+        rollup.add(weekly);
+        long startDay = START.toEpochDay();
+        assertEquals(0, rollup.getTotal(startDay + 365, startDay + 365 + 52 * 7 - 1));
+
+        rollup.cover(startDay, startDay + 1000);
+        assertEquals(52 * 250, rollup.getTotal(startDay + 365, startDay + 365 + 52 * 7 - 1));
+        assertEquals(250, rollup.getTagTotal(TagDictionary.idOf("ROLLUPFOOD"), startDay - 100, startDay));
+        assertEquals(0, rollup.getTagTotal(TagDictionary.idOf("ROLLUPTAXI"), startDay, startDay + 1000));
+
+        rollup.remove(weekly);
+        assertEquals(0, rollup.getTotal(startDay, startDay + 1000));
+    }
+
+    @Test
+    public void testFarFutureExpenseIsNotCovered() throws DukeException {
+        ExpenseRollup rollup = new ExpenseRollup();
+        for (int i = 0; i < 20; i++) {
+            rollup.add(new Expense.Builder().setAmount("1").setTag("ROLLUPTAG" + i).setTime(START.atTime(9, 0))
+                    .build());
+        }
+        rollup.add(new Expense.Builder().setAmount("3").setTag("ROLLUPFOOD").setTime(START.atTime(8, 0))
+                .setRecurrence(Recurrence.parse("day")).build());
+        Expense farFuture = new Expense.Builder().setAmount("7").setTag("ROLLUPTAXI")
+                .setTime(LocalDate.of(9999, 11, 1).atTime(12, 0)).build();
+        rollup.add(farFuture);
+        assertEquals(0, rollup.getDayCount());
+
+        long startDay = START.toEpochDay();
+        long lastDay = START.plusYears(5).toEpochDay();
+        rollup.cover(startDay, lastDay);
+        assertTrue(rollup.getDayCount() < 2 * (lastDay - startDay + 1));
+        assertEquals(20 * 100 + 300 * (lastDay - startDay + 1), rollup.getTotal(startDay, lastDay));
+        assertEquals(0, rollup.getTagTotal(TagDictionary.idOf("ROLLUPTAXI"), startDay, lastDay));
+
+        rollup.remove(farFuture);
+        rollup.cover(startDay - 100, startDay);
+        assertEquals(20 * 100 + 300, rollup.getTotal(startDay - 100, startDay));
+    }
+
+    private static void assertTotals(ExpenseRollup rollup, List<Expense> expenses, Random random) {
+        int foodId = TagDictionary.idOf("ROLLUPFOOD");
+        for (int i = 0; i < 200; i++) {
+            long fromDay = START.toEpochDay() + random.nextInt(2000) - 1000;
+            long toDay = fromDay + random.nextInt(800);
+            rollup.cover(fromDay, toDay);
+            long total = 0;
+            long foodTotal = 0;
+            for (Expense expense : expenses) {
+                if (expense.isTentative()) {
+                    continue;
+                }
+                long amount = expense.getMoney().getCents() * expense.countOccurrences(fromDay, toDay);
+                total += amount;
+                if (TagDictionary.hasTag(expense.getTagSetId(), foodId)) {
+                    foodTotal += amount;
+                }
+            }
+            assertEquals(total, rollup.getTotal(fromDay, toDay));
+            assertEquals(foodTotal, rollup.getTagTotal(foodId, fromDay, toDay));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package duke.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class ExpenseTagIndexTest {
+
+    private static long[] expectedPositions(List<Expense> expenses, String tag) {
+        long[] positions = new long[ExpenseTagIndex.wordCount(expenses.size())];
+        for (int i = 0; i < expenses.size(); i++) {
+            if (expenses.get(i).hasTag(tag)) {
+                positions[i >>> 6] |= 1L << i;
+            }
+        }
+        return positions;
+    }
+
+    @Test
+    public void testShiftsAcrossWords() {
+        int[] food = {TagDictionary.idOf("FOOD")};
+        int[] none = {};
+        List<Expense> expenses = new ArrayList<>();
+        ExpenseTagIndex index = new ExpenseTagIndex();
+        for (int i = 0; i < 130; i++) {
+            Expense expense = new Expense.Builder().setTag(i % 3 == 0 ? "FOOD" : "DRINKS").build();
+            expenses.add(expense);
+            index.insert(i, expense);
+        }
+        assertArrayEquals(expectedPositions(expenses, "FOOD"), index.find(food, none));
+
+        Expense inserted = new Expense.Builder().setTag("FOOD").build();
+        expenses.add(5, inserted);
+        index.insert(5, inserted);
+        assertArrayEquals(expectedPositions(expenses, "FOOD"), index.find(food, none));
+
+        for (int position : new int[] {0, 63, 64, 100, 126}) {
+            expenses.remove(position);
+            index.remove(position);
+            assertArrayEquals(expectedPositions(expenses, "FOOD"), index.find(food, none));
+        }
+
+        index.reset(expenses);
+        assertArrayEquals(expectedPositions(expenses, "FOOD"), index.find(food, none));
+        assertArrayEquals(expectedPositions(expenses, "DRINKS"), index.find(none, food));
+    }
+}
@@ -88,4 +88,22 @@ class IncomeListTest {
         assertEquals(testTotalString, ACTUAL_TOTAL_STRING);
     }
 
+    @Test
+    void testFilterCriteria() throws DukeException {
+        IncomeList testIncomeList = new IncomeList(new ArrayList<>());
+        Income salary = new Income.Builder().setAmount("2000").setDescription("Monthly Salary").build();
+        Income tutoring = new Income.Builder().setAmount("50").setDescription("Tutoring").build();
+        testIncomeList.add(salary);
+        testIncomeList.add(tutoring);
+        testIncomeList.add(tutoring);
+        testIncomeList.setFilterCriteria("TUTOR");
+        assertEquals(2, testIncomeList.getExternalList().size());
+        testIncomeList.remove(2);
+        assertEquals(1, testIncomeList.getExternalList().size());
+        testIncomeList.setFilterCriteria("sal");
+        assertEquals(salary, testIncomeList.getExternalList().get(0));
+        assertEquals(1, testIncomeList.getExternalList().size());
+        testIncomeList.setFilterCriteria("");
+        assertEquals(2, testIncomeList.getExternalList().size());
+    }
 }
@@ -0,0 +1,50 @@
+package duke.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MoneyTest {
+
+    @Test
+    public void testParseMatchesBigDecimal() {
+        for (String amount : new String[] {"0", "12", "12.5", "12.50", "-3", "+4.05", ".5", "7.", "1e2", "-0.01",
+            "92233720368547758.07", "-92233720368547758.08"}) {
+            Money money = Money.parse(amount);
+            BigDecimal expected = new BigDecimal(amount).setScale(2);
+            assertEquals(expected, money.toBigDecimal());
+            assertEquals(expected.toString(), money.toString());
+        }
+    }
+
+    @Test
+    public void testParseInvalid() {
+        for (String amount : new String[] {"", "-", "1.234", "1.2.3", "abc", "1e-3", "92233720368547758.08"}) {
+            assertThrows(NumberFormatException.class, () -> Money.parse(amount));
+        }
+    }
+
+    @Test
+    public void testOfBigDecimal() {
+        assertEquals(1250, Money.of(new BigDecimal("12.5")).getCents());
+        assertEquals(150, Money.of(new BigDecimal("1.500")).getCents());
+        assertEquals(150, Money.parse("1.500").getCents());
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1.001")));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1e20")));
+    }
+
+    @Test
+    public void testArithmetic() {
+        Money money = Money.ofCents(150);
+        assertEquals(Money.ofCents(200), money.add(Money.ofCents(50)));
+        assertEquals(Money.ofCents(-50), money.subtract(Money.ofCents(200)));
+        assertEquals(Money.ofCents(-150), money.negate());
+        assertEquals(-1, money.negate().signum());
+        assertEquals(Money.ZERO, money.subtract(money));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE).add(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MIN_VALUE).negate());
+    }
+}
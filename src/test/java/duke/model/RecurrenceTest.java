@@ -0,0 +1,100 @@
+package duke.model;
+
+import duke.exception.DukeException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RecurrenceTest {
+
+    @Test
+    public void testParse() throws DukeException {
+        assertEquals(Recurrence.MONTHLY, Recurrence.parse("month"));
+        assertEquals(Recurrence.every(Recurrence.Unit.WEEK, 2), Recurrence.parse(" 2 Weeks "));
+        assertEquals(Recurrence.every(Recurrence.Unit.YEAR, 1).until(LocalDate.of(2020, 12, 31)),
+                Recurrence.parse("1 year until 31/12/2020"));
+        for (Recurrence.Unit unit : Recurrence.Unit.values()) {
+            Recurrence recurrence = Recurrence.every(unit, 3).until(LocalDate.of(2021, 2, 28));
+            assertEquals(recurrence, Recurrence.parse(recurrence.toString()));
+        }
+    }
+
+    @Test
+    public void testParseInvalid() {
+        for (String recurrence : new String[] {"", "2", "0 days", "fortnight", "month until", "month to 01/01/2020",
+            "week until 2020"}) {
+            assertThrows(DukeException.class, () -> Recurrence.parse(recurrence));
+        }
+    }
+
+    @Test
+    public void testMonthEnds() throws DukeException {
+        LocalDate start = LocalDate.of(2020, 1, 31);
+        assertEquals(List.of(LocalDate.of(2020, 1, 31), LocalDate.of(2020, 2, 29), LocalDate.of(2020, 3, 31),
+                LocalDate.of(2020, 4, 30)), Recurrence.MONTHLY.occurrences(start,
+                LocalDate.MIN.toEpochDay(), LocalDate.of(2020, 5, 30).toEpochDay()));
+        assertEquals(0, Recurrence.MONTHLY.count(start, LocalDate.of(2020, 2, 1).toEpochDay(),
+                LocalDate.of(2020, 2, 28).toEpochDay()));
+        assertEquals(1, Recurrence.parse("year").count(LocalDate.of(2020, 2, 29),
+                LocalDate.of(2021, 2, 28).toEpochDay(), LocalDate.of(2021, 2, 28).toEpochDay()));
+    }
+
+    @Test
+    public void testCountMatchesSteppedOccurrences() throws DukeException {
+        LocalDate start = LocalDate.of(2019, 8, 30);
+        LocalDate end = LocalDate.of(2021, 3, 1);
+        for (Recurrence.Unit unit : Recurrence.Unit.values()) {
+            for (int interval = 1; interval <= 3; interval++) {
+                Recurrence recurrence = Recurrence.every(unit, interval).until(end);
+                List<Long> steppedDays = new ArrayList<>();
+                for (int index = 0; ; index++) {
+                    LocalDate occurrence = step(start, unit, (long) index * interval);
+                    if (occurrence.isAfter(end)) {
+                        break;
+                    }
+                    steppedDays.add(occurrence.toEpochDay());
+                }
+                for (long fromDay = start.toEpochDay() - 40; fromDay < end.toEpochDay() + 40; fromDay += 37) {
+                    for (long toDay = fromDay - 1; toDay < fromDay + 800; toDay += 29) {
+                        long from = fromDay;
+                        long to = toDay;
+                        long expected = steppedDays.stream().filter(day -> day >= from && day <= to).count();
+                        assertEquals(expected, recurrence.count(start, fromDay, toDay), recurrence + " " + from);
+                        assertEquals(expected, recurrence.occurrences(start, fromDay, toDay).size());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testExpenseOccurrences() throws DukeException {
+        Expense.Builder builder = new Expense.Builder().setTime("10:00 15/01/2020");
+        long january = LocalDate.of(2020, 1, 1).toEpochDay();
+        long december = LocalDate.of(2020, 12, 31).toEpochDay();
+        assertEquals(1, builder.build().countOccurrences(january, december));
+        assertEquals(12, builder.setRecurring(true).build().countOccurrences(january, december));
+        assertEquals(26, builder.setRecurrence(Recurrence.parse("2 weeks")).build()
+                .countOccurrences(january, december));
+        assertEquals(Recurrence.parse("2 weeks"), builder.setRecurring(true).build().getRecurrence());
+        assertEquals(0, builder.setRecurring(false).build().countOccurrences(january + 15, december));
+    }
+
+    private static LocalDate step(LocalDate start, Recurrence.Unit unit, long count) {
+        switch (unit) {
+        case DAY:
+            return start.plusDays(count);
+        case WEEK:
+            return start.plusWeeks(count);
+        case MONTH:
+            return start.plusMonths(count);
+        default:
+            return start.plusYears(count);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package duke.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TagDictionaryTest {
+
+    @Test
+    public void testIdsAreStable() {
+        assertEquals(TagDictionary.EMPTY_SET_ID, TagDictionary.setIdOf(""));
+        int food = TagDictionary.idOf("FOOD");
+        assertEquals(food, TagDictionary.idOf(new String("FOOD")));
+        assertNotEquals(food, TagDictionary.idOf("SEAFOOD"));
+        assertEquals("FOOD", TagDictionary.tagOf(food));
+        assertTrue(food < TagDictionary.size());
+    }
+
+    @Test
+    public void testSetsAreCanonical() {
+        int setId = TagDictionary.setIdOf("CANONFOOD  CANONDRINKS CANONFOOD");
+        assertEquals(setId, TagDictionary.setIdOf("CANONFOOD CANONDRINKS"));
+        assertEquals(setId, TagDictionary.setIdOf(" CANONDRINKS CANONFOOD"));
+        assertNotEquals(setId, TagDictionary.setIdOf("CANONDRINKS"));
+        assertEquals("CANONFOOD CANONDRINKS", TagDictionary.tagsOf(setId));
+        int food = TagDictionary.idOf("CANONFOOD");
+        int drinks = TagDictionary.idOf("CANONDRINKS");
+        assertArrayEquals(new int[] {Math.min(food, drinks), Math.max(food, drinks)},
+                TagDictionary.tagIdsOf(setId));
+        assertTrue(TagDictionary.hasTag(setId, drinks));
+        assertFalse(TagDictionary.hasTag(setId, TagDictionary.idOf("SEAFOOD")));
+        assertTrue(setId < TagDictionary.setCount());
+    }
+
+    @Test
+    public void testItemsCarryTagSetIds() {
+        Expense expense = new Expense.Builder().setTag("DRINKS  FOOD").build();
+        assertEquals(TagDictionary.setIdOf("DRINKS FOOD"), expense.getTagSetId());
+        assertEquals("DRINKS FOOD", expense.getTag());
+        assertTrue(expense.hasTag("FOOD"));
+        assertFalse(expense.hasTag("SEAFOOD"));
+        int tagCount = TagDictionary.size();
+        assertFalse(expense.hasTag("HASTAGNEVERSEEN"));
+        assertEquals(tagCount, TagDictionary.size());
+        assertEquals(TagDictionary.UNKNOWN_ID, TagDictionary.findIdOf("HASTAGNEVERSEEN"));
+        assertEquals(TagDictionary.EMPTY_SET_ID, new Expense.Builder().build().getTagSetId());
+        assertEquals(expense.getTagSetId(),
+                new Expense.Builder().setTagSetId(expense.getTagSetId()).build().getTagSetId());
+        assertThrows(IllegalArgumentException.class, () -> new Expense.Builder().setTagSetId(-1));
+    }
+
+    @Test
+    public void testDescriptionsShared() {
+        Expense first = new Expense.Builder().setDescription(new String("chicken rice")).build();
+        Expense second = new Expense.Builder().setDescription(new String("chicken rice")).build();
+        assertSame(first.getDescription(), second.getDescription());
+    }
+}
@@ -0,0 +1,52 @@
+package duke.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TextIndexTest {
+
+    @Test
+    public void testFind() {
+        TextIndex<String[]> index = new TextIndex<>(fields -> fields);
+        String[] rice = {"Chicken Rice", "FOOD"};
+        String[] price = {"Price check", null};
+        String[] taxi = {"Taxi home", "TRANSPORT"};
+        index.reset(Arrays.asList(rice, price, taxi));
+
+        assertEquals(new HashSet<>(Arrays.asList(rice, price)), index.find("RICE"));
+        assertEquals(Collections.singleton(rice), index.find("en ri"));
+        assertEquals(Collections.singleton(taxi), index.find("port"));
+        assertEquals(Collections.singleton(taxi), index.find("i h"));
+        assertEquals(Collections.emptySet(), index.find("rice home"));
+        assertEquals(3, index.find("").size());
+        assertTrue(index.matches(price, "CHECK"));
+        assertFalse(index.matches(taxi, "food"));
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        TextIndex<String[]> index = new TextIndex<>(fields -> fields);
+        String[] rice = {"Chicken Rice"};
+        index.add(rice);
+        index.add(rice);
+        index.remove(rice);
+        assertEquals(Collections.singleton(rice), index.find("chicken"));
+        index.remove(rice);
+        assertEquals(Collections.emptySet(), index.find("chicken"));
+        assertFalse(index.matches(rice, "chicken"));
+
+        String[] equalRice = {"Chicken Rice"};
+        index.add(rice);
+        index.add(equalRice);
+        index.remove(rice);
+        assertEquals(1, index.find("rice").size());
+        assertTrue(index.matches(equalRice, "rice"));
+    }
+}
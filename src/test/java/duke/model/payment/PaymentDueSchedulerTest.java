@@ -0,0 +1,61 @@
+package duke.model.payment;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PaymentDueSchedulerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Singapore");
+    private static final LocalDate WEDNESDAY = LocalDate.of(2019, 11, 27);
+
+    private final PaymentDueScheduler scheduler =
+            new PaymentDueScheduler(Clock.fixed(WEDNESDAY.atStartOfDay(ZONE).toInstant(), ZONE));
+
+    @Test
+    public void delayUntilNextDay_beforeMidnight_untilMidnight() {
+        ZonedDateTime now = ZonedDateTime.of(LocalDateTime.of(2019, 11, 27, 23, 59, 30), ZONE);
+        assertEquals(Duration.ofSeconds(30), PaymentDueScheduler.delayUntilNextDay(now));
+    }
+
+    @Test
+    public void delayUntilNextDay_atMidnight_wholeDay() {
+        ZonedDateTime now = WEDNESDAY.atStartOfDay(ZONE);
+        assertEquals(Duration.ofDays(1), PaymentDueScheduler.delayUntilNextDay(now));
+    }
+
+    @Test
+    public void advanceTo_newDay_listenersToldOfBothCalendars() {
+        List<LocalDate> days = new ArrayList<>();
+        scheduler.addListener((oldCalendar, newCalendar) -> {
+            days.add(oldCalendar.getToday());
+            days.add(newCalendar.getToday());
+        });
+
+        scheduler.advanceTo(WEDNESDAY);
+        assertTrue(days.isEmpty());
+
+        scheduler.advanceTo(WEDNESDAY.plusDays(1));
+        assertEquals(List.of(WEDNESDAY, WEDNESDAY.plusDays(1)), days);
+        assertEquals(WEDNESDAY.plusDays(1), scheduler.getToday());
+    }
+
+    @Test
+    public void scopesOf_wednesday_boundsOfWeekAndMonth() {
+        DueCalendar calendar = scheduler.getCalendar();
+        assertEquals(DueCalendar.OVERDUE, calendar.scopesOf(WEDNESDAY.minusDays(1)));
+        assertEquals(DueCalendar.IN_WEEK | DueCalendar.IN_MONTH, calendar.scopesOf(WEDNESDAY));
+        assertEquals(DueCalendar.IN_WEEK, calendar.scopesOf(LocalDate.of(2019, 12, 1)));
+        assertEquals(0, calendar.scopesOf(LocalDate.of(2019, 12, 2)));
+    }
+}
@@ -2,10 +2,18 @@ package duke.model.payment;
 
 import duke.exception.DukeException;
 import duke.model.payment.Payment.Builder;
+import javafx.collections.ListChangeListener;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -136,6 +144,27 @@ public class PaymentListIntegrationTest {
                 payments.asUnmodifiableFilteredList());
     }
 
+    @Test
+    public void searchPredicate_paymentsChanged_resultsUpdated() throws DukeException {
+        fillFullPayments();
+        payments.setSearchPredicate("FEE");
+        assertEquals(4, payments.asUnmodifiableFilteredList().size());
+
+        Payment bookFee = new Builder().setDescription("Book").setReceiver("Library fees office").build();
+        payments.add(bookFee);
+        payments.add(new Builder().setDescription("Bus").setTag("TRANSPORT").build());
+        assertEquals(5, payments.asUnmodifiableFilteredList().size());
+        assertTrue(payments.asUnmodifiableFilteredList().contains(bookFee));
+
+        payments.remove(payments.asUnmodifiableFilteredList().indexOf(bookFee) + 1);
+        assertEquals(4, payments.asUnmodifiableFilteredList().size());
+
+        payments.setPayments(Arrays.asList(RETURN_MONEY, HOSTEL_FEE));
+        assertEquals(1, payments.asUnmodifiableFilteredList().size());
+        payments.setSearchPredicate("_pres");
+        assertEquals(HOSTEL_FEE, payments.asUnmodifiableFilteredList().get(0));
+    }
+
     @Test
     public void setSortingCriteria_nullSortingCriteria_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> payments.setSortingCriteria(null));
@@ -170,12 +199,108 @@ public class PaymentListIntegrationTest {
         }
     }
 
+    @Test
+    public void add_sortedByAmount_insertedInOrderWithSingleChange() throws DukeException {
+        payments.setSortingCriteria(AMOUNT_SORTING_CRITERIA);
+        List<String> changes = recordChanges();
+
+        fillFullPayments();
+        assertEquals(Collections.nCopies(PAYMENTS_FULL_SIZE, "added"), changes);
+        assertEquals(Arrays.asList(HALL_MEAL, HOSTEL_FEE, STORAGE_FEE, RETURN_MONEY, ORIENTATION_FEE),
+                payments.getInternalList());
+
+        changes.clear();
+        payments.setSortingCriteria(AMOUNT_SORTING_CRITERIA);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setSortingCriteria_priority_tiesListedFromNewest() throws DukeException {
+        fillFullPayments();
+        payments.setSortingCriteria(PRIORITY_SORTING_CRITERIA);
+        assertEquals(Arrays.asList(HOSTEL_FEE, RETURN_MONEY, STORAGE_FEE, HALL_MEAL, ORIENTATION_FEE),
+                payments.getInternalList());
+
+        // A new payment goes before the payments of the same priority, which keep their order.
+        Payment bookFee = new Builder().setDescription("Book Fee").setDue("01/12/2019")
+                .setAmount("36").setPriority("medium").build();
+        payments.add(bookFee);
+        assertEquals(Arrays.asList(HOSTEL_FEE, bookFee, RETURN_MONEY, STORAGE_FEE, HALL_MEAL, ORIENTATION_FEE),
+                payments.getInternalList());
+    }
+
+    @Test
+    public void setPayment_stillInOrder_replacedInPlace() throws DukeException {
+        fillFullPayments();
+        List<String> changes = recordChanges();
+
+        Payment editedFee = new Builder(ORIENTATION_FEE).setAmount("40").build();
+        payments.setPayment(2, editedFee); // 1-based index
+        assertEquals(Collections.singletonList("replaced"), changes);
+        assertEquals(editedFee, payments.getInternalList().get(1));
+
+        Payment movedFee = new Builder(editedFee).setDue("30/11/2019").build();
+        payments.setPayment(2, movedFee);
+        assertEquals(movedFee, payments.getInternalList().get(PAYMENTS_FULL_SIZE - 1));
+        assertEquals(PAYMENTS_FULL_SIZE, payments.getInternalList().size());
+    }
+
+    @Test
+    public void advanceTo_weekPredicate_onlyMovedPaymentsUpdated() throws DukeException {
+        ZoneId zone = ZoneId.systemDefault();
+        Clock wednesday = Clock.fixed(LocalDate.of(2019, 11, 27).atStartOfDay(zone).toInstant(), zone);
+        PaymentDueScheduler scheduler = new PaymentDueScheduler(wednesday);
+        PaymentList weekPayments = new PaymentList(new ArrayList<>(), scheduler);
+        Payment overdue = new Builder().setDue("26/11/2019").build();
+        Payment thursday = new Builder().setDue("28/11/2019").build();
+        Payment saturday = new Builder().setDue("30/11/2019").build();
+        Payment sunday = new Builder().setDue("01/12/2019").build();
+        Payment nextThursday = new Builder().setDue("05/12/2019").build();
+        for (Payment payment : Arrays.asList(nextThursday, overdue, sunday, thursday, saturday)) {
+            weekPayments.add(payment);
+        }
+        weekPayments.setTimePredicate(new PaymentInWeekPredicate(scheduler));
+        assertEquals(Arrays.asList(thursday, saturday, sunday), weekPayments.asUnmodifiableFilteredList());
+
+        List<String> changes = new ArrayList<>();
+        weekPayments.asUnmodifiableFilteredList().addListener((ListChangeListener<Payment>) change -> {
+            while (change.next()) {
+                changes.add(change.wasAdded() ? "added" : "removed");
+            }
+        });
+        scheduler.advanceTo(LocalDate.of(2019, 11, 27));
+        assertTrue(changes.isEmpty());
+
+        scheduler.advanceTo(LocalDate.of(2019, 12, 2));
+        assertEquals(Collections.singletonList(nextThursday), weekPayments.asUnmodifiableFilteredList());
+        assertEquals(4, changes.size());
+    }
+
     @Test
     public void asUnmodifiableFilteredList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> payments.asUnmodifiableFilteredList().remove(0));
         // 0-based
     }
 
+    /**
+     * Returns a list to which a word is added for every change to the filtered list.
+     */
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        payments.asUnmodifiableFilteredList().addListener((ListChangeListener<Payment>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced()) {
+                    changes.add("replaced");
+                } else if (change.wasPermutated()) {
+                    changes.add("permutated");
+                } else {
+                    changes.add(change.wasAdded() ? "added" : "removed");
+                }
+            }
+        });
+        return changes;
+    }
+
     /**
      * Fills the {@code payments} with all five samples.
      */
@@ -0,0 +1,177 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Budget;
+import duke.model.BudgetView;
+import duke.model.ExpenseList;
+import duke.model.IncomeList;
+import duke.model.payment.PaymentList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncStorageTest {
+    /**
+     * A storage keeping nothing, which records the expense lists written to it and can be made to fail.
+     */
+    private static class RecordingStorage implements Storage {
+        private int expenseListWrites;
+        private ExpenseList lastExpenseList;
+        private int flushes;
+        private boolean isFailing;
+
+        @Override
+        public void saveExpenseList(ExpenseList expenseList) throws DukeException {
+            if (isFailing) {
+                throw new DukeException("failed");
+            }
+            expenseListWrites++;
+            lastExpenseList = expenseList;
+        }
+
+        @Override
+        public ExpenseList loadExpenseList() {
+            return new ExpenseList(new ArrayList<>());
+        }
+
+        @Override
+        public void savePlanAttributes(Map<String, String> attributes) {
+        }
+
+        @Override
+        public Map<String, String> loadPlanAttributes() {
+            return new HashMap<>();
+        }
+
+        @Override
+        public void saveIncomeList(IncomeList incomeList) {
+        }
+
+        @Override
+        public IncomeList loadIncomeList() {
+            return new IncomeList(new ArrayList<>());
+        }
+
+        @Override
+        public Budget loadBudget() {
+            return null;
+        }
+
+        @Override
+        public void saveBudget(Budget budget) {
+        }
+
+        @Override
+        public BudgetView loadBudgetView() {
+            return null;
+        }
+
+        @Override
+        public void saveBudgetView(BudgetView budgetView) {
+        }
+
+        @Override
+        public Optional<PaymentList> loadPaymentList() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void savePaymentList(PaymentList paymentList) {
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+
+    @Test
+    public void testSavesCoalesced() throws DukeException {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        Object modelLock = new Object();
+        AsyncStorage storage = new AsyncStorage(recordingStorage, modelLock);
+        ExpenseList latestList = null;
+        synchronized (modelLock) {
+            for (int i = 0; i < 5; i++) {
+                latestList = new ExpenseList(new ArrayList<>());
+                storage.saveExpenseList(latestList);
+            }
+            assertEquals(1, storage.getMetrics().getQueueDepth());
+            storage.flush();
+        }
+        storage.close();
+
+        assertEquals(1, recordingStorage.expenseListWrites);
+        assertSame(latestList, recordingStorage.lastExpenseList);
+        assertEquals(2, recordingStorage.flushes);
+        AsyncStorage.Metrics metrics = storage.getMetrics();
+        assertEquals(5, metrics.getSaves());
+        assertEquals(4, metrics.getCoalescedSaves());
+        assertEquals(1, metrics.getWrites());
+        assertEquals(0, metrics.getQueueDepth());
+    }
+
+    @Test
+    public void testModelUnlockedWhileWriting() throws DukeException, InterruptedException {
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch isDiskDone = new CountDownLatch(1);
+        RecordingStorage recordingStorage = new RecordingStorage() {
+            @Override
+            public StorageWrite prepareSaveExpenseList(ExpenseList expenseList) {
+                return () -> {
+                    isWriting.countDown();
+                    try {
+                        isDiskDone.await();
+                    } catch (InterruptedException e) {
+                        throw new DukeException("interrupted");
+                    }
+                    saveExpenseList(expenseList);
+                };
+            }
+        };
+        Object modelLock = new Object();
+        AsyncStorage storage = new AsyncStorage(recordingStorage, modelLock);
+        synchronized (modelLock) {
+            storage.saveExpenseList(new ExpenseList(new ArrayList<>()));
+        }
+        assertTrue(isWriting.await(10, TimeUnit.SECONDS));
+        synchronized (modelLock) {
+            assertEquals(0, recordingStorage.expenseListWrites);
+        }
+        isDiskDone.countDown();
+        storage.close();
+
+        assertEquals(1, recordingStorage.expenseListWrites);
+        assertEquals(0, storage.getMetrics().getQueueDepth());
+    }
+
+    @Test
+    public void testFailedWriteKeptDirty() throws DukeException {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        Object modelLock = new Object();
+        AsyncStorage storage = new AsyncStorage(recordingStorage, modelLock);
+        recordingStorage.isFailing = true;
+        synchronized (modelLock) {
+            storage.saveExpenseList(new ExpenseList(new ArrayList<>()));
+            assertThrows(DukeException.class, storage::flush);
+            assertEquals(1, storage.getMetrics().getQueueDepth());
+
+            recordingStorage.isFailing = false;
+            storage.flush();
+        }
+
+        assertEquals(1, recordingStorage.expenseListWrites);
+        assertEquals(1, storage.getMetrics().getFailedWrites());
+        assertEquals(0, storage.getMetrics().getQueueDepth());
+    }
+}
@@ -0,0 +1,61 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Expense;
+import duke.model.Recurrence;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ExpenseColumnFileTest {
+    @TempDir
+    File userDirectory;
+
+    private static List<String> toStorageStrings(List<Expense> expenses) {
+        return expenses.stream().map(Expense::toStorageString).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testRoundTrip() throws DukeException, IOException {
+        List<Expense> expenses = List.of(
+                new Expense.Builder().setAmount("12.5").setDescription("chicken rice").setTag("FOOD")
+                        .setTime("12:30 01/10/2019").build(),
+                new Expense.Builder().setAmount("1000000").setDescription("Café ☕").setTag("")
+                        .setTime("23:59 31/12/1969").setTentative(true).build(),
+                new Expense.Builder().setAmount("0.05").setDescription("").setTag("FOOD")
+                        .setTime("00:00 09/11/2019").setRecurring(true).build(),
+                new Expense.Builder().setAmount("15.90").setDescription("gym").setTag("SPORT")
+                        .setTime("07:00 02/01/2020").setRecurrence(Recurrence.parse("2 weeks until 30/06/2020"))
+                        .build());
+        Path file = userDirectory.toPath().resolve("expenses.bin");
+        ExpenseColumnFile.write(file, expenses);
+
+        assertEquals(toStorageStrings(expenses), toStorageStrings(ExpenseColumnFile.read(file)));
+    }
+
+    @Test
+    public void testEmptyList() throws IOException {
+        Path file = userDirectory.toPath().resolve("expenses.bin");
+        ExpenseColumnFile.write(file, List.of());
+
+        assertEquals(List.of(), ExpenseColumnFile.read(file));
+    }
+
+    @Test
+    public void testTextFileRejected() throws IOException {
+        Path file = userDirectory.toPath().resolve("expenses.bin");
+        Files.write(file, "tag:FOOD\namount:1.00\n\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> ExpenseColumnFile.read(file));
+    }
+}
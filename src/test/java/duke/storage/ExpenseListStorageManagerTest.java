@@ -0,0 +1,240 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Expense;
+import duke.model.ExpenseList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExpenseListStorageManagerTest {
+    @TempDir
+    File userDirectory;
+
+    private static Expense buildExpense(String amount, String description) throws DukeException {
+        return new Expense.Builder()
+                .setAmount(amount)
+                .setDescription(description)
+                .setTag("FOOD")
+                .setTime("18:00 09/11/2019")
+                .build();
+    }
+
+    /**
+     * Returns the storage strings of every expense of the list, loading the archived ones first.
+     */
+    private static List<String> toSortedStorageStrings(ExpenseList expenseList) throws DukeException {
+        expenseList.setViewScope("all", 0);
+        return expenseList.getInternalList().stream()
+                .map(Expense::toStorageString)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testJournalReplay() throws DukeException {
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE);
+        ExpenseList expenseList = storage.loadExpenseList();
+        expenseList.setViewScope("all", 0);
+        expenseList.add(buildExpense("1", "one"));
+        expenseList.add(buildExpense("2", "two"));
+        storage.saveExpenseList(expenseList);
+        expenseList.remove(1);
+        expenseList.add(buildExpense("3", "three"));
+        storage.saveExpenseList(expenseList);
+
+        assertFalse(new File(userDirectory, "expenses/2019-11.bin").exists());
+        ExpenseList loadedList = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).loadExpenseList();
+        assertEquals(toSortedStorageStrings(expenseList), toSortedStorageStrings(loadedList));
+    }
+
+    @Test
+    public void testClearReplay() throws DukeException {
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE);
+        ExpenseList expenseList = storage.loadExpenseList();
+        expenseList.add(buildExpense("1", "one"));
+        expenseList.clear();
+        expenseList.add(buildExpense("2", "two"));
+        storage.saveExpenseList(expenseList);
+
+        ExpenseList loadedList = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).loadExpenseList();
+        assertEquals(toSortedStorageStrings(expenseList), toSortedStorageStrings(loadedList));
+    }
+
+    @Test
+    public void testCompaction() throws DukeException {
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, 1);
+        ExpenseList expenseList = storage.loadExpenseList();
+        for (int i = 0; i < 10; i++) {
+            expenseList.add(buildExpense(String.valueOf(i), "expense " + i));
+            storage.saveExpenseList(expenseList);
+        }
+        storage.awaitCompaction();
+
+        assertTrue(new File(userDirectory, "expenses/2019-11.bin").length() > 0);
+        assertFalse(new File(userDirectory, "expenses/journal.compacting").exists());
+        ExpenseList loadedList = new ExpenseListStorageManager(userDirectory, 1).loadExpenseList();
+        assertEquals(toSortedStorageStrings(expenseList), toSortedStorageStrings(loadedList));
+    }
+
+    @Test
+    public void testTornRecordIgnored() throws DukeException, IOException {
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE);
+        ExpenseList expenseList = storage.loadExpenseList();
+        expenseList.add(buildExpense("1", "one"));
+        storage.saveExpenseList(expenseList);
+        storage.flush();
+        Files.write(new File(userDirectory, "expenses/journal").toPath(),
+                "op:add\ntag:FOOD\namount:2.00".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        ExpenseList loadedList = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).loadExpenseList();
+        assertEquals(toSortedStorageStrings(expenseList), toSortedStorageStrings(loadedList));
+    }
+
+    @Test
+    public void testUntrackedListRewritten() throws DukeException {
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE);
+        ExpenseList expenseList = new ExpenseList(new ArrayList<>());
+        expenseList.add(buildExpense("1", "one"));
+        storage.saveExpenseList(expenseList);
+
+        assertTrue(expenseList.isTrackingChanges());
+        ExpenseList loadedList = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).loadExpenseList();
+        assertEquals(toSortedStorageStrings(expenseList), toSortedStorageStrings(loadedList));
+    }
+
+    @Test
+    public void testLegacySnapshotMigrated() throws DukeException, IOException {
+        Expense kept = buildExpense("1.50", "kept");
+        Expense removed = buildExpense("2", "removed");
+        Files.write(new File(userDirectory, "expenses.txt").toPath(),
+                (kept.toStorageString() + "\n\n" + removed.toStorageString() + "\n\n")
+                        .getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(userDirectory, "expenses.journal").toPath(),
+                ("op:remove\n" + removed.toStorageString() + "\n\n").getBytes(StandardCharsets.UTF_8));
+
+        ExpenseList loadedList = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).loadExpenseList();
+        assertEquals(List.of(kept.toStorageString()), toSortedStorageStrings(loadedList));
+        assertTrue(new File(userDirectory, "expenses/manifest").exists());
+        assertTrue(new File(userDirectory, "expenses/2019-11.bin").exists());
+        assertFalse(new File(userDirectory, "expenses.txt").exists());
+        assertFalse(new File(userDirectory, "expenses.journal").exists());
+
+        ExpenseList reloadedList = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).loadExpenseList();
+        assertEquals(toSortedStorageStrings(loadedList), toSortedStorageStrings(reloadedList));
+    }
+
+    @Test
+    public void testArchivedPartitionsLoadedOnDemand() throws DukeException {
+        Expense current = new Expense.Builder(buildExpense("10", "this month")).setTime(LocalDateTime.now()).build();
+        Expense tentative = new Expense.Builder(buildExpense("4", "tentative")).setTentative(true).build();
+        ExpenseList expenseList = new ExpenseList(new ArrayList<>());
+        expenseList.add(current);
+        expenseList.add(buildExpense("1.50", "archived"));
+        expenseList.add(tentative);
+        new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).saveExpenseList(expenseList);
+
+        ExpenseList loadedList = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).loadExpenseList();
+        assertEquals(List.of(current.toStorageString()), loadedList.getInternalList().stream()
+                .map(Expense::toStorageString)
+                .collect(Collectors.toList()));
+        assertEquals(new BigDecimal("11.50"), loadedList.getTotalAmount());
+        assertEquals(new BigDecimal("4.00"), loadedList.getTentativeAmount());
+        assertFalse(loadedList.isEmpty());
+
+        assertEquals(toSortedStorageStrings(expenseList), toSortedStorageStrings(loadedList));
+        assertEquals(new BigDecimal("11.50"), loadedList.getTotalAmount());
+    }
+
+    @Test
+    public void testLoadedListViewsCurrentMonth() throws DukeException {
+        ExpenseList expenseList = new ExpenseList(new ArrayList<>());
+        assertEquals(ExpenseList.ViewScopeName.ALL, expenseList.getViewScope().getViewScopeName());
+        expenseList.add(buildExpense("1", "archived"));
+        new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).saveExpenseList(expenseList);
+
+        // Only the current month is loaded at startup, so the list views it until asked for more.
+        ExpenseList loadedList = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).loadExpenseList();
+        assertEquals(ExpenseList.ViewScopeName.MONTH, loadedList.getViewScope().getViewScopeName());
+        assertEquals("month", loadedList.getViewScope().toString());
+        assertEquals("Viewscope: MONTH", loadedList.getViewString().get());
+        assertEquals(0, loadedList.getExternalList().size());
+
+        loadedList.setViewScope("month", 2);
+        assertEquals("month /previous 2", loadedList.getViewScope().toString());
+    }
+
+    @Test
+    public void testJournalOfArchivedPartitionReplayed() throws DukeException {
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE);
+        ExpenseList expenseList = storage.loadExpenseList();
+        expenseList.add(buildExpense("1", "one"));
+        expenseList.add(buildExpense("2", "two"));
+        storage.saveExpenseList(expenseList);
+
+        ExpenseList loadedList = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).loadExpenseList();
+        assertEquals(0, loadedList.internalSize());
+        assertEquals(new BigDecimal("3.00"), loadedList.getTotalAmount());
+
+        loadedList.add(buildExpense("3", "three"));
+        assertEquals(3, loadedList.internalSize());
+    }
+
+    @Test
+    public void testClearDeletesArchivedPartitions() throws DukeException {
+        ExpenseList expenseList = new ExpenseList(new ArrayList<>());
+        expenseList.add(buildExpense("1", "one"));
+        new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).saveExpenseList(expenseList);
+
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE);
+        ExpenseList loadedList = storage.loadExpenseList();
+        loadedList.clear();
+        storage.saveExpenseList(loadedList);
+
+        assertFalse(new File(userDirectory, "expenses/2019-11.bin").exists());
+        assertTrue(new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).loadExpenseList().isEmpty());
+    }
+
+    @Test
+    public void testUnreadablePartitionNotRewritten() throws DukeException, IOException {
+        ExpenseList expenseList = new ExpenseList(new ArrayList<>());
+        expenseList.add(buildExpense("1", "one"));
+        new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).saveExpenseList(expenseList);
+        File partitionFile = new File(userDirectory, "expenses/2019-11.bin");
+        byte[] corruptedContent = "not an expense file".getBytes(StandardCharsets.UTF_8);
+        Files.write(partitionFile.toPath(), corruptedContent);
+
+        ExpenseListStorageManager storage = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE);
+        ExpenseList loadedList = storage.loadExpenseList();
+        loadedList.setViewScope("all", 0);
+        assertEquals(0, loadedList.internalSize());
+        loadedList.add(buildExpense("2", "two"));
+        // A save which fails to append to the journal makes the next save rewrite the partitions.
+        File journalFile = new File(userDirectory, "expenses/journal");
+        assertTrue(journalFile.mkdir());
+        assertThrows(DukeException.class, () -> storage.saveExpenseList(loadedList));
+        assertTrue(journalFile.delete());
+        loadedList.add(buildExpense("3", "three"));
+        storage.saveExpenseList(loadedList);
+
+        assertArrayEquals(corruptedContent, Files.readAllBytes(partitionFile.toPath()));
+        ExpenseList reloadedList = new ExpenseListStorageManager(userDirectory, Long.MAX_VALUE).loadExpenseList();
+        assertEquals(new BigDecimal("6.00"), reloadedList.getTotalAmount());
+    }
+}
@@ -0,0 +1,85 @@
+package duke.storage;
+
+import duke.exception.DukeException;
+import duke.model.Expense;
+import duke.model.ExpenseList;
+import duke.model.Income;
+import duke.model.IncomeList;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StorageRecordReaderTest {
+    private static final List<String> EXPENSE_STRINGS = List.of(
+            "tag:FOOD\namount:12.50\ndescription:chicken rice\ntime:12:30 01/10/2019\n"
+                    + "isTentative:false\nisRecurring:false",
+            "tag:\namount:-3\ndescription:refund: café ☕\ntime:00:00 29/02/2020\nisTentative:TRUE\nisRecurring:true",
+            "tag:FOOD\namount:92233720368547758.07\ndescription:\ntime:23:59 31/12/1999",
+            "amount:1e2\ndescription:exponent\ntime:09:05 09/11/2019\nunknown:field");
+
+    private static StorageRecordReader reader(String text, int bufferSize) {
+        return new StorageRecordReader(new StringReader(text), "test", bufferSize);
+    }
+
+    @Test
+    public void testExpensesMatchStorageStringConstructor() throws DukeException, IOException {
+        List<String> expected = new ArrayList<>();
+        for (String storageString : EXPENSE_STRINGS) {
+            expected.add(ExpenseList.itemFromStorageString(storageString).toStorageString());
+        }
+        String text = String.join("\n\n", EXPENSE_STRINGS) + "\n\n";
+
+        for (int bufferSize : new int[] {1, 7, 8192}) {
+            List<String> actual = new ArrayList<>();
+            try (StorageRecordReader reader = reader(text, bufferSize)) {
+                while (reader.nextRecord()) {
+                    actual.add(reader.readExpense().toStorageString());
+                }
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testLastRecordWithoutDelimiter() throws DukeException, IOException {
+        try (StorageRecordReader reader = reader("\n\namount:1\ndescription:a\n\n\n\namount:2\ndescription:b", 4)) {
+            List<Expense> expenses = new ArrayList<>();
+            while (reader.nextRecord()) {
+                expenses.add(reader.readExpense());
+            }
+            assertEquals(2, expenses.size());
+            assertEquals("b", expenses.get(1).getDescription());
+        }
+    }
+
+    @Test
+    public void testIncomes() throws DukeException, IOException {
+        String storageString = "amount:3000.00\ndescription:salary: October";
+        try (StorageRecordReader reader = reader(storageString + "\n\n", 8192)) {
+            reader.nextRecord();
+            Income income = reader.readIncome();
+            assertEquals(IncomeList.itemFromStorageString(storageString).toStorageString(), income.toStorageString());
+        }
+        try (StorageRecordReader reader = reader("amount:3000.00\n\n", 8192)) {
+            reader.nextRecord();
+            assertThrows(DukeException.class, reader::readIncome);
+        }
+    }
+
+    @Test
+    public void testInvalidValues() throws IOException {
+        for (String storageString : List.of("amount:1.234", "amount:12a", "time:25:00 01/01/2019",
+                "tag:FOOD\ntag:BILLS")) {
+            try (StorageRecordReader reader = reader(storageString, 8192)) {
+                reader.nextRecord();
+                assertThrows(DukeException.class, reader::readExpense);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package duke.storage.payment;
+
+import duke.exception.DukeException;
+import duke.model.payment.Payment;
+import duke.model.payment.PaymentList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PaymentListStorageManagerTest {
+
+    // A file as written by the storage before it was streamed.
+    private static final String STORED_PAYMENTS = "{\n"
+            + "  \"payments\" : [ {\n"
+            + "    \"description\" : \"Orientation Fee\",\n"
+            + "    \"receiver\" : \"OSA\",\n"
+            + "    \"due\" : \"09/09/2019\",\n"
+            + "    \"remark\" : \"School Life\",\n"
+            + "    \"amount\" : \"30.50\",\n"
+            + "    \"priority\" : \"High\"\n"
+            + "  }, {\n"
+            + "    \"description\" : \"Phone bill\",\n"
+            + "    \"receiver\" : \"Singtel\",\n"
+            + "    \"due\" : \"15/10/2019\",\n"
+            + "    \"remark\" : \"Bills\",\n"
+            + "    \"amount\" : \"60\",\n"
+            + "    \"priority\" : \"Medium\"\n"
+            + "  } ]\n"
+            + "}";
+
+    @TempDir
+    Path directory;
+
+    private static List<String> describe(PaymentList paymentList) {
+        return paymentList.getInternalList().stream()
+                .map(payment -> String.join("|", payment.getDescription(), payment.getReceiver(),
+                        payment.getDue().toString(), payment.getTag(), payment.getAmount().toString(),
+                        payment.getPriority().toString()))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testReadStoredFile() throws IOException {
+        Path file = directory.resolve("payments.txt");
+        Files.writeString(file, STORED_PAYMENTS);
+
+        PaymentList paymentList = new PaymentListStorageManager(file).readPaymentList().orElseThrow();
+
+        assertEquals(List.of("Orientation Fee|OSA|2019-09-09|School Life|30.50|High",
+                "Phone bill|Singtel|2019-10-15|Bills|60|Medium"), describe(paymentList));
+    }
+
+    @Test
+    public void testSavedFileUnchanged() throws IOException {
+        Path file = directory.resolve("payments.txt");
+        Files.writeString(file, STORED_PAYMENTS);
+        PaymentListStorageManager storage = new PaymentListStorageManager(file);
+
+        storage.savePaymentList(storage.readPaymentList().orElseThrow());
+
+        assertEquals(STORED_PAYMENTS, Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRoundTrip() throws DukeException, IOException {
+        PaymentList paymentList = new PaymentList();
+        paymentList.add(new Payment.Builder()
+                .setDescription("café ☕")
+                .setReceiver("\"Barista\"")
+                .setDue("29/02/2020")
+                .setTag("Food")
+                .setAmount("-0.05")
+                .setPriority("low")
+                .build());
+        PaymentListStorageManager storage = new PaymentListStorageManager(directory.resolve("payments.txt"));
+
+        storage.savePaymentList(paymentList);
+
+        assertEquals(describe(paymentList), describe(storage.readPaymentList().orElseThrow()));
+    }
+
+    @Test
+    public void testInvalidFileReadAsEmpty() throws IOException {
+        Path file = directory.resolve("payments.txt");
+        PaymentListStorageManager storage = new PaymentListStorageManager(file);
+        for (String content : List.of("", "[]", "{\"payments\" : [ {\"description\" : \"a\"} ]}",
+                STORED_PAYMENTS.replace("09/09/2019", "9/9/2019"), STORED_PAYMENTS.replace("High", "Urgent"))) {
+            Files.writeString(file, content);
+            assertTrue(storage.readPaymentList().orElseThrow().getInternalList().isEmpty(), content);
+        }
+    }
+}